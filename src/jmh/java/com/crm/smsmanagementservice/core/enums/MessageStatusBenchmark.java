@@ -0,0 +1,25 @@
+package com.crm.smsmanagementservice.core.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark parses provider status strings, which scans every status per call.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageStatusBenchmark {
+    @Param({"queued", "delivered", "unknown"})
+    private String status;
+
+    @Benchmark
+    public MessageStatus fromString() {
+        return MessageStatus.fromString(status);
+    }
+}
@@ -0,0 +1,213 @@
+package com.crm.smsmanagementservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class drives message creation against a running service at a fixed request rate,
+ * for the service started with the loadtest profile and its stub provider.
+ * Requests are open-loop: they are sent on schedule whether or not earlier ones completed,
+ * so a slow service shows as latency rather than as a lower offered rate.
+ * Callback ingestion and Mongo writes are read from the actuator metrics before and after the run.
+ *
+ * <p>Options, as --name=value: baseUrl, rate (requests per second), duration (ISO-8601 or seconds),
+ * recipients (per request), users, async, drain (time left for callbacks after the last request), output.</p>
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public class LoadGenerator {
+    private static final String STATUS_CALLBACK_URI = "/api/v1/provider/callback/message-status";
+    private static final List<String> MONGO_WRITE_COMMANDS = List.of("insert", "update", "delete", "findAndModify");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, AtomicLong> statusCodes = new ConcurrentHashMap<>();
+    private final AtomicLong transportErrors = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadGenerator(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("baseUrl", "http://localhost:8080");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+        new LoadGenerator(options).run();
+    }
+
+    void run() throws Exception {
+        int rate = Integer.parseInt(option("rate", "50"));
+        Duration duration = duration(option("duration", "60"));
+        Duration drain = duration(option("drain", "10"));
+        int recipients = Integer.parseInt(option("recipients", "1"));
+        int users = Integer.parseInt(option("users", "10"));
+        boolean async = Boolean.parseBoolean(option("async", "false"));
+
+        double callbacksBefore = callbackCount();
+        double writesBefore = mongoWriteCount();
+        long requests = rate * duration.toSeconds();
+        System.out.printf("Sending %d requests of %d recipients at %d/s to %s%n", requests, recipients, rate, baseUrl);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch done = new CountDownLatch((int) requests);
+        long started = System.nanoTime();
+        ScheduledFuture<?> ticker = scheduler.scheduleAtFixedRate(() -> {
+            if (sequence.get() >= requests) {
+                return;
+            }
+            long n = sequence.getAndIncrement();
+            send(n, "user-" + (n % users), recipients, async).whenComplete((ignored, error) -> done.countDown());
+        }, 0, TimeUnit.SECONDS.toNanos(1) / rate, TimeUnit.NANOSECONDS);
+        done.await(duration.plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        ticker.cancel(false);
+        scheduler.shutdownNow();
+
+        Thread.sleep(drain.toMillis());
+        double callbacks = callbackCount() - callbacksBefore;
+        double writes = mongoWriteCount() - writesBefore;
+        report(elapsed, recipients, callbacks, writes);
+    }
+
+    private CompletableFuture<Void> send(long n, String userId, int recipients, boolean async) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("userId", userId)
+                .put("from", "+16135550100");
+        ArrayNode items = body.putArray("messageItems");
+        for (int i = 0; i < recipients; i++) {
+            long contact = (n * recipients + i) % 100_000;
+            items.addObject()
+                    .put("contactId", "contact-" + contact)
+                    .put("to", String.format("+1613555%04d", contact % 10_000))
+                    .put("content", "Load test message " + n);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/messages?async=" + async))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        long sent = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        transportErrors.incrementAndGet();
+                    } else {
+                        latencies.add(System.nanoTime() - sent);
+                        statusCodes.computeIfAbsent(response.statusCode(), code -> new AtomicLong()).incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+
+    private void report(double elapsed, int recipients, double callbacks, double writes) throws IOException {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long succeeded = statusCodes.entrySet().stream()
+                .filter(entry -> entry.getKey() / 100 == 2)
+                .mapToLong(entry -> entry.getValue().get())
+                .sum();
+        long messages = succeeded * recipients;
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("elapsedSeconds", elapsed);
+        result.put("requests", sequence.get());
+        result.put("requestsPerSecond", sequence.get() / elapsed);
+        result.put("messagesPerSecond", messages / elapsed);
+        result.put("latencyP50Millis", percentile(sorted, 0.50));
+        result.put("latencyP95Millis", percentile(sorted, 0.95));
+        result.put("latencyP99Millis", percentile(sorted, 0.99));
+        result.put("latencyMaxMillis", percentile(sorted, 1.0));
+        ObjectNode codes = result.putObject("statusCodes");
+        statusCodes.forEach((code, count) -> codes.put(String.valueOf(code), count.get()));
+        result.put("transportErrors", transportErrors.get());
+        result.put("statusCallbacks", callbacks);
+        result.put("statusCallbacksPerSecond", callbacks / elapsed);
+        result.put("mongoWrites", writes);
+        result.put("mongoWritesPerMessage", messages == 0 ? 0 : writes / messages);
+
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(result);
+        System.out.println(json);
+        Path output = Path.of(option("output", "target/loadtest-result.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json);
+    }
+
+    private double callbackCount() {
+        return metric("http.server.requests", "uri:" + STATUS_CALLBACK_URI);
+    }
+
+    private double mongoWriteCount() {
+        return MONGO_WRITE_COMMANDS.stream()
+                .mapToDouble(command -> metric("mongodb.driver.commands", "command:" + command))
+                .sum();
+    }
+
+    /**
+     * This method reads the count of an actuator metric, or 0 if the metric has not been recorded yet.
+     */
+    private double metric(String name, String tag) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name + "?tag=" + tag))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return 0;
+            }
+            for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+                if ("COUNT".equals(measurement.path("statistic").asText())) {
+                    return measurement.path("value").asDouble();
+                }
+            }
+            return 0;
+        } catch (IOException e) {
+            System.err.printf("Failed to read metric %s: %s%n", name, e.getMessage());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static Duration duration(String value) {
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,81 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.message.MessageDTO;
+import com.crm.smsmanagementservice.message.MessageType;
+import com.crm.smsmanagementservice.provider.service.twilio.TwilioMessageWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.rest.api.v2010.account.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark maps provider messages to documents and documents to DTOs.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageMapperBenchmark {
+    private final MessageMapper messageMapper = new MessageMapperImpl();
+    private DomainMessage domainMessage;
+    private MessageDocument document;
+
+    @Setup
+    public void setUp() {
+        domainMessage = new TwilioMessageWrapper(Message.fromJson("""
+                {
+                  "sid": "SM1234567890abcdef1234567890abcdef",
+                  "from": "+15005550006",
+                  "to": "+15005550009",
+                  "body": "Your appointment is confirmed for tomorrow at 10am.",
+                  "status": "sent",
+                  "direction": "outbound-api",
+                  "num_segments": "1",
+                  "price": "-0.00750",
+                  "price_unit": "USD",
+                  "api_version": "2010-04-01",
+                  "date_created": "Sun, 18 Oct 2026 10:15:30 +0000"
+                }
+                """, new ObjectMapper()));
+        document = MessageDocument.builder()
+                .id("msg-1")
+                .resourceId("SM1234567890abcdef1234567890abcdef")
+                .conversationId("conv-1")
+                .userId("user-1")
+                .contactId("contact-1")
+                .to("+15005550009")
+                .from("+15005550006")
+                .content("Your appointment is confirmed for tomorrow at 10am.")
+                .type(MessageType.MMS)
+                .media(Map.of("0", "https://example.com/a.png", "1", "https://example.com/b.png"))
+                .status(MessageStatus.DELIVERED)
+                .direction(MessageDirection.OUTBOUND_API)
+                .price(new BigDecimal("-0.00750"))
+                .currency(Currency.getInstance("USD"))
+                .messageSegmentCount(1)
+                .createdDate(ZonedDateTime.now())
+                .deliveredTime(ZonedDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public MessageDocument toDocument() {
+        return messageMapper.toDocument(domainMessage);
+    }
+
+    @Benchmark
+    public MessageDTO toDTO() {
+        return messageMapper.toDTO(document);
+    }
+}
@@ -0,0 +1,129 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.conversation.ConversationInternalAPI;
+import com.crm.smsmanagementservice.core.config.CountEstimateConfig;
+import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.message.MessageDTO;
+import com.crm.smsmanagementservice.message.MessageType;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageMapper;
+import com.crm.smsmanagementservice.message.persistence.MessageMapperImpl;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteRepository;
+import com.crm.smsmanagementservice.provider.service.*;
+import com.crm.smsmanagementservice.provider.service.stub.StubCallbackEmitter;
+import com.crm.smsmanagementservice.provider.service.stub.StubMessagingClient;
+import com.crm.smsmanagementservice.provider.service.stub.StubProviderConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This benchmark creates messages through the message service and the provider fan-out,
+ * against a stub messaging client. The repositories and the conversation module are stubs,
+ * so the result covers the service, dispatch and mapping work without any I/O.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageServiceBenchmark {
+    @Param({"1", "10", "100"})
+    private int recipients;
+
+    private MessageService messageService;
+    private MessageStreamHub messageStreamHub;
+    private List<MessageDTO> messages;
+
+    @Setup
+    public void setUp() {
+        MessageMapper messageMapper = new MessageMapperImpl();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplicationEventPublisher applicationEventPublisher = event -> { };
+        MessageRepository messageRepository = stubMessageRepository();
+        ConversationInternalAPI conversationInternalAPI = mock(ConversationInternalAPI.class, withSettings().stubOnly());
+        when(conversationInternalAPI.findOrCreateConversations(anyString(), anySet())).thenAnswer(invocation -> {
+            Set<String> contactIds = invocation.getArgument(1);
+            return contactIds.stream().collect(Collectors.toMap(contactId -> contactId, contactId -> "conv-" + contactId));
+        });
+
+        StubProviderConfig stubConfig = new StubProviderConfig();
+        stubConfig.setLatencyMedian(Duration.ZERO);
+        stubConfig.setCallbacks(false);
+        MessagingClient messagingClient = new StubMessagingClient(stubConfig, new StubCallbackEmitter(stubConfig));
+        ProviderDispatcher providerDispatcher = new ProviderDispatcher(new ProviderDispatchConfig(), new ProviderResilienceConfig(), meterRegistry);
+        MessageProviderService messageProviderService = new MessageProviderService(messagingClient, applicationEventPublisher,
+                providerDispatcher, new MessageReconciler(messagingClient, providerDispatcher, applicationEventPublisher,
+                new MessageReconcilerConfig()));
+        messageStreamHub = new MessageStreamHub(new MessageStreamConfig(), messageMapper);
+        MessageChangePublisher messageChangePublisher = new MessageChangePublisher(messageRepository, messageStreamHub,
+                conversationInternalAPI, new MessageStatusCache(new MessageStatusCacheConfig(), meterRegistry));
+        messageService = new MessageService(
+                messageMapper,
+                messageRepository,
+                messageProviderService,
+                conversationInternalAPI,
+                new MessageDispatcher(messageRepository, messageMapper, messageProviderService,
+                        new MessageOutboxConfig(), messageChangePublisher),
+                mock(IPhoneNumberValidator.class, withSettings().stubOnly()),
+                new MessageRouter(mock(MessageRouteRepository.class, withSettings().stubOnly()), messageRepository,
+                        new MessageRouteConfig(), meterRegistry),
+                new MessageCounts(new CountEstimateConfig(), meterRegistry),
+                messageStreamHub,
+                messageChangePublisher,
+                new MessageStatusBuffer(messageRepository, new MessageStatusBufferConfig(), messageChangePublisher),
+                new MessageMetrics(meterRegistry));
+
+        messages = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            messages.add(MessageDTO.builder()
+                    .userId("user-1")
+                    .contactId("contact-" + i)
+                    .to("+1500555" + String.format("%04d", i))
+                    .from("+15005550006")
+                    .content("Your appointment is confirmed for tomorrow at 10am.")
+                    .type(MessageType.SMS)
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        messageStreamHub.shutdown();
+    }
+
+    @Benchmark
+    public List<MessageDTO> createMessage() {
+        return messageService.createMessage(messages);
+    }
+
+    private static MessageRepository stubMessageRepository() {
+        AtomicLong ids = new AtomicLong();
+        MessageRepository messageRepository = mock(MessageRepository.class, withSettings().stubOnly());
+        when(messageRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<MessageDocument> documents = invocation.getArgument(0);
+            List<MessageDocument> saved = new ArrayList<>();
+            documents.forEach(document -> {
+                if (document.getId() == null) {
+                    document.setId("msg-" + ids.incrementAndGet());
+                }
+                saved.add(document);
+            });
+            return saved;
+        });
+        when(messageRepository.completeDispatch(any(MessageDocument.class), anyString())).thenReturn(true);
+        return messageRepository;
+    }
+}
@@ -0,0 +1,92 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.provider.service.stub.StubCallbackEmitter;
+import com.crm.smsmanagementservice.provider.service.stub.StubMessagingClient;
+import com.crm.smsmanagementservice.provider.service.stub.StubProviderConfig;
+import com.crm.smsmanagementservice.provider.web.InboundMessageDTO;
+import com.crm.smsmanagementservice.provider.web.MessageStatusUpdateDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark handles provider callbacks up to the published event.
+ * Events are discarded, so only the provider side of the callback is measured.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageProviderServiceBenchmark {
+    private static final int MESSAGE_IDS = 1024;
+
+    @Param({"sent", "delivered"})
+    private String status;
+
+    private MessageProviderService messageProviderService;
+    private ProviderDispatcher providerDispatcher;
+    private MessageStatusUpdateDTO[] statusUpdates;
+    private InboundMessageDTO[] inboundMessages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        StubProviderConfig stubConfig = new StubProviderConfig();
+        stubConfig.setLatencyMedian(Duration.ZERO);
+        stubConfig.setCallbacks(false);
+        MessagingClient messagingClient = new StubMessagingClient(stubConfig, new StubCallbackEmitter(stubConfig));
+        ApplicationEventPublisher applicationEventPublisher = event -> { };
+        providerDispatcher = new ProviderDispatcher(new ProviderDispatchConfig(), new ProviderResilienceConfig(), new SimpleMeterRegistry());
+        MessageReconcilerConfig reconcilerConfig = new MessageReconcilerConfig();
+        reconcilerConfig.setMaxPending(MESSAGE_IDS * 2);
+        MessageReconciler messageReconciler = new MessageReconciler(messagingClient, providerDispatcher,
+                applicationEventPublisher, reconcilerConfig);
+        messageProviderService = new MessageProviderService(messagingClient, applicationEventPublisher,
+                providerDispatcher, messageReconciler);
+
+        statusUpdates = new MessageStatusUpdateDTO[MESSAGE_IDS];
+        inboundMessages = new InboundMessageDTO[MESSAGE_IDS];
+        for (int i = 0; i < MESSAGE_IDS; i++) {
+            statusUpdates[i] = MessageStatusUpdateDTO.builder()
+                    .messageId("SM" + i)
+                    .messageStatus(status)
+                    .accountId("AC1")
+                    .serviceId("MG1")
+                    .build();
+            inboundMessages[i] = InboundMessageDTO.builder()
+                    .messageId("SMIN" + i)
+                    .messageStatus("received")
+                    .apiVersion("2010-04-01")
+                    .to("+15005550006")
+                    .from("+15005550009")
+                    .body("Yes, see you tomorrow.")
+                    .segments("1")
+                    .mediaLength("0")
+                    .sortedMediaTypes(Set.of())
+                    .sortedMediaUrls(Set.of())
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        providerDispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void handleStatusUpdate() {
+        messageProviderService.handleIncomingMessageStatusUpdate(statusUpdates[next++ & (MESSAGE_IDS - 1)]);
+    }
+
+    @Benchmark
+    public void handleInbound() {
+        messageProviderService.handleIncomingMessage(inboundMessages[next++ & (MESSAGE_IDS - 1)]);
+    }
+}
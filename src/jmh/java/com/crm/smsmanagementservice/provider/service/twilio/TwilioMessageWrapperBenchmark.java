@@ -0,0 +1,84 @@
+package com.crm.smsmanagementservice.provider.service.twilio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.rest.api.v2010.account.Message;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark reads every accessor of a Twilio message wrapper, as the mapper does,
+ * to follow the per-call Optional and BigDecimal allocations.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TwilioMessageWrapperBenchmark {
+    static final String MESSAGE_JSON = """
+            {
+              "sid": "SM1234567890abcdef1234567890abcdef",
+              "account_sid": "AC1234567890abcdef1234567890abcdef",
+              "messaging_service_sid": "MG1234567890abcdef1234567890abcdef",
+              "api_version": "2010-04-01",
+              "from": "+15005550006",
+              "to": "+15005550009",
+              "body": "Your appointment is confirmed for tomorrow at 10am.",
+              "status": "sent",
+              "direction": "outbound-api",
+              "num_segments": "1",
+              "num_media": "0",
+              "price": "-0.00750",
+              "price_unit": "USD",
+              "error_code": null,
+              "error_message": null,
+              "date_created": "Sun, 18 Oct 2026 10:15:30 +0000",
+              "date_updated": "Sun, 18 Oct 2026 10:15:31 +0000",
+              "date_sent": "Sun, 18 Oct 2026 10:15:31 +0000",
+              "uri": "/2010-04-01/Accounts/AC1234567890abcdef1234567890abcdef/Messages/SM1234567890abcdef1234567890abcdef.json",
+              "subresource_uris": {
+                "media": "/2010-04-01/Accounts/AC1234567890abcdef1234567890abcdef/Messages/SM1234567890abcdef1234567890abcdef/Media.json"
+              }
+            }
+            """;
+
+    private TwilioMessageWrapper wrapper;
+
+    @Setup
+    public void setUp() {
+        wrapper = new TwilioMessageWrapper(Message.fromJson(MESSAGE_JSON, new ObjectMapper()));
+    }
+
+    @Benchmark
+    public void readAll(Blackhole blackhole) {
+        blackhole.consume(wrapper.getId());
+        blackhole.consume(wrapper.getSender());
+        blackhole.consume(wrapper.getRecipient());
+        blackhole.consume(wrapper.getMessageContent());
+        blackhole.consume(wrapper.getPrice());
+        blackhole.consume(wrapper.getCurrency());
+        blackhole.consume(wrapper.getStatus());
+        blackhole.consume(wrapper.getDirection());
+        blackhole.consume(wrapper.getApiVersion());
+        blackhole.consume(wrapper.getServiceSid());
+        blackhole.consume(wrapper.getErrorCode());
+        blackhole.consume(wrapper.getErrorMessage());
+        blackhole.consume(wrapper.getSegmentCount());
+        blackhole.consume(wrapper.getMediaUrls());
+        blackhole.consume(wrapper.getDeliveredTime());
+    }
+
+    @Benchmark
+    public Object getPrice() {
+        return wrapper.getPrice();
+    }
+
+    @Benchmark
+    public Object getSender() {
+        return wrapper.getSender();
+    }
+}
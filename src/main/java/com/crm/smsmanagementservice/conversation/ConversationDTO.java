@@ -1,5 +1,7 @@
 package com.crm.smsmanagementservice.conversation;
 
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import lombok.Builder;
 
 import java.time.ZonedDateTime;
@@ -17,5 +19,12 @@ public record ConversationDTO(
         String conversationName,
         ConversationStatus status,
         ZonedDateTime createdDate,
-        ZonedDateTime updatedDate
+        ZonedDateTime updatedDate,
+        String lastMessageId,
+        String lastMessagePreview,
+        MessageDirection lastMessageDirection,
+        MessageStatus lastMessageStatus,
+        ZonedDateTime lastMessageTime,
+        Long messageCount,
+        Long unreadCount
 ) {}
@@ -1,7 +1,11 @@
 package com.crm.smsmanagementservice.conversation;
 
-import org.springframework.data.domain.Page;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.enums.CountMode;
+import jakarta.annotation.Nullable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 /**
  * @author : memo-aldu
@@ -11,7 +15,10 @@ import org.springframework.data.domain.Pageable;
 
 public interface ConversationExternalAPI {
     ConversationDTO getConversationById(String id);
-    Page<ConversationDTO> getConversationsByUserId(String userId, Pageable pageable);
+    Slice<ConversationDTO> getConversationsByUserId(String userId, Pageable pageable);
+    CursorPage<ConversationDTO> getConversationsByUserId(String userId, @Nullable String after, int size, Sort.Direction direction);
+    @Nullable Long countConversationsByUserId(String userId, CountMode countMode);
     ConversationDTO createConversation(ConversationDTO conversation);
     ConversationDTO updateConversation(String id, ConversationDTO conversation);
+    ConversationDTO markConversationRead(String id);
 }
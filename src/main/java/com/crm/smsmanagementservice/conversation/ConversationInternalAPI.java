@@ -1,5 +1,12 @@
 package com.crm.smsmanagementservice.conversation;
 
+import com.crm.smsmanagementservice.core.event.UpdateConversationEvent;
+import com.crm.smsmanagementservice.core.event.UpdateConversationStatusEvent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
@@ -7,4 +14,8 @@ package com.crm.smsmanagementservice.conversation;
  */
 
 public interface ConversationInternalAPI {
-    String findOrCreateConversation(String userId, String contactId);}
+    String findOrCreateConversation(String userId, String contactId);
+    Map<String, String> findOrCreateConversations(String userId, Set<String> contactIds);
+    void updateConversationSummary(UpdateConversationEvent event);
+    void updateConversationSummaryStatuses(Collection<UpdateConversationStatusEvent> events);
+}
@@ -3,14 +3,21 @@ package com.crm.smsmanagementservice.conversation.persistence;
 import java.time.ZonedDateTime;
 
 import com.crm.smsmanagementservice.conversation.ConversationStatus;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
+ * A conversation and the summary of its latest message.
+ * The summary and counters are maintained by atomic updates on every message change,
+ * so an inbox renders from the conversation listing alone.
+ *
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
  * @created : 5/18/2024, Saturday
@@ -19,6 +26,9 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Setter
 @Builder @ToString
 @Document(collection = "conversations")
+@CompoundIndex(name = "user_contact", def = "{'userId': 1, 'contactId': 1}", unique = true)
+@CompoundIndex(name = "user_created", def = "{'userId': 1, 'createdDate': -1}")
+@CompoundIndex(name = "user_updated", def = "{'userId': 1, 'updatedDate': -1}")
 public class ConversationDocument {
     @Id
     private String id;
@@ -28,4 +38,11 @@ public class ConversationDocument {
     private ConversationStatus status;
     private ZonedDateTime createdDate;
     private ZonedDateTime updatedDate;
+    private String lastMessageId;
+    private String lastMessagePreview;
+    private MessageDirection lastMessageDirection;
+    private MessageStatus lastMessageStatus;
+    private ZonedDateTime lastMessageTime;
+    private Long messageCount;
+    private Long unreadCount;
 }
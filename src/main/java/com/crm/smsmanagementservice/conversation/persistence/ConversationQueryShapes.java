@@ -0,0 +1,36 @@
+package com.crm.smsmanagementservice.conversation.persistence;
+
+import com.crm.smsmanagementservice.core.config.MongoQueryShape;
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The query shapes of the conversation repository, verified against the indexes of {@link ConversationDocument}.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Configuration
+class ConversationQueryShapes {
+    private static final String COLLECTION = "conversations";
+
+    @Bean
+    MongoQueryShape conversationByParticipant() {
+        return MongoQueryShape.of("conversations.byParticipant", COLLECTION,
+                new Document("userId", "user").append("contactId", "contact"));
+    }
+
+    @Bean
+    MongoQueryShape conversationsByUserId() {
+        return new MongoQueryShape("conversations.byUserId", COLLECTION,
+                new Document("userId", "user"), new Document("createdDate", -1).append("_id", -1));
+    }
+
+    @Bean
+    MongoQueryShape conversationInbox() {
+        return new MongoQueryShape("conversations.inbox", COLLECTION,
+                new Document("userId", "user"), new Document("updatedDate", -1));
+    }
+}
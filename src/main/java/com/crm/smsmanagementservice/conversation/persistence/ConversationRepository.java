@@ -1,10 +1,12 @@
 package com.crm.smsmanagementservice.conversation.persistence;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,7 +15,9 @@ import java.util.Optional;
  * @created : 5/18/2024, Saturday
  */
 @Repository
-public interface ConversationRepository extends MongoRepository<ConversationDocument, String> {
-    Page<ConversationDocument> findAllByUserId (String userId, Pageable pageable);
+public interface ConversationRepository extends MongoRepository<ConversationDocument, String>, ConversationRepositoryCustom {
+    Slice<ConversationDocument> findAllByUserId (String userId, Pageable pageable);
     Optional<ConversationDocument> findByUserIdAndContactId(String userId, String contactId);
+    long countByUserId(String userId);
+    List<ConversationDocument> findAllByUserIdAndContactIdIn(String userId, Collection<String> contactIds);
 }
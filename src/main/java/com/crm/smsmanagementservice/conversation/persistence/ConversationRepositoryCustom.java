@@ -0,0 +1,63 @@
+package com.crm.smsmanagementservice.conversation.persistence;
+
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Sort;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bulk, keyset page and summary operations of the conversation repository.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public interface ConversationRepositoryCustom {
+    /**
+     * This method creates an open conversation for every contact of the user that has none,
+     * in a single bulk write. Existing conversations are left untouched.
+     * @param userId the user id
+     * @param contactIds the contact ids
+     * @param createdDate the creation date of new conversations
+     */
+    void upsertConversations(String userId, Collection<String> contactIds, ZonedDateTime createdDate);
+
+    /**
+     * This method reads a page of a user's conversations, sorted by creation date then id, right after a cursor.
+     * One more conversation than the page size is read, to tell whether a next page exists.
+     * @param userId the user id
+     * @param after the cursor of the previous page, null for the first page
+     * @param direction the direction of the listing
+     * @param size the page size
+     * @return the conversations of the page, and the first conversation of the next page if any
+     */
+    List<ConversationDocument> findPageByUserId(String userId, @Nullable PageCursor after, Sort.Direction direction, int size);
+
+    /**
+     * This method folds new messages into a conversation summary.
+     * The counters are always incremented; the latest message fields are only set when the
+     * message is not older than the stored one, so events applied out of order keep the latest.
+     * @param changes the conversation id, the latest message fields, and the message and unread counts to add
+     */
+    void applyMessages(ConversationDocument changes);
+
+    /**
+     * This method sets the status of the latest message of conversations in a single bulk write.
+     * A conversation is only modified if the message is still its latest
+     * and the status comes later in the message lifecycle.
+     * @param changes the conversation ids, with the message id and its new status
+     * @return the number of conversations modified
+     */
+    int updateLastMessageStatuses(Collection<ConversationDocument> changes);
+
+    /**
+     * This method resets the unread counter of a conversation.
+     * @param conversationId the conversation id
+     * @return the updated conversation, or empty if it does not exist
+     */
+    Optional<ConversationDocument> markRead(String conversationId);
+}
@@ -0,0 +1,98 @@
+package com.crm.smsmanagementservice.conversation.persistence;
+
+import com.crm.smsmanagementservice.conversation.ConversationStatus;
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.util.KeysetPageHelper;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Mongo implementation of the conversation bulk, keyset page and summary operations.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@RequiredArgsConstructor
+class ConversationRepositoryCustomImpl implements ConversationRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void upsertConversations(String userId, Collection<String> contactIds, ZonedDateTime createdDate) {
+        if (contactIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ConversationDocument.class);
+        contactIds.forEach(contactId -> bulkOperations.upsert(
+                Query.query(Criteria.where("userId").is(userId).and("contactId").is(contactId)),
+                new Update()
+                        .setOnInsert("status", ConversationStatus.OPEN)
+                        .setOnInsert("createdDate", createdDate)
+                        .setOnInsert("updatedDate", createdDate)
+                        .setOnInsert("messageCount", 0L)
+                        .setOnInsert("unreadCount", 0L)));
+        bulkOperations.execute();
+    }
+
+    @Override
+    public List<ConversationDocument> findPageByUserId(String userId, @Nullable PageCursor after,
+                                                       Sort.Direction direction, int size) {
+        return mongoTemplate.find(KeysetPageHelper.query(Criteria.where("userId").is(userId), after, direction, size),
+                ConversationDocument.class);
+    }
+
+    @Override
+    public void applyMessages(ConversationDocument changes) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ConversationDocument.class);
+        bulkOperations.updateOne(Query.query(Criteria.where("_id").is(changes.getId())), new Update()
+                .inc("messageCount", Objects.requireNonNullElse(changes.getMessageCount(), 0L))
+                .inc("unreadCount", Objects.requireNonNullElse(changes.getUnreadCount(), 0L))
+                .max("updatedDate", changes.getLastMessageTime()));
+        bulkOperations.updateOne(
+                Query.query(Criteria.where("_id").is(changes.getId())
+                        .and("lastMessageTime").not().gt(changes.getLastMessageTime())),
+                new Update()
+                        .set("lastMessageId", changes.getLastMessageId())
+                        .set("lastMessagePreview", changes.getLastMessagePreview())
+                        .set("lastMessageDirection", changes.getLastMessageDirection())
+                        .set("lastMessageStatus", changes.getLastMessageStatus())
+                        .set("lastMessageTime", changes.getLastMessageTime()));
+        bulkOperations.execute();
+    }
+
+    @Override
+    public int updateLastMessageStatuses(Collection<ConversationDocument> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ConversationDocument.class);
+        changes.forEach(change -> bulkOperations.updateOne(
+                Query.query(Criteria.where("_id").is(change.getId())
+                        .and("lastMessageId").is(change.getLastMessageId())
+                        .and("lastMessageStatus").in(change.getLastMessageStatus().supersededStatuses())),
+                new Update().set("lastMessageStatus", change.getLastMessageStatus())));
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    @Override
+    public Optional<ConversationDocument> markRead(String conversationId) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(conversationId)),
+                new Update().set("unreadCount", 0L),
+                FindAndModifyOptions.options().returnNew(true), ConversationDocument.class));
+    }
+}
@@ -0,0 +1,23 @@
+package com.crm.smsmanagementservice.conversation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the conversation id cache.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "conversation.cache")
+public class ConversationCacheConfig {
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
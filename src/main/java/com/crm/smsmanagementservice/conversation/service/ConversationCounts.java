@@ -0,0 +1,35 @@
+package com.crm.smsmanagementservice.conversation.service;
+
+import com.crm.smsmanagementservice.core.config.CountEstimateConfig;
+import com.crm.smsmanagementservice.core.util.CountEstimator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * This class holds the estimated conversation counts of the user listings,
+ * moved by every conversation created for the user.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component
+public class ConversationCounts {
+    static final String USER_COUNTS = "conversationCountsByUser";
+
+    private final CountEstimator<String> byUser;
+
+    public ConversationCounts(CountEstimateConfig config, MeterRegistry meterRegistry) {
+        this.byUser = new CountEstimator<>(USER_COUNTS, config, meterRegistry);
+    }
+
+    public long estimateByUser(String userId, Function<String, Long> counter) {
+        return byUser.estimate(userId, counter);
+    }
+
+    public void addToUser(String userId, long delta) {
+        byUser.add(userId, delta);
+    }
+}
@@ -0,0 +1,88 @@
+package com.crm.smsmanagementservice.conversation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This class caches the conversation id of a (user, contact) pair.
+ * The pair never moves to another conversation once created, so entries are only
+ * dropped on size or age, or when the conversation is closed.
+ * Hit and miss counts are published as the "conversationIds" cache metrics.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component
+@Slf4j(topic = "CONVERSATION_ID_CACHE")
+public class ConversationIdCache {
+    static final String CACHE_NAME = "conversationIds";
+
+    private final Cache<ConversationKey, String> cache;
+
+    public ConversationIdCache(ConversationCacheConfig cacheConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * This method returns the conversation id of a pair, loading it on a miss.
+     * @param userId the user id
+     * @param contactId the contact id
+     * @param loader resolves the conversation id on a miss
+     * @return the conversation id
+     */
+    public String get(String userId, String contactId, Function<ConversationKey, String> loader) {
+        return cache.get(new ConversationKey(userId, contactId), loader);
+    }
+
+    /**
+     * This method returns the conversation ids of a user's contacts, loading all misses at once.
+     * @param userId the user id
+     * @param contactIds the contact ids
+     * @param loader resolves the conversation ids of the missing contacts, keyed by contact id
+     * @return a map of contact ids to conversation ids
+     */
+    public Map<String, String> getAll(String userId, Set<String> contactIds,
+                                      Function<Set<String>, Map<String, String>> loader) {
+        Set<ConversationKey> keys = contactIds.stream()
+                .map(contactId -> new ConversationKey(userId, contactId))
+                .collect(Collectors.toSet());
+        Map<ConversationKey, String> conversationIds = cache.getAll(keys, missingKeys -> {
+            Set<String> missingContactIds = missingKeys.stream()
+                    .map(ConversationKey::contactId)
+                    .collect(Collectors.toSet());
+            Map<ConversationKey, String> loaded = new HashMap<>();
+            loader.apply(missingContactIds).forEach((contactId, conversationId) ->
+                    loaded.put(new ConversationKey(userId, contactId), conversationId));
+            return loaded;
+        });
+        Map<String, String> result = new HashMap<>();
+        conversationIds.forEach((key, conversationId) -> result.put(key.contactId(), conversationId));
+        return result;
+    }
+
+    /**
+     * This method drops the cached conversation id of a pair.
+     * @param userId the user id
+     * @param contactId the contact id
+     */
+    public void invalidate(String userId, String contactId) {
+        log.info("Invalidating cached conversation of user id: {} and contact id: {}", userId, contactId);
+        cache.invalidate(new ConversationKey(userId, contactId));
+    }
+
+    public record ConversationKey(String userId, String contactId) {}
+}
@@ -2,21 +2,30 @@ package com.crm.smsmanagementservice.conversation.service;
 
 
 import java.time.ZonedDateTime;
-import java.util.Objects;
+import java.util.*;
 
 import com.crm.smsmanagementservice.conversation.ConversationDTO;
 import com.crm.smsmanagementservice.conversation.ConversationExternalAPI;
 import com.crm.smsmanagementservice.conversation.ConversationInternalAPI;
 import com.crm.smsmanagementservice.conversation.ConversationStatus;
 import com.crm.smsmanagementservice.conversation.persistence.*;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import com.crm.smsmanagementservice.core.enums.CountMode;
+import com.crm.smsmanagementservice.core.event.UpdateConversationEvent;
+import com.crm.smsmanagementservice.core.event.UpdateConversationStatusEvent;
 import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.util.KeysetPageHelper;
 import com.crm.smsmanagementservice.message.persistence.MessageDocument;
 import io.micrometer.common.lang.NonNullApi;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 /**
@@ -29,6 +38,8 @@ import org.springframework.stereotype.Service;
 public class ConversationService implements ConversationExternalAPI, ConversationInternalAPI {
     private final ConversationRepository conversationRepository;
     private final ConversationMapper conversationMapper;
+    private final ConversationIdCache conversationIdCache;
+    private final ConversationCounts conversationCounts;
 
     @Override
     public ConversationDTO createConversation(ConversationDTO requestDto) {
@@ -51,9 +62,9 @@ public class ConversationService implements ConversationExternalAPI, Conversatio
     }
 
     @Override
-    public Page<ConversationDTO> getConversationsByUserId(String userId, Pageable pageable) {
+    public Slice<ConversationDTO> getConversationsByUserId(String userId, Pageable pageable) {
         log.info("Fetching conversations by user id: {}", userId);
-        Page<ConversationDocument> conversationDocuments = conversationRepository.findAllByUserId(userId, pageable);
+        Slice<ConversationDocument> conversationDocuments = conversationRepository.findAllByUserId(userId, pageable);
         if (conversationDocuments.hasContent()) {
             log.info("Conversations fetched by user id: {}", userId);
             return conversationDocuments.map(conversationMapper::toDTO);
@@ -62,6 +73,28 @@ public class ConversationService implements ConversationExternalAPI, Conversatio
         return Page.empty();
     }
 
+    @Override
+    public CursorPage<ConversationDTO> getConversationsByUserId(String userId, @Nullable String after, int size,
+                                                                Sort.Direction direction) {
+        log.info("Fetching conversations by user id: {} after: {}", userId, after);
+        PageCursor cursor = after == null ? null : PageCursor.decode(after);
+        List<ConversationDocument> conversationDocuments =
+                conversationRepository.findPageByUserId(userId, cursor, direction, size);
+        return KeysetPageHelper.toPage(conversationDocuments, size,
+                        document -> new PageCursor(document.getCreatedDate(), document.getId()))
+                .map(conversationMapper::toDTO);
+    }
+
+    @Override
+    @Nullable
+    public Long countConversationsByUserId(String userId, CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case EXACT -> conversationRepository.countByUserId(userId);
+            case ESTIMATE -> conversationCounts.estimateByUser(userId, conversationRepository::countByUserId);
+        };
+    }
+
     @Override
     public ConversationDTO updateConversation(String id, ConversationDTO conversation) {
         log.info("Updating conversation with id: {}", id);
@@ -75,24 +108,92 @@ public class ConversationService implements ConversationExternalAPI, Conversatio
 
         if(conversation.status() != null && !conversation.status().equals(conversationDocument.getStatus())){
             conversationDocument.setStatus(conversation.status());
+            if (conversation.status() == ConversationStatus.CLOSED) {
+                conversationIdCache.invalidate(conversationDocument.getUserId(), conversationDocument.getContactId());
+            }
         }
         conversationDocument.setUpdatedDate(ZonedDateTime.now());
         return conversationMapper.toDTO(conversationRepository.save(conversationDocument));
     }
 
+    @Override
+    public ConversationDTO markConversationRead(String id) {
+        log.info("Marking conversation read with id: {}", id);
+        return conversationMapper.toDTO(conversationRepository.markRead(id)
+                .orElseThrow(() -> new DomainException(Error.ENTITY_NOT_FOUND)));
+    }
+
+    @Override
+    public void updateConversationSummary(UpdateConversationEvent event) {
+        log.info("Updating summary of conversation id: {} with {} messages", event.getConversationId(), event.getMessageCount());
+        conversationRepository.applyMessages(ConversationDocument.builder()
+                .id(event.getConversationId())
+                .lastMessageId(event.getMessageId())
+                .lastMessagePreview(event.getMessagePreview())
+                .lastMessageDirection(event.getDirection())
+                .lastMessageStatus(event.getStatus())
+                .lastMessageTime(event.getLastMessageTime())
+                .messageCount((long) event.getMessageCount())
+                .unreadCount((long) event.getUnreadCount())
+                .build());
+    }
+
+    @Override
+    public void updateConversationSummaryStatuses(Collection<UpdateConversationStatusEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        int modified = conversationRepository.updateLastMessageStatuses(events.stream()
+                .map(event -> ConversationDocument.builder()
+                        .id(event.getConversationId())
+                        .lastMessageId(event.getMessageId())
+                        .lastMessageStatus(event.getStatus())
+                        .build())
+                .toList());
+        log.debug("Updated the latest message status of {} of {} conversations", modified, events.size());
+    }
+
     @Override
     public String findOrCreateConversation(String userId, String contactId) {
-        return conversationRepository.findByUserIdAndContactId(userId, contactId).map(ConversationDocument::getId).orElseGet(
-            () -> saveConversation(ConversationDTO.builder().userId(userId).contactId(contactId).build()).getId()
+        return conversationIdCache.get(userId, contactId, key ->
+            conversationRepository.findByUserIdAndContactId(userId, contactId).map(ConversationDocument::getId).orElseGet(
+                () -> saveConversation(ConversationDTO.builder().userId(userId).contactId(contactId).build()).getId()
+            )
         );
     }
 
+    @Override
+    public Map<String, String> findOrCreateConversations(String userId, Set<String> contactIds) {
+        return conversationIdCache.getAll(userId, contactIds, missingContactIds ->
+                loadOrCreateConversations(userId, missingContactIds));
+    }
+
+    private Map<String, String> loadOrCreateConversations(String userId, Set<String> contactIds) {
+        Map<String, String> conversationIds = new HashMap<>();
+        conversationRepository.findAllByUserIdAndContactIdIn(userId, contactIds)
+                .forEach(conversation -> conversationIds.put(conversation.getContactId(), conversation.getId()));
+        Set<String> missingContactIds = new HashSet<>(contactIds);
+        missingContactIds.removeAll(conversationIds.keySet());
+        if (!missingContactIds.isEmpty()) {
+            log.info("Creating {} conversations for user id: {}", missingContactIds.size(), userId);
+            conversationRepository.upsertConversations(userId, missingContactIds, ZonedDateTime.now());
+            conversationCounts.addToUser(userId, missingContactIds.size());
+            conversationRepository.findAllByUserIdAndContactIdIn(userId, missingContactIds)
+                    .forEach(conversation -> conversationIds.put(conversation.getContactId(), conversation.getId()));
+        }
+        return conversationIds;
+    }
+
     private ConversationDocument saveConversation(ConversationDTO conversationDTO) {
         ZonedDateTime createdTime = ZonedDateTime.now();
         ConversationDocument conversationDocument = conversationMapper.toDocument(conversationDTO);
         conversationDocument.setCreatedDate(createdTime);
-        conversationDocument.setCreatedDate(createdTime);
+        conversationDocument.setUpdatedDate(createdTime);
         conversationDocument.setStatus(ConversationStatus.OPEN);
-        return conversationRepository.save(conversationDocument);
+        conversationDocument.setMessageCount(0L);
+        conversationDocument.setUnreadCount(0L);
+        ConversationDocument saved = conversationRepository.save(conversationDocument);
+        conversationCounts.addToUser(saved.getUserId(), 1);
+        return saved;
     }
 }
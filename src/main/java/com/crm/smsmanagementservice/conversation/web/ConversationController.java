@@ -3,9 +3,12 @@ package com.crm.smsmanagementservice.conversation.web;
 
 import com.crm.smsmanagementservice.conversation.ConversationDTO;
 import com.crm.smsmanagementservice.conversation.ConversationExternalAPI;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
 import com.crm.smsmanagementservice.core.dto.DomainAPIResponse;
+import com.crm.smsmanagementservice.core.enums.CountMode;
 import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.util.KeysetPageHelper;
 import com.crm.smsmanagementservice.core.util.PageableHelper;
 import jakarta.validation.Valid;
 import java.net.URI;
@@ -14,8 +17,8 @@ import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -45,29 +48,69 @@ public class ConversationController {
         return ResponseEntity.ok(domainAPIResponse);
     }
 
+    /**
+     * Lists a user's conversations by offset page, or by cursor when cursor=true or after is given:
+     * the first cursor page is read with cursor=true, then pass the returned nextCursor as after.
+     * withCount is false, exact or estimate; cursor pages are not counted unless asked,
+     * offset pages are counted exactly unless asked otherwise.
+     */
     @GetMapping("/user/{id}")
     public ResponseEntity<DomainAPIResponse<List<ConversationDTO>>> getConversationsByParticipant(
             @PathVariable String id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false", required = false) boolean cursor,
             @RequestParam(defaultValue = "0", required = false) int page,
             @RequestParam(defaultValue = "10", required = false) int size,
             @RequestParam(defaultValue = "updatedTime", required = false) String sortBy,
-            @RequestParam(defaultValue = "desc", required = false) String order) {
+            @RequestParam(defaultValue = "desc", required = false) String order,
+            @RequestParam(required = false) String withCount) {
+        if (cursor || after != null) {
+            CountMode countMode = CountMode.fromString(withCount, CountMode.NONE);
+            CursorPage<ConversationDTO> response = conversationService.getConversationsByUserId(
+                    id, after, KeysetPageHelper.pageSize(size), KeysetPageHelper.direction(order));
+            Long total = conversationService.countConversationsByUserId(id, countMode);
+            DomainAPIResponse<List<ConversationDTO>> domainAPIResponse =
+                    com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<List<ConversationDTO>>builder()
+                    .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
+                    .status(HttpStatus.OK)
+                    .data(response.content())
+                    .message("Conversations fetched successfully")
+                    .nextCursor(response.next())
+                    .totalElements(total)
+                    .build();
+            return ResponseEntity.ok(domainAPIResponse);
+        }
+        CountMode countMode = CountMode.fromString(withCount, CountMode.EXACT);
         Pageable pageable = PageableHelper.createPage(page, size, sortBy, order);
-        Page<ConversationDTO> response =
+        Slice<ConversationDTO> response =
                 conversationService.getConversationsByUserId(id, pageable);
+        Long total = conversationService.countConversationsByUserId(id, countMode);
         DomainAPIResponse<List<ConversationDTO>> domainAPIResponse =
                 com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<List<ConversationDTO>>builder()
                 .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
                 .status(HttpStatus.OK)
                 .data(response.getContent())
                 .message("Conversations fetched successfully")
-                .totalElements(response.getTotalElements())
-                .totalPages(response.getTotalPages())
+                .totalElements(total)
+                .totalPages(PageableHelper.totalPages(total, pageable.getPageSize()))
                 .currentPage(response.getNumber())
                 .build();
         return ResponseEntity.ok(domainAPIResponse);
     }
 
+    @PostMapping("/{id}/read")
+    public ResponseEntity<DomainAPIResponse<ConversationDTO>> markConversationRead(@PathVariable String id) {
+        ConversationDTO response = conversationService.markConversationRead(id);
+        DomainAPIResponse<ConversationDTO> domainAPIResponse =
+                com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<ConversationDTO>builder()
+                .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
+                .status(HttpStatus.OK)
+                .data(response)
+                .message("Conversation marked read successfully")
+                .build();
+        return ResponseEntity.ok(domainAPIResponse);
+    }
+
     @PostMapping
     public ResponseEntity<DomainAPIResponse<ConversationDTO>> createConversation(
             @Valid @RequestBody ConversationCreateDTO requestDto) throws URISyntaxException {
@@ -0,0 +1,25 @@
+package com.crm.smsmanagementservice.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the estimated listing counters.
+ * A counter is recounted once it is older than expireAfterWrite,
+ * which bounds how far it drifts on writes made by other instances.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "count-estimate")
+public class CountEstimateConfig {
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
@@ -0,0 +1,60 @@
+package com.crm.smsmanagementservice.core.config;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * This actuator endpoint reports, per mapped collection, how often each index was used since the server started,
+ * along with the indexes that could not be created and the verified query shapes.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Endpoint(id = "mongoindexes")
+public class MongoIndexEndpoint {
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexManager indexManager;
+
+    @ReadOperation
+    public Map<String, Object> indexes() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("usage", usage());
+        report.put("failed", indexManager.getFailedIndexes());
+        report.put("queries", indexManager.getVerifiedShapes());
+        return report;
+    }
+
+    private Map<String, List<IndexUsage>> usage() {
+        Map<String, List<IndexUsage>> usage = new TreeMap<>();
+        for (MongoPersistentEntity<?> entity : mongoTemplate.getConverter().getMappingContext().getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            List<IndexUsage> indexes = new ArrayList<>();
+            mongoTemplate.getCollection(entity.getCollection())
+                    .aggregate(List.of(new Document("$indexStats", new Document())))
+                    .forEach(stats -> {
+                        Document accesses = stats.get("accesses", Document.class);
+                        indexes.add(new IndexUsage(stats.getString("name"), stats.get("key", Document.class).toJson(),
+                                ((Number) accesses.get("ops")).longValue(), accesses.getDate("since")));
+                    });
+            indexes.sort(Comparator.comparing(IndexUsage::name));
+            usage.put(entity.getCollection(), indexes);
+        }
+        return usage;
+    }
+
+    /**
+     * The usage of an index since the server started or the index was created.
+     */
+    public record IndexUsage(String name, String key, long ops, Date since) {}
+}
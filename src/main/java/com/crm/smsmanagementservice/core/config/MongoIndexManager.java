@@ -0,0 +1,128 @@
+package com.crm.smsmanagementservice.core.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class creates the indexes declared on the mapped documents at startup
+ * and checks that every registered {@link MongoQueryShape} is answered by an index.
+ * A failed index creation, for example a unique index over duplicated data, is logged and reported
+ * instead of stopping the application, so it can be fixed while the service keeps running.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Slf4j(topic = "MONGO_INDEX_MANAGER")
+public class MongoIndexManager {
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+    private final List<MongoQueryShape> queryShapes;
+    private final Map<String, String> failedIndexes = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> verifiedShapes = new ConcurrentHashMap<>();
+
+    /**
+     * This method creates the declared indexes, then verifies the query shapes against them.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void initIndexes() {
+        ensureIndexes();
+        verifyQueryShapes();
+    }
+
+    /**
+     * This method creates the indexes declared on every mapped document.
+     * Creating an index that already exists with the same definition is a no-op.
+     */
+    public void ensureIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            IndexOperations indexOperations = mongoTemplate.indexOps(entity.getType());
+            for (IndexDefinition index : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+                String indexKey = entity.getCollection() + "." + index.getIndexKeys().toJson();
+                try {
+                    indexOperations.ensureIndex(index);
+                    failedIndexes.remove(indexKey);
+                } catch (RuntimeException e) {
+                    log.error("Failed to create index {}: {}", indexKey, e.getMessage());
+                    failedIndexes.put(indexKey, e.getMessage());
+                }
+            }
+        }
+        log.info("Ensured indexes of {} documents, {} failed", mappingContext.getPersistentEntities().size(), failedIndexes.size());
+    }
+
+    /**
+     * This method asks the query planner how each query shape would run and warns about collection scans.
+     */
+    public void verifyQueryShapes() {
+        for (MongoQueryShape shape : queryShapes) {
+            try {
+                Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                        new Document("find", shape.collection()).append("filter", shape.filter()).append("sort", shape.sort()))
+                        .append("verbosity", "queryPlanner"));
+                Object winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan");
+                boolean indexed = !containsStage(winningPlan, COLLECTION_SCAN);
+                verifiedShapes.put(shape.name(), indexed);
+                if (!indexed) {
+                    log.warn("Query {} on {} runs a collection scan: filter {} sort {}",
+                            shape.name(), shape.collection(), shape.filter().toJson(), shape.sort().toJson());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to verify query {}: {}", shape.name(), e.getMessage());
+                verifiedShapes.remove(shape.name());
+            }
+        }
+    }
+
+    /**
+     * This method returns the indexes that could not be created.
+     * @return a map of collection and index keys to the error
+     */
+    public Map<String, String> getFailedIndexes() {
+        return Map.copyOf(failedIndexes);
+    }
+
+    /**
+     * This method returns the outcome of the last verification.
+     * @return a map of query names to whether the query is answered by an index
+     */
+    public Map<String, Boolean> getVerifiedShapes() {
+        return new TreeMap<>(verifiedShapes);
+    }
+
+    private boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof Collection<?> plans) {
+            return plans.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.crm.smsmanagementservice.core.config;
+
+import org.bson.Document;
+
+/**
+ * This record describes a query a repository runs, so its index can be verified at startup.
+ * Filter values only need the right type; the planner is asked for its plan, the query is never run.
+ *
+ * @param name the name of the query, as reported by the verification
+ * @param collection the collection the query runs against
+ * @param filter a sample filter of the query
+ * @param sort the sort of the query, empty when unsorted
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public record MongoQueryShape(String name, String collection, Document filter, Document sort) {
+    public static MongoQueryShape of(String name, String collection, Document filter) {
+        return new MongoQueryShape(name, collection, filter, new Document());
+    }
+}
@@ -0,0 +1,36 @@
+package com.crm.smsmanagementservice.core.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * This class is the configuration class for the scheduled tasks.
+ * Scheduled jobs calling the messaging provider (the outbox and the reconciler) run on a scheduler of their own,
+ * one thread each, so a slow or rate limited provider does not hold up the jobs of the default scheduler,
+ * such as the status buffer flush and the outbox lease renewal.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Configuration
+public class SchedulingConfig {
+    public static final String PROVIDER_SCHEDULER = "providerTaskScheduler";
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    @Bean(name = PROVIDER_SCHEDULER)
+    public ThreadPoolTaskScheduler providerTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("provider-scheduling-");
+        return scheduler;
+    }
+}
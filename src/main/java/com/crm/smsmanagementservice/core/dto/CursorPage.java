@@ -0,0 +1,22 @@
+package com.crm.smsmanagementservice.core.dto;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This record is a page of a listing read by cursor.
+ *
+ * @param content the documents of the page
+ * @param next the token of the next page, null on the last page
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public record CursorPage<T>(List<T> content, @Nullable String next) {
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), next);
+    }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+
 /**
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
@@ -27,7 +29,11 @@ public record DomainAPIResponse<T>(
         @JsonProperty("totalPages")
         Integer totalPages,
         @JsonProperty("totalElements")
-        Long totalElements
+        Long totalElements,
+        @JsonProperty("nextCursor")
+        String nextCursor,
+        @JsonProperty("rejected")
+        List<ItemRejection> rejected
 ) {
         public enum DomainAPIResponseStatus {
                 SUCCESS,
@@ -0,0 +1,19 @@
+package com.crm.smsmanagementservice.core.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * This record reports an item of a batch request that was not processed.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public record ItemRejection(
+        @JsonProperty("index")
+        int index,
+        @JsonProperty("value")
+        String value,
+        @JsonProperty("reason")
+        String reason
+) {}
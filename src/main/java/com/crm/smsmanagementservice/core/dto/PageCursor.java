@@ -0,0 +1,54 @@
+package com.crm.smsmanagementservice.core.dto;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * This record is the position of a document in a listing sorted by creation date, then id.
+ * It is handed to clients as an opaque token, so a listing resumes right after the last document returned
+ * instead of skipping the documents before it.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public record PageCursor(ZonedDateTime createdDate, String id) {
+    private static final String SEPARATOR = ":";
+
+    /**
+     * This method encodes the cursor as a url safe token.
+     * @return String the token
+     */
+    public String encode() {
+        String value = createdDate.toInstant().toEpochMilli() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method decodes a token returned by {@link #encode()}.
+     * @param token the token
+     * @return PageCursor the cursor
+     * @throws DomainException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            ZonedDateTime createdDate = Instant.ofEpochMilli(Long.parseLong(value.substring(0, separator)))
+                    .atZone(ZoneOffset.UTC);
+            String id = value.substring(separator + 1);
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("Missing id");
+            }
+            return new PageCursor(createdDate, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DomainException(Error.INVALID_REQUEST, "Invalid page cursor");
+        }
+    }
+}
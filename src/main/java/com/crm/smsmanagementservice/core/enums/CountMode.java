@@ -0,0 +1,46 @@
+package com.crm.smsmanagementservice.core.enums;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import lombok.AllArgsConstructor;
+import lombok.ToString;
+
+/**
+ * This enum represents how the total of a listing is counted.
+ * NONE skips the count, EXACT counts the matching documents,
+ * ESTIMATE reads a cached per-user counter kept up to date by writes.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@AllArgsConstructor @ToString
+public enum CountMode {
+    NONE("false"),
+    EXACT("exact"),
+    ESTIMATE("estimate");
+
+    private final String mode;
+
+    /**
+     * This method returns the CountMode enum from a request parameter.
+     * "true" is read as exact, for clients of the former boolean parameter.
+     * @param mode the requested mode, may be null
+     * @param defaultMode the mode of a listing when none is requested
+     * @return CountMode enum
+     */
+    public static CountMode fromString(String mode, CountMode defaultMode) {
+        if (mode == null || mode.isBlank()) {
+            return defaultMode;
+        }
+        if ("true".equalsIgnoreCase(mode)) {
+            return EXACT;
+        }
+        for (CountMode countMode : CountMode.values()) {
+            if (countMode.mode.equalsIgnoreCase(mode)) {
+                return countMode;
+            }
+        }
+        throw new DomainException(Error.INVALID_PARAMETER, "Invalid count mode: " + mode);
+    }
+}
@@ -1,5 +1,8 @@
 package com.crm.smsmanagementservice.core.enums;
 
+import java.util.Arrays;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.ToString;
 
@@ -12,22 +15,41 @@ import lombok.ToString;
  */
 @AllArgsConstructor @ToString
 public enum MessageStatus {
-    QUEUED("queued"),
-    ACCEPTED("accepted"),
-    SCHEDULED("scheduled"),
-    CANCELLED("cancelled"),
-    SENDING("sending"),
-    SENT("sent"),
-    DELIVERED("delivered"),
-    FAILED("failed"),
-    CANCELED("canceled"),
-    UNDELIVERED("undelivered"),
-    RECEIVING("receiving"),
-    RECEIVED("received"),
-    UNKNOWN("unknown");
+    QUEUED("queued", 2),
+    ACCEPTED("accepted", 0),
+    SCHEDULED("scheduled", 1),
+    CANCELLED("cancelled", 5),
+    SENDING("sending", 3),
+    SENT("sent", 4),
+    DELIVERED("delivered", 5),
+    FAILED("failed", 5),
+    CANCELED("canceled", 5),
+    UNDELIVERED("undelivered", 5),
+    RECEIVING("receiving", 3),
+    RECEIVED("received", 5),
+    UNKNOWN("unknown", -1);
 
 
     private final String status;
+    private final int lifecycleRank;
+
+    /**
+     * This method tells whether this status comes later in the message lifecycle than another.
+     * Final statuses share the last rank, so none of them replaces another.
+     * @param other the other status, may be null
+     * @return true if this status replaces the other
+     */
+    public boolean supersedes(MessageStatus other) {
+        return other == null || this.lifecycleRank > other.lifecycleRank;
+    }
+
+    /**
+     * This method returns the statuses this status may replace.
+     * @return the statuses earlier in the lifecycle
+     */
+    public List<MessageStatus> supersededStatuses() {
+        return Arrays.stream(values()).filter(this::supersedes).toList();
+    }
 
     /**
      * This method returns the MessageStatus enum from a string.
@@ -0,0 +1,21 @@
+package com.crm.smsmanagementservice.core.event;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+
+@Getter
+public class ReconciledMessageEvent extends ApplicationEvent {
+    private final DomainMessage message;
+
+    public ReconciledMessageEvent(Object source, DomainMessage message) {
+        super(source);
+        this.message = message;
+    }
+}
@@ -1,22 +1,42 @@
 package com.crm.smsmanagementservice.core.event;
 
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 import java.time.ZonedDateTime;
 
 /**
+ * This event carries new messages of a conversation, to be folded into its summary.
+ * The summary shows the latest message; the counts are added to the conversation counters.
+ *
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
  * @created : 2024-09-18, Wednesday
  */
+@Getter
 public class UpdateConversationEvent extends ApplicationEvent {
-    String conversationId;
-    String messagePreview;
-    ZonedDateTime lastMessageTime;
-    public UpdateConversationEvent(Object source, String conversationId, String messagePreview, ZonedDateTime lastMessageTime) {
+    private final String conversationId;
+    private final String messageId;
+    private final String messagePreview;
+    private final MessageDirection direction;
+    private final MessageStatus status;
+    private final ZonedDateTime lastMessageTime;
+    private final int messageCount;
+    private final int unreadCount;
+
+    public UpdateConversationEvent(Object source, String conversationId, String messageId, String messagePreview,
+                                   MessageDirection direction, MessageStatus status, ZonedDateTime lastMessageTime,
+                                   int messageCount, int unreadCount) {
         super(source);
         this.conversationId = conversationId;
+        this.messageId = messageId;
         this.messagePreview = messagePreview;
+        this.direction = direction;
+        this.status = status;
         this.lastMessageTime = lastMessageTime;
+        this.messageCount = messageCount;
+        this.unreadCount = unreadCount;
     }
 }
@@ -0,0 +1,27 @@
+package com.crm.smsmanagementservice.core.event;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * This event carries the stored status of a message, to be shown on its conversation
+ * summary when the message is still the latest one.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter
+public class UpdateConversationStatusEvent extends ApplicationEvent {
+    private final String conversationId;
+    private final String messageId;
+    private final MessageStatus status;
+
+    public UpdateConversationStatusEvent(Object source, String conversationId, String messageId, MessageStatus status) {
+        super(source);
+        this.conversationId = conversationId;
+        this.messageId = messageId;
+        this.status = status;
+    }
+}
@@ -42,6 +42,16 @@ public enum Error {
             "0000400",
             HttpStatus.BAD_REQUEST,
             "Invalid body",
+            "Server"),
+    TOO_MANY_REQUESTS(
+            "0000429",
+            HttpStatus.TOO_MANY_REQUESTS,
+            "Too many requests",
+            "Server"),
+    PROVIDER_UNAVAILABLE(
+            "0000503",
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "Messaging provider unavailable",
             "Server");
 
     private final String code;
@@ -0,0 +1,50 @@
+package com.crm.smsmanagementservice.core.exception;
+
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+
+/**
+ * This class represents a failed call to the messaging provider.
+ * It keeps the provider's own error code and HTTP status next to the domain error,
+ * so callers can tell a rate limit or a provider outage from a rejected message.
+ * A request that never reached the provider, because no connection could be made, is marked as not sent:
+ * only then, or after a rate limit, is it safe to send a message again.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter
+public class ProviderException extends DomainException {
+    @Nullable
+    private final String providerCode;
+    private final int providerStatus;
+    private final boolean requestSent;
+
+    /**
+     * This constructor is used to create an instance of ProviderException.
+     * @param error the domain error
+     * @param message the exception message
+     * @param providerCode the provider error code, null if the provider gave none
+     * @param providerStatus the HTTP status of the provider response, 0 if there was no response
+     */
+    public ProviderException(Error error, String message, @Nullable String providerCode, int providerStatus) {
+        this(error, message, providerCode, providerStatus, true);
+    }
+
+    /**
+     * This constructor is used to create an instance of ProviderException.
+     * @param error the domain error
+     * @param message the exception message
+     * @param providerCode the provider error code, null if the provider gave none
+     * @param providerStatus the HTTP status of the provider response, 0 if there was no response
+     * @param requestSent false if the request never reached the provider
+     */
+    public ProviderException(Error error, String message, @Nullable String providerCode, int providerStatus,
+                             boolean requestSent) {
+        super(error, message);
+        this.providerCode = providerCode;
+        this.providerStatus = providerStatus;
+        this.requestSent = requestSent;
+    }
+}
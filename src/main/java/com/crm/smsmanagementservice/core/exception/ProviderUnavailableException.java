@@ -0,0 +1,20 @@
+package com.crm.smsmanagementservice.core.exception;
+
+/**
+ * This class represents a provider call that was not made because the messaging provider is considered unavailable:
+ * its circuit is open, or too many calls are already waiting on it.
+ * The provider never saw the call, so it is safe to make it again later.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public class ProviderUnavailableException extends DomainException {
+    /**
+     * This constructor is used to create an instance of ProviderUnavailableException.
+     * @param message the exception message
+     */
+    public ProviderUnavailableException(String message) {
+        super(Error.PROVIDER_UNAVAILABLE, message);
+    }
+}
@@ -0,0 +1,64 @@
+package com.crm.smsmanagementservice.core.util;
+
+import com.crm.smsmanagementservice.core.config.CountEstimateConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * This class keeps estimated counts of listings in memory.
+ * A counter is seeded by an exact count on its first read, then moved by the writes
+ * of this instance until it expires and is counted again.
+ * Hit and miss counts are published as cache metrics under the given name.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public class CountEstimator<K> {
+    private final Cache<K, AtomicLong> counters;
+
+    public CountEstimator(String name, CountEstimateConfig config, MeterRegistry meterRegistry) {
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counters, name);
+    }
+
+    /**
+     * This method returns the estimated count of a listing, counting it on a miss.
+     * @param key the key of the listing
+     * @param counter counts the listing exactly
+     * @return long the estimated count
+     */
+    public long estimate(K key, Function<K, Long> counter) {
+        return counters.get(key, k -> new AtomicLong(counter.apply(k))).get();
+    }
+
+    /**
+     * This method moves the counter of a listing, if it is held.
+     * A listing that was never read is left to be counted on its first read.
+     * @param key the key of the listing
+     * @param delta the number of documents added, negative when removed
+     */
+    public void add(K key, long delta) {
+        AtomicLong count = counters.getIfPresent(key);
+        if (count != null) {
+            count.accumulateAndGet(delta, (current, change) -> Math.max(0, current + change));
+        }
+    }
+
+    /**
+     * This method drops the counter of a listing.
+     * @param key the key of the listing
+     */
+    public void invalidate(K key) {
+        counters.invalidate(key);
+    }
+}
@@ -0,0 +1,83 @@
+package com.crm.smsmanagementservice.core.util;
+
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class builds keyset (cursor) pages over documents sorted by creation date, then id.
+ * A page reads the documents right after the cursor through the index, so every page
+ * costs the same as the first one, however deep the listing goes.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public class KeysetPageHelper {
+    public static final String CREATED_DATE = "createdDate";
+    public static final String ID = "_id";
+    public static final int DEFAULT_SIZE = PageableHelper.DEFAULT_SIZE;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * This method bounds a requested page size.
+     * @param size the requested page size
+     * @return int the page size
+     */
+    public static int pageSize(int size) {
+        return size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * This method parses the direction of a listing, newest first unless asc is requested.
+     * @param order the requested order
+     * @return Sort.Direction the direction
+     */
+    public static Sort.Direction direction(String order) {
+        return "asc".equals(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    /**
+     * This method builds the query of a page.
+     * One more document than the page size is read, to tell whether a next page exists.
+     * @param criteria the filter of the listing
+     * @param after the cursor of the previous page, null for the first page
+     * @param direction the direction of the listing
+     * @param size the page size
+     * @return Query the query of the page
+     */
+    public static Query query(Criteria criteria, @Nullable PageCursor after, Sort.Direction direction, int size) {
+        Query query = Query.query(criteria);
+        if (after != null) {
+            boolean descending = direction.isDescending();
+            Criteria beyondDate = descending
+                    ? Criteria.where(CREATED_DATE).lt(after.createdDate())
+                    : Criteria.where(CREATED_DATE).gt(after.createdDate());
+            Criteria beyondId = descending ? Criteria.where(ID).lt(after.id()) : Criteria.where(ID).gt(after.id());
+            query.addCriteria(new Criteria().orOperator(beyondDate,
+                    new Criteria().andOperator(Criteria.where(CREATED_DATE).is(after.createdDate()), beyondId)));
+        }
+        return query.with(Sort.by(direction, CREATED_DATE, ID)).limit(size + 1);
+    }
+
+    /**
+     * This method cuts the documents read by {@link #query} into a page.
+     * @param documents the documents read
+     * @param size the page size
+     * @param cursorOf the cursor of a document
+     * @return CursorPage the page
+     */
+    public static <T> CursorPage<T> toPage(List<T> documents, int size, Function<T, PageCursor> cursorOf) {
+        if (documents.size() <= size) {
+            return new CursorPage<>(documents, null);
+        }
+        List<T> content = documents.subList(0, size);
+        return new CursorPage<>(content, cursorOf.apply(content.getLast()).encode());
+    }
+}
@@ -1,9 +1,12 @@
 package com.crm.smsmanagementservice.core.util;
 
+import jakarta.annotation.Nullable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.Map;
+
 /**
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
@@ -15,11 +18,15 @@ public class PageableHelper {
     public static final int DEFAULT_SIZE = 10;
     public static final String DEFAULT_SORT = "createdTime";
     public static final String DEFAULT_DIRECTION = "desc";
+    private static final Map<String, String> SORT_ALIASES = Map.of(
+            "createdTime", "createdDate",
+            "updatedTime", "updatedDate");
 
     public static Pageable createPage(int page, int size, String sortBy, String order) {
         if (sortBy == null || sortBy.isEmpty()) {
             sortBy = DEFAULT_SORT;
         }
+        sortBy = SORT_ALIASES.getOrDefault(sortBy, sortBy);
 
         if (order == null || order.isEmpty() || (!order.equals("asc") && !order.equals("desc"))) {
             order = DEFAULT_DIRECTION;
@@ -31,4 +38,17 @@ public class PageableHelper {
                 Sort.by(Sort.Direction.fromString(order), sortBy)
         );
     }
+
+    /**
+     * This method returns the number of pages of a listing.
+     * @param total the number of documents of the listing, null when not counted
+     * @param size the page size
+     * @return Integer the number of pages, null when not counted
+     */
+    public static Integer totalPages(@Nullable Long total, int size) {
+        if (total == null) {
+            return null;
+        }
+        return (int) Math.ceil((double) total / Math.max(size, 1));
+    }
 }
@@ -3,6 +3,10 @@ package com.crm.smsmanagementservice.core.validator;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
@@ -10,4 +14,15 @@ import jakarta.validation.ConstraintValidatorContext;
  */
 public interface IPhoneNumberValidator extends ConstraintValidator<ValidPhoneNumber, String> {
     boolean isValid(String value, ConstraintValidatorContext constraintValidatorContext);
+
+    /**
+     * This method validates a batch of phone numbers.
+     * @param values the phone numbers
+     * @return a map of every given phone number to whether it is valid
+     */
+    default Map<String, Boolean> validateAll(Collection<String> values) {
+        Map<String, Boolean> results = new HashMap<>();
+        values.forEach(value -> results.computeIfAbsent(value, number -> isValid(number, null)));
+        return results;
+    }
 }
@@ -0,0 +1,18 @@
+package com.crm.smsmanagementservice.message;
+
+import lombok.Builder;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Builder
+public record BatchProgressDTO(
+        String batchId,
+        long total,
+        long pending,
+        long dispatched,
+        long failed,
+        boolean completed
+) {}
@@ -38,7 +38,11 @@ public record MessageDTO(
         ZonedDateTime scheduledDate,
         ZonedDateTime createdDate,
         @Nullable
-        ZonedDateTime deliveredTime
+        ZonedDateTime deliveredTime,
+        @Nullable
+        String errorCode,
+        @Nullable
+        String errorMessage
 ) {}
 
 
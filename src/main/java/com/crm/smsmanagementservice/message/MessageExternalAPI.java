@@ -1,7 +1,12 @@
 package com.crm.smsmanagementservice.message;
 
-import org.springframework.data.domain.Page;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.enums.CountMode;
+import jakarta.annotation.Nullable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -12,8 +17,15 @@ import java.util.List;
  */
 public interface MessageExternalAPI {
     MessageDTO getMessageById(String messageId);
-    Page<MessageDTO> getMessageByParticipantId(String userId, String contactId, Pageable pageable);
-    Page<MessageDTO> getMessagesByUserId(String userId, Pageable pageable);
+    Slice<MessageDTO> getMessageByParticipantId(String userId, String contactId, Pageable pageable);
+    @Nullable Long countMessagesByParticipantId(String userId, String contactId, CountMode countMode);
+    Slice<MessageDTO> getMessagesByUserId(String userId, Pageable pageable);
+    CursorPage<MessageDTO> getMessagesByUserId(String userId, @Nullable String after, int size, Sort.Direction direction);
+    @Nullable Long countMessagesByUserId(String userId, CountMode countMode);
+    SseEmitter streamMessagesByUserId(String userId);
     List<MessageDTO> createMessage(List<MessageDTO> messageCreateDTO);
     MessageDTO cancelMessage(String messageId);
+    BatchProgressDTO queueMessages(List<MessageDTO> messageCreateDTO);
+    BatchProgressDTO getBatchProgress(String batchId);
+    RecipientValidationDTO validateRecipients(List<MessageDTO> messageCreateDTO);
 }
\ No newline at end of file
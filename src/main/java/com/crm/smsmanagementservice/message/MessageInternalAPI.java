@@ -10,6 +10,7 @@ import com.crm.smsmanagementservice.core.enums.MessageStatus;
  */
 public interface MessageInternalAPI {
     void updateMessage(DomainMessage message);
+    void reconcileMessage(DomainMessage message);
     void createInboundMessage(DomainMessage message);
     void updateMessageStatus(String messageId, MessageStatus status, String errorMessage, String errorCode);
 }
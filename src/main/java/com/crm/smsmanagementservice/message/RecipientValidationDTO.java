@@ -0,0 +1,18 @@
+package com.crm.smsmanagementservice.message;
+
+import com.crm.smsmanagementservice.core.dto.ItemRejection;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Builder
+public record RecipientValidationDTO(
+        List<MessageDTO> accepted,
+        List<Integer> acceptedIndexes,
+        List<ItemRejection> rejected
+) {}
@@ -0,0 +1,15 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+/**
+ * This enum represents the dispatch state of an accepted outbound message.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public enum DispatchStatus {
+    PENDING,
+    IN_FLIGHT,
+    DISPATCHED,
+    FAILED
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.Currency;
 import java.util.Map;
+import java.util.Set;
 
 import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import com.crm.smsmanagementservice.core.enums.MessageDirection;
@@ -12,6 +13,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -24,9 +27,17 @@ import org.springframework.data.mongodb.core.mapping.Document;
  */
 @Getter @Setter @Builder
 @Document(collection = "messages")
+@CompoundIndex(name = "user_contact_status_created", def = "{'userId': 1, 'contactId': 1, 'status': 1, 'createdDate': -1}")
+@CompoundIndex(name = "user_created", def = "{'userId': 1, 'createdDate': -1}")
+@CompoundIndex(name = "to_direction_created", def = "{'to': 1, 'direction': 1, 'createdDate': -1}")
+@CompoundIndex(name = "dispatch_status_created", def = "{'dispatchStatus': 1, 'createdDate': 1}")
+@CompoundIndex(name = "batch_dispatch_status_created", def = "{'batchId': 1, 'dispatchStatus': 1, 'createdDate': 1}")
 public class MessageDocument {
+    public static final Set<MessageStatus> CANCELLABLE_STATUSES = Set.of(MessageStatus.SCHEDULED, MessageStatus.QUEUED);
+
     @Id
     private String id;
+    @Indexed(name = "resource_id", unique = true, sparse = true)
     private String resourceId;
     private String conversationId;
     private String to;
@@ -53,9 +64,23 @@ public class MessageDocument {
     private String errorCode;
     private String errorMessage;
     private String apiVersion;
+    private String batchId;
+    private DispatchStatus dispatchStatus;
+    private Boolean bulkSend;
+    private String leaseOwner;
+    private ZonedDateTime leaseExpiresAt;
+    private Integer dispatchAttempts;
 
     public boolean canCancel() {
-        return this.status == MessageStatus.SCHEDULED || this.status == MessageStatus.QUEUED;
+        return this.status != null && CANCELLABLE_STATUSES.contains(this.status);
+    }
+
+    /**
+     * This method tells whether the message has not reached the provider yet, so it is cancelled in the outbox alone.
+     * @return true if the message is pending, or has no provider resource id
+     */
+    public boolean isInOutbox() {
+        return this.resourceId == null || this.dispatchStatus == DispatchStatus.PENDING;
     }
 
     public boolean isCancelled() {
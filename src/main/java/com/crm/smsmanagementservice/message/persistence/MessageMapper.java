@@ -28,6 +28,12 @@ public interface MessageMapper {
     @Mapping(target = "createdDate", ignore = true)
     @Mapping(target = "scheduledDate", ignore = true)
     @Mapping(target = "updatedDate", ignore = true)
+    @Mapping(target = "batchId", ignore = true)
+    @Mapping(target = "dispatchStatus", ignore = true)
+    @Mapping(target = "bulkSend", ignore = true)
+    @Mapping(target = "leaseOwner", ignore = true)
+    @Mapping(target = "leaseExpiresAt", ignore = true)
+    @Mapping(target = "dispatchAttempts", ignore = true)
     @Mapping(target = "media", source = "mediaUrls", qualifiedByName = "mapOptionalMap")
 
     @Mapping(target = "resourceId", source = "id")
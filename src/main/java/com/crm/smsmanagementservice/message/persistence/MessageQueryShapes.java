@@ -0,0 +1,66 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import com.crm.smsmanagementservice.core.config.MongoQueryShape;
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The query shapes of the message repository, verified against the indexes of {@link MessageDocument}.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Configuration
+class MessageQueryShapes {
+    private static final String COLLECTION = "messages";
+
+    @Bean
+    MongoQueryShape messageByResourceId() {
+        return MongoQueryShape.of("messages.byResourceId", COLLECTION, new Document("resourceId", "SM0"));
+    }
+
+    @Bean
+    MongoQueryShape deliveredMessagesByParticipant() {
+        return new MongoQueryShape("messages.deliveredByParticipant", COLLECTION,
+                new Document("userId", "user").append("contactId", "contact")
+                        .append("status", new Document("$in", List.of("DELIVERED", "RECEIVED"))),
+                new Document("createdDate", -1));
+    }
+
+    @Bean
+    MongoQueryShape messagesByUserId() {
+        return new MongoQueryShape("messages.byUserId", COLLECTION,
+                new Document("userId", "user"), new Document("createdDate", -1).append("_id", -1));
+    }
+
+    @Bean
+    MongoQueryShape lastOutboundMessageTo() {
+        return new MongoQueryShape("messages.lastOutboundTo", COLLECTION,
+                new Document("to", "+15550000000").append("direction", "OUTBOUND_API"), new Document("createdDate", -1));
+    }
+
+    @Bean
+    MongoQueryShape claimablePendingMessages() {
+        return new MongoQueryShape("messages.claimPending", COLLECTION,
+                new Document("dispatchStatus", "PENDING"), new Document("createdDate", 1));
+    }
+
+    @Bean
+    MongoQueryShape batchProgress() {
+        return MongoQueryShape.of("messages.batchProgress", COLLECTION,
+                new Document("batchId", "batch").append("dispatchStatus", "DISPATCHED"));
+    }
+
+    @Bean
+    MongoQueryShape expiredLeases() {
+        return new MongoQueryShape("messages.expiredLeases", COLLECTION,
+                new Document("dispatchStatus", "IN_FLIGHT")
+                        .append("leaseExpiresAt", new Document("$not", new Document("$gt", new Date()))),
+                new Document("createdDate", 1));
+    }
+}
@@ -2,8 +2,8 @@ package com.crm.smsmanagementservice.message.persistence;
 
 
 import com.crm.smsmanagementservice.core.enums.MessageDirection;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -18,10 +18,16 @@ import java.util.Optional;
  * @created : 2/18/2024, Sunday
  */
 @Repository
-public interface MessageRepository extends MongoRepository<MessageDocument, String> {
+public interface MessageRepository extends MongoRepository<MessageDocument, String>, MessageRepositoryCustom {
     @Query("{ 'userId' : ?0, 'contactId' : ?1, 'status' : { $in: [ 'DELIVERED', 'RECEIVED' ] } }")
-    Page<MessageDocument> findDeliveredMessagesByUserIdAndContactId(String userId, String contactId, Pageable pageable);
-    Page<MessageDocument> findMessageDocumentByUserId(String userId, Pageable pageable);
+    Slice<MessageDocument> findDeliveredMessagesByUserIdAndContactId(String userId, String contactId, Pageable pageable);
+    @Query(value = "{ 'userId' : ?0, 'contactId' : ?1, 'status' : { $in: [ 'DELIVERED', 'RECEIVED' ] } }", count = true)
+    long countDeliveredMessagesByUserIdAndContactId(String userId, String contactId);
+    Slice<MessageDocument> findMessageDocumentByUserId(String userId, Pageable pageable);
     Optional<MessageDocument> findByResourceId(String resourceId);
+    boolean existsByResourceId(String resourceId);
     Optional<MessageDocument> findFirstByToAndDirectionOrderByCreatedDateDesc(String to, MessageDirection direction);
+    long countByUserId(String userId);
+    long countByBatchId(String batchId);
+    long countByBatchIdAndDispatchStatus(String batchId, DispatchStatus dispatchStatus);
 }
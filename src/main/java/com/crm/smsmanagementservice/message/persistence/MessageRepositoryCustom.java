@@ -0,0 +1,109 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Sort;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Outbox, bulk and targeted update operations of the message repository.
+ * Pending outbound messages are claimed under a lease before they are sent to the provider,
+ * so several instances can drain the same backlog without sending a message twice.
+ * Status changes are conditional partial writes that only move a message forward in its lifecycle.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public interface MessageRepositoryCustom {
+    /**
+     * This method claims pending messages, or in-flight messages whose lease has expired or was never set, oldest first.
+     * @param batchId the batch to claim from, or null for any batch
+     * @param leaseOwner the owner of the lease
+     * @param leaseExpiresAt when the lease expires
+     * @param limit the maximum number of messages to claim
+     * @return the claimed messages
+     */
+    List<MessageDocument> claimPending(@Nullable String batchId, String leaseOwner, ZonedDateTime leaseExpiresAt, int limit);
+
+    /**
+     * This method stores the outcome of a dispatch and releases its lease,
+     * unless the lease was lost to another owner in the meantime.
+     * A message cancelled while its provider call was in flight stays cancelled: its provider fields are stored
+     * and the document is given back the cancelled status.
+     * @param document the dispatched message
+     * @param leaseOwner the owner of the lease
+     * @return true if the message was stored
+     */
+    boolean completeDispatch(MessageDocument document, String leaseOwner);
+
+    /**
+     * This method extends the lease on messages still held by their owner.
+     * @param ids the ids of the leased messages
+     * @param leaseOwner the owner of the lease
+     * @param leaseExpiresAt when the lease now expires
+     * @return the number of leases extended
+     */
+    long renewLease(Collection<String> ids, String leaseOwner, ZonedDateTime leaseExpiresAt);
+
+    /**
+     * This method applies status changes in a single unordered bulk write.
+     * A change is skipped when the stored status is already as far or further in the message lifecycle.
+     * @param updates the status changes, at most one per resource id
+     * @return the number of messages modified
+     */
+    int bulkUpdateStatus(Collection<MessageStatusUpdate> updates);
+
+    /**
+     * This method returns which of the given provider resource ids are stored.
+     * @param resourceIds the provider resource ids
+     * @return the resource ids of stored messages
+     */
+    Set<String> findKnownResourceIds(Collection<String> resourceIds);
+
+    /**
+     * This method applies a status change in a single conditional write.
+     * The change is skipped when the stored status is already as far or further in the message lifecycle.
+     * @param update the status change
+     * @return true if the message was modified
+     */
+    boolean updateStatus(MessageStatusUpdate update);
+
+    /**
+     * This method sets the non-null provider fields of a message in a single conditional write.
+     * The fields are skipped when the stored status is further in the message lifecycle than the given one.
+     * @param changes the resource id and optional status of the message, and the provider fields to set
+     * @return true if the message was modified
+     */
+    boolean updateProviderFields(MessageDocument changes);
+
+    /**
+     * This method cancels a message, unless it left a cancellable status in the meantime.
+     * @param id the message id
+     * @return the cancelled message, or empty if it could not be cancelled
+     */
+    Optional<MessageDocument> cancel(String id);
+
+    /**
+     * This method reads a page of a user's messages, sorted by creation date then id, right after a cursor.
+     * One more message than the page size is read, to tell whether a next page exists.
+     * @param userId the user id
+     * @param after the cursor of the previous page, null for the first page
+     * @param direction the direction of the listing
+     * @param size the page size
+     * @return the messages of the page, and the first message of the next page if any
+     */
+    List<MessageDocument> findPageByUserId(String userId, @Nullable PageCursor after, Sort.Direction direction, int size);
+
+    /**
+     * This method reads the owner and status of messages by resource id, without their content.
+     * @param resourceIds the provider resource ids
+     * @return the messages, holding only their ids, owner, conversation, status, error code and update date
+     */
+    List<MessageDocument> findStatusesByResourceIds(Collection<String> resourceIds);
+}
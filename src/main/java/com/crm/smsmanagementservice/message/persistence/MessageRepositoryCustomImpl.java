@@ -0,0 +1,200 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.util.KeysetPageHelper;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Mongo implementation of the outbox, bulk and targeted update operations.
+ * Outbox claims use findAndModify so a message is leased by a single owner.
+ * Status changes are $set updates whose filter carries the status precedence guard, so they need no read.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@RequiredArgsConstructor
+class MessageRepositoryCustomImpl implements MessageRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<MessageDocument> claimPending(@Nullable String batchId, String leaseOwner,
+                                              ZonedDateTime leaseExpiresAt, int limit) {
+        Criteria claimable = new Criteria().andOperator(
+                Criteria.where("status").ne(MessageStatus.CANCELLED),
+                new Criteria().orOperator(
+                        Criteria.where("dispatchStatus").is(DispatchStatus.PENDING),
+                        Criteria.where("dispatchStatus").is(DispatchStatus.IN_FLIGHT).and("leaseExpiresAt").not().gt(ZonedDateTime.now())
+                )
+        );
+        if (batchId != null) {
+            claimable = new Criteria().andOperator(Criteria.where("batchId").is(batchId), claimable);
+        }
+        Query query = Query.query(claimable).with(Sort.by(Sort.Direction.ASC, "createdDate"));
+        FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true);
+
+        List<MessageDocument> claimed = new ArrayList<>();
+        while (claimed.size() < limit) {
+            MessageDocument document = mongoTemplate.findAndModify(query, lease(leaseOwner, leaseExpiresAt),
+                    options, MessageDocument.class);
+            if (document == null) {
+                break;
+            }
+            claimed.add(document);
+        }
+        return claimed;
+    }
+
+    @Override
+    public boolean completeDispatch(MessageDocument document, String leaseOwner) {
+        document.setLeaseOwner(null);
+        document.setLeaseExpiresAt(null);
+        if (mongoTemplate.findAndReplace(Query.query(leased(document, leaseOwner).and("status").ne(MessageStatus.CANCELLED)),
+                document) != null) {
+            return true;
+        }
+        MessageStatus dispatched = document.getStatus();
+        document.setStatus(MessageStatus.CANCELLED);
+        if (mongoTemplate.findAndReplace(Query.query(leased(document, leaseOwner).and("status").is(MessageStatus.CANCELLED)),
+                document) != null) {
+            return true;
+        }
+        document.setStatus(dispatched);
+        return false;
+    }
+
+    @Override
+    public long renewLease(Collection<String> ids, String leaseOwner, ZonedDateTime leaseExpiresAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids).and("leaseOwner").is(leaseOwner)),
+                new Update().set("leaseExpiresAt", leaseExpiresAt),
+                MessageDocument.class).getModifiedCount();
+    }
+
+    @Override
+    public int bulkUpdateStatus(Collection<MessageStatusUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageDocument.class);
+        updates.forEach(update -> bulkOperations.updateOne(statusGuard(update.resourceId(), update.status()),
+                statusUpdate(update, now)));
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    @Override
+    public Set<String> findKnownResourceIds(Collection<String> resourceIds) {
+        if (resourceIds.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("resourceId").in(resourceIds));
+        query.fields().include("resourceId");
+        return mongoTemplate.find(query, MessageDocument.class).stream()
+                .map(MessageDocument::getResourceId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean updateStatus(MessageStatusUpdate update) {
+        return mongoTemplate.updateFirst(statusGuard(update.resourceId(), update.status()),
+                statusUpdate(update, ZonedDateTime.now()), MessageDocument.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean updateProviderFields(MessageDocument changes) {
+        Criteria criteria = Criteria.where("resourceId").is(changes.getResourceId());
+        Update update = new Update().set("updatedDate", ZonedDateTime.now());
+        if (changes.getStatus() != null) {
+            List<MessageStatus> replaceable = new ArrayList<>(changes.getStatus().supersededStatuses());
+            replaceable.add(changes.getStatus());
+            criteria = criteria.and("status").in(replaceable);
+            update.set("status", changes.getStatus());
+        }
+        setIfPresent(update, "errorCode", changes.getErrorCode());
+        setIfPresent(update, "errorMessage", changes.getErrorMessage());
+        setIfPresent(update, "deliveredTime", changes.getDeliveredTime());
+        setIfPresent(update, "price", changes.getPrice());
+        setIfPresent(update, "currency", changes.getCurrency());
+        setIfPresent(update, "messageSegmentCount", changes.getMessageSegmentCount());
+        setIfPresent(update, "from", changes.getFrom());
+        if (changes.getMedia() != null && !changes.getMedia().isEmpty()) {
+            update.set("media", changes.getMedia());
+        }
+        return mongoTemplate.updateFirst(Query.query(criteria), update, MessageDocument.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public Optional<MessageDocument> cancel(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("status").in(MessageDocument.CANCELLABLE_STATUSES));
+        Update update = new Update()
+                .set("status", MessageStatus.CANCELLED)
+                .set("updatedDate", ZonedDateTime.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), MessageDocument.class));
+    }
+
+    @Override
+    public List<MessageDocument> findPageByUserId(String userId, @Nullable PageCursor after,
+                                                  Sort.Direction direction, int size) {
+        return mongoTemplate.find(KeysetPageHelper.query(Criteria.where("userId").is(userId), after, direction, size),
+                MessageDocument.class);
+    }
+
+    @Override
+    public List<MessageDocument> findStatusesByResourceIds(Collection<String> resourceIds) {
+        Query query = Query.query(Criteria.where("resourceId").in(resourceIds));
+        query.fields().include("resourceId", "userId", "conversationId", "status", "errorCode", "updatedDate");
+        return mongoTemplate.find(query, MessageDocument.class);
+    }
+
+    private Criteria leased(MessageDocument document, String leaseOwner) {
+        return Criteria.where("_id").is(document.getId()).and("leaseOwner").is(leaseOwner);
+    }
+
+    private Query statusGuard(String resourceId, MessageStatus status) {
+        return Query.query(Criteria.where("resourceId").is(resourceId).and("status").in(status.supersededStatuses()));
+    }
+
+    private Update statusUpdate(MessageStatusUpdate update, ZonedDateTime now) {
+        return new Update()
+                .set("status", update.status())
+                .set("errorCode", update.errorCode())
+                .set("errorMessage", update.errorMessage())
+                .set("updatedDate", now);
+    }
+
+    private void setIfPresent(Update update, String field, @Nullable Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+    private Update lease(String leaseOwner, ZonedDateTime leaseExpiresAt) {
+        return new Update()
+                .set("dispatchStatus", DispatchStatus.IN_FLIGHT)
+                .set("leaseOwner", leaseOwner)
+                .set("leaseExpiresAt", leaseExpiresAt)
+                .inc("dispatchAttempts", 1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.ZonedDateTime;
+
+/**
+ * This class represents the route of inbound messages from a customer number to our number.
+ * It points to the conversation of the last outbound message between the two numbers,
+ * and is keyed by both numbers so inbound routing is a lookup by id.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter @Builder
+@Document(collection = "message_routes")
+public class MessageRouteDocument {
+    public static final String ANY_NUMBER = "*";
+
+    @Id
+    private String id;
+    private String ourNumber;
+    private String customerNumber;
+    private String conversationId;
+    private String userId;
+    private String contactId;
+    private ZonedDateTime updatedDate;
+
+    /**
+     * This method returns the id of the route between two numbers.
+     * @param ourNumber our number, or {@link #ANY_NUMBER} for the route of any of our numbers
+     * @param customerNumber the customer number
+     * @return the route id
+     */
+    public static String idOf(String ourNumber, String customerNumber) {
+        return ourNumber + ":" + customerNumber;
+    }
+}
@@ -0,0 +1,15 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Mongo repository for persisting inbound message routes.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Repository
+public interface MessageRouteRepository extends MongoRepository<MessageRouteDocument, String>, MessageRouteRepositoryCustom {
+}
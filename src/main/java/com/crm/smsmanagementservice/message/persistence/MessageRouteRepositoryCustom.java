@@ -0,0 +1,18 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import java.util.Collection;
+
+/**
+ * Bulk operations of the message route repository.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public interface MessageRouteRepositoryCustom {
+    /**
+     * This method creates or replaces routes in a single unordered bulk write.
+     * @param routes the routes, at most one per id
+     */
+    void upsertRoutes(Collection<MessageRouteDocument> routes);
+}
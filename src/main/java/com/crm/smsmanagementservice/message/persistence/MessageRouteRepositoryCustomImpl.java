@@ -0,0 +1,40 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+
+/**
+ * Mongo implementation of the message route bulk operations.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@RequiredArgsConstructor
+class MessageRouteRepositoryCustomImpl implements MessageRouteRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void upsertRoutes(Collection<MessageRouteDocument> routes) {
+        if (routes.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageRouteDocument.class);
+        routes.forEach(route -> bulkOperations.upsert(
+                Query.query(Criteria.where("_id").is(route.getId())),
+                new Update()
+                        .set("ourNumber", route.getOurNumber())
+                        .set("customerNumber", route.getCustomerNumber())
+                        .set("conversationId", route.getConversationId())
+                        .set("userId", route.getUserId())
+                        .set("contactId", route.getContactId())
+                        .set("updatedDate", route.getUpdatedDate())));
+        bulkOperations.execute();
+    }
+}
@@ -0,0 +1,18 @@
+package com.crm.smsmanagementservice.message.persistence;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import jakarta.annotation.Nullable;
+
+/**
+ * This record represents a provider status change of a message, identified by its provider resource id.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public record MessageStatusUpdate(
+        String resourceId,
+        MessageStatus status,
+        @Nullable String errorCode,
+        @Nullable String errorMessage
+) {}
@@ -0,0 +1,155 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.conversation.ConversationInternalAPI;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.event.UpdateConversationEvent;
+import com.crm.smsmanagementservice.core.event.UpdateConversationStatusEvent;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This class announces stored message changes to the user's message streams
+ * and to the conversation summaries.
+ * New messages are announced once per conversation with the latest message and the counts;
+ * status changes are announced from the statuses just written, using the owner and conversation of the message
+ * cached when its dispatch was stored, so a status flush needs no read; only messages missing from the cache are
+ * read back, in a single query. A status no later than the one last announced is not announced again,
+ * and the conversation summaries of a flush are updated in a single bulk write that keeps later statuses.
+ * Summaries are updated in line rather than through a transactional event listener, as messages are
+ * stored outside any transaction; a summary that fails to update is logged and does not fail the message.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Slf4j(topic = "MESSAGE_CHANGE_PUBLISHER")
+public class MessageChangePublisher {
+    static final int PREVIEW_LENGTH = 100;
+
+    private final MessageRepository messageRepository;
+    private final MessageStreamHub messageStreamHub;
+    private final ConversationInternalAPI conversationInternalAPI;
+    private final MessageStatusCache messageStatusCache;
+
+    /**
+     * This method announces new messages to their conversations.
+     * @param documents the stored messages, in creation order
+     */
+    public void messagesCreated(List<MessageDocument> documents) {
+        documents.stream()
+                .filter(document -> document.getConversationId() != null)
+                .collect(Collectors.groupingBy(MessageDocument::getConversationId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((conversationId, messages) -> {
+                    MessageDocument last = messages.getLast();
+                    int unread = (int) messages.stream()
+                            .filter(message -> message.getDirection() == MessageDirection.INBOUND)
+                            .count();
+                    updateSummary(new UpdateConversationEvent(this, conversationId,
+                            last.getId(), preview(last.getContent()), last.getDirection(), last.getStatus(),
+                            last.getCreatedDate(), messages.size(), unread));
+                });
+    }
+
+    /**
+     * This method announces a new inbound message.
+     * @param document the stored message
+     */
+    public void inboundCreated(MessageDocument document) {
+        messageStreamHub.publishInbound(document);
+        messagesCreated(List.of(document));
+    }
+
+    /**
+     * This method announces the stored status of a message.
+     * @param document the stored message
+     */
+    public void statusChanged(MessageDocument document) {
+        announce(List.of(document));
+    }
+
+    /**
+     * This method announces status changes just written to messages.
+     * @param updates the status changes, by provider resource id
+     */
+    public void statusesChanged(Collection<MessageStatusUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        List<MessageDocument> changed = new ArrayList<>(updates.size());
+        List<String> uncached = new ArrayList<>();
+        for (MessageStatusUpdate update : updates) {
+            MessageDocument cached = messageStatusCache.get(update.resourceId());
+            if (cached == null) {
+                uncached.add(update.resourceId());
+            } else if (update.status().supersedes(cached.getStatus())) {
+                changed.add(MessageDocument.builder()
+                        .id(cached.getId())
+                        .resourceId(update.resourceId())
+                        .userId(cached.getUserId())
+                        .conversationId(cached.getConversationId())
+                        .status(update.status())
+                        .errorCode(update.errorCode())
+                        .updatedDate(now)
+                        .build());
+            }
+        }
+        if (!uncached.isEmpty()) {
+            try {
+                changed.addAll(messageRepository.findStatusesByResourceIds(uncached));
+            } catch (RuntimeException e) {
+                log.warn("Failed to read {} changed message statuses: {}", uncached.size(), e.getMessage());
+            }
+        }
+        announce(changed);
+    }
+
+    private void announce(List<MessageDocument> documents) {
+        List<UpdateConversationStatusEvent> events = new ArrayList<>(documents.size());
+        for (MessageDocument document : documents) {
+            messageStatusCache.put(document);
+            messageStreamHub.publishStatus(document);
+            if (document.getConversationId() != null) {
+                events.add(new UpdateConversationStatusEvent(this,
+                        document.getConversationId(), document.getId(), document.getStatus()));
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            conversationInternalAPI.updateConversationSummaryStatuses(events);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update summary status of {} conversations: {}", events.size(), e.getMessage());
+        }
+    }
+
+    private void updateSummary(UpdateConversationEvent event) {
+        try {
+            conversationInternalAPI.updateConversationSummary(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update summary of conversation id: {}: {}", event.getConversationId(), e.getMessage());
+        }
+    }
+
+    @Nullable
+    static String preview(@Nullable String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
+}
@@ -0,0 +1,50 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.config.CountEstimateConfig;
+import com.crm.smsmanagementservice.core.util.CountEstimator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * This class holds the estimated message counts of the user and participant listings.
+ * User counters move with every message stored for the user. Participant listings only
+ * show delivered and received messages, whose count moves on status callbacks, so
+ * outbound messages are left to the next recount and only inbound messages move them.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component
+public class MessageCounts {
+    static final String USER_COUNTS = "messageCountsByUser";
+    static final String PARTICIPANT_COUNTS = "messageCountsByParticipant";
+
+    private final CountEstimator<String> byUser;
+    private final CountEstimator<ParticipantKey> byParticipant;
+
+    public MessageCounts(CountEstimateConfig config, MeterRegistry meterRegistry) {
+        this.byUser = new CountEstimator<>(USER_COUNTS, config, meterRegistry);
+        this.byParticipant = new CountEstimator<>(PARTICIPANT_COUNTS, config, meterRegistry);
+    }
+
+    public long estimateByUser(String userId, Function<String, Long> counter) {
+        return byUser.estimate(userId, counter);
+    }
+
+    public long estimateByParticipant(String userId, String contactId, Function<ParticipantKey, Long> counter) {
+        return byParticipant.estimate(new ParticipantKey(userId, contactId), counter);
+    }
+
+    public void addToUser(String userId, long delta) {
+        byUser.add(userId, delta);
+    }
+
+    public void addToParticipant(String userId, String contactId, long delta) {
+        byParticipant.add(new ParticipantKey(userId, contactId), delta);
+    }
+
+    public record ParticipantKey(String userId, String contactId) {}
+}
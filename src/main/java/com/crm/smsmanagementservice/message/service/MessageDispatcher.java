@@ -0,0 +1,297 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.config.SchedulingConfig;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.message.persistence.DispatchStatus;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageMapper;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.provider.MessagingProviderInternalAPI;
+import com.crm.smsmanagementservice.provider.ProviderMessagingDTO;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * This class drains the outbox of outbound messages to the messaging provider.
+ * Messages are persisted as pending before any provider call, claimed under a lease,
+ * sent, and each stored with its provider fields as soon as its provider call completes, while the lease is held.
+ * Leases of messages still in flight are renewed every leaseRenewInterval, from the regular scheduler,
+ * so a batch paced by the provider's rate limit keeps its messages however long it takes;
+ * a message whose worker died mid-send is claimed again once its lease expires.
+ * Each message of a provider call gets its own outcome: sent messages are stored as dispatched
+ * and rejected ones as failed, so one bad recipient does not fail the rest of the batch.
+ * While the provider is unavailable or rate limits the sender, queued messages are put back as pending rather than
+ * failed, and draining stops until the next poll. A message rate limited past its retries is never failed:
+ * sent right away, it is put back as pending too, and the outbox sends it later.
+ * The outbox is polled on the provider scheduler, so its provider calls do not hold up the other scheduled jobs.
+ * A message cancelled while its provider call is in flight stays cancelled; if the provider scheduled it,
+ * the schedule is cancelled at the provider too.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Slf4j(topic = "MESSAGE_DISPATCHER")
+public class MessageDispatcher {
+    private final MessageRepository messageRepository;
+    private final MessageMapper messageMapper;
+    private final MessagingProviderInternalAPI messagingProvider;
+    private final MessageOutboxConfig outboxConfig;
+    private final MessageChangePublisher messageChangePublisher;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Set<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * This method dispatches the pending messages of a batch.
+     * @param batchId the batch id
+     */
+    @Async("threadPoolTaskExecutor")
+    public void dispatchBatch(String batchId) {
+        log.info("Dispatching batch: {}", batchId);
+        drain(batchId);
+    }
+
+    /**
+     * This method periodically dispatches pending messages of any batch,
+     * including messages left behind by a worker that did not finish.
+     */
+    @Scheduled(fixedDelayString = "${message.outbox.pollInterval:5000}", scheduler = SchedulingConfig.PROVIDER_SCHEDULER)
+    public void dispatchPending() {
+        drain(null);
+    }
+
+    /**
+     * This method extends the leases of the messages this instance is still sending.
+     */
+    @Scheduled(fixedDelayString = "${message.outbox.leaseRenewInterval:20000}")
+    public void renewLeases() {
+        ZonedDateTime leaseExpiresAt = leaseExpiry();
+        inFlight.forEach((leaseOwner, ids) -> {
+            long renewed = messageRepository.renewLease(List.copyOf(ids), leaseOwner, leaseExpiresAt);
+            log.debug("Renewed {} leases of {}", renewed, leaseOwner);
+        });
+    }
+
+    /**
+     * This method persists the given messages under a lease and dispatches them on the calling thread.
+     * Recipients the provider rejected are returned as failed messages next to the sent ones;
+     * recipients it rate limited are returned as pending, left to the outbox.
+     * A failure of the provider call as a whole is stored on every message not yet sent before it is rethrown.
+     * @param documents the new documents, sharing media and schedule
+     * @return the dispatched documents
+     */
+    public List<MessageDocument> dispatchNow(List<MessageDocument> documents) {
+        String leaseOwner = newLeaseOwner();
+        ZonedDateTime leaseExpiresAt = leaseExpiry();
+        documents.forEach(document -> {
+            document.setDispatchStatus(DispatchStatus.IN_FLIGHT);
+            document.setLeaseOwner(leaseOwner);
+            document.setLeaseExpiresAt(leaseExpiresAt);
+            document.setDispatchAttempts(1);
+        });
+        List<MessageDocument> leased = messageRepository.saveAll(documents);
+        send(leased, leaseOwner, false);
+        return leased;
+    }
+
+    private void drain(@Nullable String batchId) {
+        List<MessageDocument> claimed;
+        do {
+            String leaseOwner = newLeaseOwner();
+            claimed = messageRepository.claimPending(batchId, leaseOwner, leaseExpiry(), outboxConfig.getBatchSize());
+            if (claimed.isEmpty()) {
+                return;
+            }
+            log.info("Claimed {} pending messages", claimed.size());
+            Map<Boolean, List<MessageDocument>> exhausted = claimed.stream().collect(Collectors.partitioningBy(
+                    document -> Objects.requireNonNullElse(document.getDispatchAttempts(), 0) > outboxConfig.getMaxAttempts()));
+            exhausted.get(true).forEach(document -> {
+                markFailed(document, null, "Exceeded dispatch attempts");
+                complete(document, leaseOwner);
+            });
+            Collection<List<MessageDocument>> groups = exhausted.get(false).stream()
+                    .collect(Collectors.groupingBy(DispatchGroup::of, LinkedHashMap::new, Collectors.toList()))
+                    .values();
+            int requeued = 0;
+            for (List<MessageDocument> group : groups) {
+                try {
+                    requeued += send(group, leaseOwner, true);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to dispatch {} messages: {}", group.size(), e.getMessage());
+                }
+            }
+            if (requeued > 0) {
+                log.warn("Messaging provider unavailable or rate limited, {} messages are left pending for the next poll", requeued);
+                return;
+            }
+        } while (claimed.size() == outboxConfig.getBatchSize());
+    }
+
+    /**
+     * This method sends messages claimed together to the provider, and stores the outcome of each message
+     * as soon as its provider call completes. The lease on the messages is renewed until they are all stored.
+     * If the provider call fails as a whole, the messages not yet stored are stored as failed before it is rethrown.
+     * @param documents the claimed documents, sharing sender, media and schedule
+     * @param leaseOwner the owner of the lease on the documents
+     * @param requeueUnattempted whether messages the provider never saw are put back as pending instead of failed;
+     *                           rate limited messages are always put back
+     * @return the number of messages put back as pending
+     */
+    int send(List<MessageDocument> documents, String leaseOwner, boolean requeueUnattempted) {
+        MessageDocument first = documents.getFirst();
+        Map<String, ProviderMessagingDTO.MessageItemDTO> messageItems = documents.stream().collect(Collectors.toMap(
+                MessageDocument::getId,
+                document -> new ProviderMessagingDTO.MessageItemDTO(document.getContent(), document.getTo(), document.getFrom())
+        ));
+        ProviderMessagingDTO request = ProviderMessagingDTO.builder()
+                .messageItems(messageItems)
+                .media(first.getMedia() == null ? null : List.copyOf(first.getMedia().values()))
+                .scheduledDate(first.getScheduledDate())
+                .build();
+        Map<String, MessageDocument> unfinished = new ConcurrentHashMap<>(documents.stream()
+                .collect(Collectors.toMap(MessageDocument::getId, document -> document)));
+        AtomicInteger requeued = new AtomicInteger();
+        BiConsumer<String, ProviderSendResult> onResult = (id, result) -> {
+            MessageDocument document = unfinished.remove(id);
+            if (document == null) {
+                return;
+            }
+            if (result != null && (result.isRateLimited() || requeueUnattempted && result.isNotAttempted())) {
+                requeue(document);
+                requeued.incrementAndGet();
+            } else {
+                applyProviderResult(document, result);
+            }
+            complete(document, leaseOwner);
+        };
+        inFlight.put(leaseOwner, unfinished.keySet());
+        try {
+            Map<String, ProviderSendResult> response;
+            if (first.getScheduledDate() != null) {
+                response = messagingProvider.scheduleMessages(request, onResult);
+            } else if (Boolean.TRUE.equals(first.getBulkSend())) {
+                response = messagingProvider.bulkSendMessages(request, onResult);
+            } else {
+                response = messagingProvider.sendMessages(request, onResult);
+            }
+            List.copyOf(unfinished.keySet()).forEach(id -> onResult.accept(id, response.get(id)));
+        } catch (RuntimeException e) {
+            String errorCode = e instanceof DomainException domainException ? domainException.getCode() : null;
+            List.copyOf(unfinished.values()).forEach(document -> {
+                unfinished.remove(document.getId());
+                markFailed(document, errorCode, e.getMessage());
+                complete(document, leaseOwner);
+            });
+            throw e;
+        } finally {
+            inFlight.remove(leaseOwner);
+        }
+        return requeued.get();
+    }
+
+    private void complete(MessageDocument document, String leaseOwner) {
+        MessageStatus dispatched = document.getStatus();
+        if (!messageRepository.completeDispatch(document, leaseOwner)) {
+            log.warn("Lease on message {} was lost before its dispatch was stored", document.getId());
+            return;
+        }
+        if (document.isCancelled() && dispatched != MessageStatus.CANCELLED) {
+            cancelAtProvider(document, dispatched);
+        }
+        messageChangePublisher.statusChanged(document);
+    }
+
+    private void cancelAtProvider(MessageDocument document, @Nullable MessageStatus dispatched) {
+        if (dispatched != MessageStatus.SCHEDULED || document.getResourceId() == null) {
+            log.warn("Message {} was cancelled while it was being dispatched, as: {}", document.getId(), dispatched);
+            return;
+        }
+        try {
+            if (!messagingProvider.cancelMessage(document.getResourceId())) {
+                log.warn("Failed to cancel schedule of message {} cancelled while it was being dispatched", document.getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to cancel schedule of message {} cancelled while it was being dispatched: {}",
+                    document.getId(), e.getMessage());
+        }
+    }
+
+    private void applyProviderResult(MessageDocument document, @Nullable ProviderSendResult result) {
+        if (result == null) {
+            markFailed(document, null, "No response from provider");
+            return;
+        }
+        if (!result.isSent()) {
+            markFailed(document, result.errorCode(), Objects.requireNonNull(result.error()).getMessage());
+            return;
+        }
+        MessageDocument sent = messageMapper.toDocument(Objects.requireNonNull(result.message()));
+        document.setResourceId(sent.getResourceId());
+        document.setProviderId(sent.getProviderId());
+        document.setStatus(sent.getStatus());
+        document.setDirection(sent.getDirection());
+        document.setPrice(sent.getPrice());
+        document.setCurrency(sent.getCurrency());
+        document.setResourceUri(sent.getResourceUri());
+        document.setServiceSid(sent.getServiceSid());
+        document.setApiVersion(sent.getApiVersion());
+        document.setMessageSegmentCount(sent.getMessageSegmentCount());
+        document.setErrorCode(sent.getErrorCode());
+        document.setErrorMessage(sent.getErrorMessage());
+        if (sent.getMedia() != null && !sent.getMedia().isEmpty()) {
+            document.setMedia(sent.getMedia());
+        }
+        if (sent.getFrom() != null) {
+            document.setFrom(sent.getFrom());
+        }
+        document.setDeliveredTime(ZonedDateTime.now());
+        document.setUpdatedDate(ZonedDateTime.now());
+        document.setDispatchStatus(DispatchStatus.DISPATCHED);
+    }
+
+    private void requeue(MessageDocument document) {
+        document.setDispatchStatus(DispatchStatus.PENDING);
+        document.setDispatchAttempts(Math.max(0, Objects.requireNonNullElse(document.getDispatchAttempts(), 1) - 1));
+        document.setUpdatedDate(ZonedDateTime.now());
+    }
+
+    private void markFailed(MessageDocument document, @Nullable String errorCode, String errorMessage) {
+        document.setStatus(MessageStatus.FAILED);
+        document.setErrorCode(errorCode);
+        document.setErrorMessage(errorMessage);
+        document.setUpdatedDate(ZonedDateTime.now());
+        document.setDispatchStatus(DispatchStatus.FAILED);
+    }
+
+    private String newLeaseOwner() {
+        return instanceId + ":" + UUID.randomUUID();
+    }
+
+    private ZonedDateTime leaseExpiry() {
+        return ZonedDateTime.now().plus(outboxConfig.getLeaseDuration());
+    }
+
+    /**
+     * The provider call parameters messages must share to be sent together.
+     */
+    private record DispatchGroup(ZonedDateTime scheduledDate, boolean bulkSend, Map<String, String> media) {
+        static DispatchGroup of(MessageDocument document) {
+            return new DispatchGroup(document.getScheduledDate(), Boolean.TRUE.equals(document.getBulkSend()),
+                    document.getMedia() == null ? Map.of() : document.getMedia());
+        }
+    }
+}
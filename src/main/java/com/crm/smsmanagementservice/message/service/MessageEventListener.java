@@ -2,12 +2,15 @@ package com.crm.smsmanagementservice.message.service;
 
 import com.crm.smsmanagementservice.core.event.DeliveredMessageEvent;
 import com.crm.smsmanagementservice.core.event.InboundMessageEvent;
+import com.crm.smsmanagementservice.core.event.ReconciledMessageEvent;
 import com.crm.smsmanagementservice.core.event.UpdateMessageEvent;
 import com.crm.smsmanagementservice.message.MessageInternalAPI;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * @author : memo-aldu
@@ -18,22 +21,35 @@ import org.springframework.stereotype.Component;
 @Component @AllArgsConstructor @Slf4j(topic = "INBOUND_MESSAGE_LISTENER")
 public class MessageEventListener {
     private final MessageInternalAPI messageInternalAPI;
+    private final MessageStatusBuffer messageStatusBuffer;
+    private final MessageMetrics messageMetrics;
 
     @ApplicationModuleListener
     public void handleIncomingMessageEvent(InboundMessageEvent event) {
         log.info("Handling incoming message: {}", event.getMessage());
-        messageInternalAPI.createInboundMessage(event.getMessage());
+        messageMetrics.recordEvent("inbound", event, () -> messageInternalAPI.createInboundMessage(event.getMessage()));
     }
 
     @ApplicationModuleListener
     public void handleUpdateMessageEvent(UpdateMessageEvent event) {
         log.info("Handling update message: {}", event.getMessageId());
-        messageInternalAPI.updateMessageStatus(event.getMessageId(), event.getMessageStatus(), event.getErrorMessage(), event.getErrorCode());
+        messageMetrics.recordEvent("status", event, () -> messageStatusBuffer.offer(event.getMessageId(),
+                event.getMessageStatus(), event.getErrorMessage(), event.getErrorCode()));
     }
 
     @ApplicationModuleListener
     public void handleDeliveredMessageEvent(DeliveredMessageEvent event) {
         log.info("Handling update message: {}", event.getMessage().getId());
-        messageInternalAPI.updateMessage(event.getMessage());
+        messageMetrics.recordEvent("delivered", event, () -> messageInternalAPI.updateMessage(event.getMessage()));
+    }
+
+    /**
+     * Reconciled messages are published by a scheduled job, outside any transaction,
+     * so they are handled without waiting for one to commit.
+     */
+    @Async @TransactionalEventListener(fallbackExecution = true)
+    public void handleReconciledMessageEvent(ReconciledMessageEvent event) {
+        log.info("Handling reconciled message: {}", event.getMessage().getId());
+        messageMetrics.recordEvent("reconciled", event, () -> messageInternalAPI.reconcileMessage(event.getMessage()));
     }
 }
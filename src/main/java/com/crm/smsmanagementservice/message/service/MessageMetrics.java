@@ -0,0 +1,79 @@
+package com.crm.smsmanagementservice.message.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * This class records the meters of the message module.
+ * <ul>
+ *     <li>"message.create" times message creation end to end, tagged by mode (sync or async) and outcome,
+ *     and "message.create.batch.size" records the number of messages per request.</li>
+ *     <li>"message.listener" times the handling of provider events, tagged by event and outcome.</li>
+ *     <li>"message.callback.lag" records how long a provider event waited between its receipt and its handling.
+ *     Provider webhooks carry no provider timestamp, so the lag starts when the webhook was received.</li>
+ * </ul>
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+public class MessageMetrics {
+    static final String SYNC = "sync";
+    static final String ASYNC = "async";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * This method records the creation of a batch of messages.
+     * @param mode sync or async
+     * @param batchSize the number of messages
+     * @param create the creation
+     * @return the result of the creation
+     */
+    public <T> T recordCreate(String mode, int batchSize, Supplier<T> create) {
+        DistributionSummary.builder("message.create.batch.size")
+                .description("Messages per creation request")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(batchSize);
+        return record(Timer.builder("message.create").description("Message creation, end to end").tag("mode", mode), create);
+    }
+
+    /**
+     * This method records the handling of a provider event and the time it waited since its receipt.
+     * @param eventName the event name
+     * @param event the provider event
+     * @param handler the handling
+     */
+    public void recordEvent(String eventName, ApplicationEvent event, Runnable handler) {
+        Timer.builder("message.callback.lag")
+                .description("Time from the receipt of a provider event to its handling")
+                .tag("event", eventName)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.getTimestamp())));
+        record(Timer.builder("message.listener").description("Provider event handling").tag("event", eventName), () -> {
+            handler.run();
+            return null;
+        });
+    }
+
+    private <T> T record(Timer.Builder timer, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(timer.tag("outcome", outcome).register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.crm.smsmanagementservice.message.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the outbound message outbox.
+ * Controls how many pending messages a worker claims at once, how long it holds them
+ * and how many times a message is claimed before it is given up on.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "message.outbox")
+public class MessageOutboxConfig {
+    private int batchSize = 50;
+    private Duration leaseDuration = Duration.ofSeconds(60);
+    private int maxAttempts = 3;
+}
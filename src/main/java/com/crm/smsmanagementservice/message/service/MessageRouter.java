@@ -0,0 +1,120 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * This class routes inbound messages to the conversation they answer.
+ * A route is recorded for every outbound message, keyed by our number and the customer number,
+ * along with a route for any of our numbers, used when the sender number is not known yet
+ * (messaging service sends). Routes are cached in memory, so routing an inbound message
+ * is a cache hit or a single lookup by id.
+ * Hit and miss counts are published as the "messageRoutes" cache metrics.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component
+@Slf4j(topic = "MESSAGE_ROUTER")
+public class MessageRouter {
+    static final String CACHE_NAME = "messageRoutes";
+
+    private final MessageRouteRepository messageRouteRepository;
+    private final MessageRepository messageRepository;
+    private final Cache<String, MessageRouteDocument> cache;
+
+    public MessageRouter(MessageRouteRepository messageRouteRepository, MessageRepository messageRepository,
+                         MessageRouteConfig routeConfig, MeterRegistry meterRegistry) {
+        this.messageRouteRepository = messageRouteRepository;
+        this.messageRepository = messageRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(routeConfig.getMaximumSize())
+                .expireAfterWrite(routeConfig.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * This method records the routes of outbound messages in a single bulk write.
+     * A failure is logged only; inbound messages then fall back to the message history.
+     * @param documents the outbound messages
+     */
+    public void record(Collection<MessageDocument> documents) {
+        ZonedDateTime now = ZonedDateTime.now();
+        Map<String, MessageRouteDocument> routes = new LinkedHashMap<>();
+        for (MessageDocument document : documents) {
+            if (document.getTo() == null || document.getConversationId() == null) {
+                continue;
+            }
+            MessageRouteDocument anyRoute = toRoute(MessageRouteDocument.ANY_NUMBER, document, now);
+            routes.put(anyRoute.getId(), anyRoute);
+            if (document.getFrom() != null) {
+                MessageRouteDocument route = toRoute(document.getFrom(), document, now);
+                routes.put(route.getId(), route);
+            }
+        }
+        try {
+            messageRouteRepository.upsertRoutes(routes.values());
+            cache.putAll(routes);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record {} message routes: {}", routes.size(), e.getMessage());
+            cache.invalidateAll(routes.keySet());
+        }
+    }
+
+    /**
+     * This method returns the route of an inbound message.
+     * Customers without a recorded route are looked up once in the message history, then recorded.
+     * @param ourNumber the number the message was sent to, may be null
+     * @param customerNumber the number the message was sent from
+     * @return the route, or empty if the customer was never messaged
+     */
+    public Optional<MessageRouteDocument> route(@Nullable String ourNumber, String customerNumber) {
+        if (ourNumber != null) {
+            MessageRouteDocument route = cache.get(MessageRouteDocument.idOf(ourNumber, customerNumber),
+                    id -> messageRouteRepository.findById(id).orElse(null));
+            if (route != null) {
+                return Optional.of(route);
+            }
+        }
+        return Optional.ofNullable(cache.get(MessageRouteDocument.idOf(MessageRouteDocument.ANY_NUMBER, customerNumber),
+                id -> messageRouteRepository.findById(id).orElseGet(() -> routeFromHistory(customerNumber))));
+    }
+
+    @Nullable
+    private MessageRouteDocument routeFromHistory(String customerNumber) {
+        return messageRepository.findFirstByToAndDirectionOrderByCreatedDateDesc(customerNumber, MessageDirection.OUTBOUND_API)
+                .map(document -> {
+                    log.info("Recording route of customer {} from message history", customerNumber);
+                    return messageRouteRepository.save(toRoute(MessageRouteDocument.ANY_NUMBER, document, ZonedDateTime.now()));
+                })
+                .orElse(null);
+    }
+
+    private MessageRouteDocument toRoute(String ourNumber, MessageDocument document, ZonedDateTime now) {
+        return MessageRouteDocument.builder()
+                .id(MessageRouteDocument.idOf(ourNumber, document.getTo()))
+                .ourNumber(ourNumber)
+                .customerNumber(document.getTo())
+                .conversationId(document.getConversationId())
+                .userId(document.getUserId())
+                .contactId(document.getContactId())
+                .updatedDate(now)
+                .build();
+    }
+}
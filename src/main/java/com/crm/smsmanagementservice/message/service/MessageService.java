@@ -1,31 +1,42 @@
 package com.crm.smsmanagementservice.message.service;
 
 import com.crm.smsmanagementservice.conversation.ConversationInternalAPI;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
 import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.dto.ItemRejection;
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import com.crm.smsmanagementservice.core.enums.CountMode;
 import com.crm.smsmanagementservice.core.enums.MessageDirection;
 import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.util.KeysetPageHelper;
+import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.message.BatchProgressDTO;
 import com.crm.smsmanagementservice.message.MessageDTO;
 import com.crm.smsmanagementservice.message.MessageExternalAPI;
 import com.crm.smsmanagementservice.message.MessageInternalAPI;
 import com.crm.smsmanagementservice.message.MessageType;
+import com.crm.smsmanagementservice.message.RecipientValidationDTO;
+import com.crm.smsmanagementservice.message.persistence.DispatchStatus;
 import com.crm.smsmanagementservice.message.persistence.MessageDocument;
 import com.crm.smsmanagementservice.message.persistence.MessageMapper;
 import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
 import com.crm.smsmanagementservice.provider.MessagingProviderInternalAPI;
-import com.crm.smsmanagementservice.provider.ProviderMessagingDTO;
 import io.micrometer.common.lang.NonNullApi;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.ZonedDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +51,14 @@ public class MessageService implements MessageExternalAPI, MessageInternalAPI {
     private final MessageRepository messageRepository;
     private final MessagingProviderInternalAPI messagingProvider;
     private final ConversationInternalAPI conversationInternalAPI;
+    private final MessageDispatcher messageDispatcher;
+    private final IPhoneNumberValidator phoneNumberValidator;
+    private final MessageRouter messageRouter;
+    private final MessageCounts messageCounts;
+    private final MessageStreamHub messageStreamHub;
+    private final MessageChangePublisher messageChangePublisher;
+    private final MessageStatusBuffer messageStatusBuffer;
+    private final MessageMetrics messageMetrics;
 
     @Override
     public MessageDTO getMessageById(String messageId) {
@@ -51,66 +70,139 @@ public class MessageService implements MessageExternalAPI, MessageInternalAPI {
     }
 
     @Override
-    public Page<MessageDTO> getMessageByParticipantId(String userId, String contactId, Pageable pageable) {
-        Page<MessageDocument> messageDocuments = messageRepository.findDeliveredMessagesByUserIdAndContactId(userId, contactId,pageable);
+    public Slice<MessageDTO> getMessageByParticipantId(String userId, String contactId, Pageable pageable) {
+        Slice<MessageDocument> messageDocuments = messageRepository.findDeliveredMessagesByUserIdAndContactId(userId, contactId,pageable);
         log.info("Fetched messages {} with userId: {} and contactId: {}", messageDocuments.getContent().size(), userId, contactId);
         return messageDocuments.map(messageMapper::toDTO);
     }
 
     @Override
-    public List<MessageDTO> createMessage(List<MessageDTO> messageCreateDTO) {
-        boolean isScheduled = messageCreateDTO.getFirst().scheduledDate() != null;
-        boolean isBatch = messageCreateDTO.size() > 10;
-        Map<String, ProviderMessagingDTO.MessageItemDTO> messageItemDTO = messageCreateDTO
-                .stream().parallel().collect(Collectors.toMap(
-                        messageDto -> messageDto.userId() + messageDto.contactId(),
-                        messageDTO -> new ProviderMessagingDTO.MessageItemDTO(
-                                messageDTO.content(),
-                                messageDTO.to(),
-                                messageDTO.from()
-                        )
-                ));
-
-        Map<String, DomainMessage> response;
-        if (isScheduled) {
-            response = messagingProvider.scheduleMessages(
-                    ProviderMessagingDTO.builder()
-                            .messageItems(messageItemDTO)
-                            .media(messageCreateDTO.getFirst().media())
-                            .scheduledDate(messageCreateDTO.getFirst().scheduledDate())
-                            .build());
-        } else if (isBatch) {
-            response = messagingProvider.bulkSendMessages(
-                    ProviderMessagingDTO.builder()
-                            .messageItems(messageItemDTO)
-                            .media(messageCreateDTO.getFirst().media())
-                            .build());
-        } else {
-            response = messagingProvider.sendMessages(
-                    ProviderMessagingDTO.builder()
-                            .messageItems(messageItemDTO)
-                            .media(messageCreateDTO.getFirst().media())
-                            .build());
-        }
-        log.info("Created messages: {}", response);
-        Map<String, MessageDocument> messageDocuments = response.entrySet()
-                .stream().parallel().collect(
-                Collectors.toMap(Map.Entry::getKey, entry ->
-                        messageMapper.toDocument(entry.getValue()))
-        );
+    @Nullable
+    public Long countMessagesByParticipantId(String userId, String contactId, CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case EXACT -> messageRepository.countDeliveredMessagesByUserIdAndContactId(userId, contactId);
+            case ESTIMATE -> messageCounts.estimateByParticipant(userId, contactId,
+                    key -> messageRepository.countDeliveredMessagesByUserIdAndContactId(key.userId(), key.contactId()));
+        };
+    }
 
-        List<MessageDocument> savedMessages =  messageRepository.saveAll(setFields(messageCreateDTO, messageDocuments));
+    @Override
+    public List<MessageDTO> createMessage(List<MessageDTO> messageCreateDTO) {
+        return messageMetrics.recordCreate(MessageMetrics.SYNC, messageCreateDTO.size(), () -> create(messageCreateDTO));
+    }
 
+    private List<MessageDTO> create(List<MessageDTO> messageCreateDTO) {
+        List<MessageDocument> messageDocuments = toPendingDocuments(messageCreateDTO);
+        messageRouter.record(messageDocuments);
+        countByUser(messageDocuments);
+        List<MessageDocument> savedMessages = messageDispatcher.dispatchNow(messageDocuments);
+        messageChangePublisher.messagesCreated(savedMessages);
+        log.info("Created {} messages, {} failed", savedMessages.size(),
+                savedMessages.stream().filter(document -> document.getDispatchStatus() == DispatchStatus.FAILED).count());
         return savedMessages.stream().map(messageMapper::toDTO).toList();
     }
 
     @Override
-    public Page<MessageDTO> getMessagesByUserId(String userId, Pageable pageable) {
-        Page<MessageDocument> messageDocuments = messageRepository.findMessageDocumentByUserId(userId, pageable);
+    public BatchProgressDTO queueMessages(List<MessageDTO> messageCreateDTO) {
+        return messageMetrics.recordCreate(MessageMetrics.ASYNC, messageCreateDTO.size(), () -> queue(messageCreateDTO));
+    }
+
+    private BatchProgressDTO queue(List<MessageDTO> messageCreateDTO) {
+        List<MessageDocument> messageDocuments = toPendingDocuments(messageCreateDTO);
+        String batchId = messageDocuments.getFirst().getBatchId();
+        messageRepository.saveAll(messageDocuments);
+        countByUser(messageDocuments);
+        messageRouter.record(messageDocuments);
+        messageChangePublisher.messagesCreated(messageDocuments);
+        log.info("Queued {} messages with batchId: {}", messageDocuments.size(), batchId);
+        messageDispatcher.dispatchBatch(batchId);
+        return BatchProgressDTO.builder()
+                .batchId(batchId)
+                .total(messageDocuments.size())
+                .pending(messageDocuments.size())
+                .build();
+    }
+
+    @Override
+    public RecipientValidationDTO validateRecipients(List<MessageDTO> messageCreateDTO) {
+        Map<String, Boolean> validity = phoneNumberValidator.validateAll(
+                messageCreateDTO.stream().map(MessageDTO::to).collect(Collectors.toSet()));
+        List<MessageDTO> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<ItemRejection> rejected = new ArrayList<>();
+        for (int i = 0; i < messageCreateDTO.size(); i++) {
+            MessageDTO messageDTO = messageCreateDTO.get(i);
+            if (Boolean.TRUE.equals(validity.get(messageDTO.to()))) {
+                accepted.add(messageDTO);
+                acceptedIndexes.add(i);
+            } else {
+                rejected.add(new ItemRejection(i, messageDTO.to(), "Invalid phone number"));
+            }
+        }
+        log.info("Validated {} recipients, {} rejected", messageCreateDTO.size(), rejected.size());
+        if (accepted.isEmpty()) {
+            throw new DomainException(Error.INVALID_REQUEST, "No valid recipients");
+        }
+        return RecipientValidationDTO.builder()
+                .accepted(accepted)
+                .acceptedIndexes(acceptedIndexes)
+                .rejected(rejected)
+                .build();
+    }
+
+    @Override
+    public BatchProgressDTO getBatchProgress(String batchId) {
+        long total = messageRepository.countByBatchId(batchId);
+        if (total == 0) {
+            throw new DomainException(Error.ENTITY_NOT_FOUND);
+        }
+        long dispatched = messageRepository.countByBatchIdAndDispatchStatus(batchId, DispatchStatus.DISPATCHED);
+        long failed = messageRepository.countByBatchIdAndDispatchStatus(batchId, DispatchStatus.FAILED);
+        long pending = total - dispatched - failed;
+        return BatchProgressDTO.builder()
+                .batchId(batchId)
+                .total(total)
+                .pending(pending)
+                .dispatched(dispatched)
+                .failed(failed)
+                .completed(pending == 0)
+                .build();
+    }
+
+    @Override
+    public Slice<MessageDTO> getMessagesByUserId(String userId, Pageable pageable) {
+        Slice<MessageDocument> messageDocuments = messageRepository.findMessageDocumentByUserId(userId, pageable);
         log.info("Fetched messages {} with userId: {}", messageDocuments.getContent().size(), userId);
         return messageDocuments.map(messageMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<MessageDTO> getMessagesByUserId(String userId, @Nullable String after, int size,
+                                                      Sort.Direction direction) {
+        PageCursor cursor = after == null ? null : PageCursor.decode(after);
+        List<MessageDocument> messageDocuments = messageRepository.findPageByUserId(userId, cursor, direction, size);
+        log.info("Fetched messages {} with userId: {} after: {}", Math.min(messageDocuments.size(), size), userId, after);
+        return KeysetPageHelper.toPage(messageDocuments, size,
+                        document -> new PageCursor(document.getCreatedDate(), document.getId()))
+                .map(messageMapper::toDTO);
+    }
+
+    @Override
+    @Nullable
+    public Long countMessagesByUserId(String userId, CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case EXACT -> messageRepository.countByUserId(userId);
+            case ESTIMATE -> messageCounts.estimateByUser(userId, messageRepository::countByUserId);
+        };
+    }
+
+    @Override
+    public SseEmitter streamMessagesByUserId(String userId) {
+        return messageStreamHub.subscribe(userId);
+    }
+
     @Override
     public MessageDTO cancelMessage(String messageId) {
         MessageDocument messageDocument = messageRepository.findById(messageId)
@@ -121,57 +213,85 @@ public class MessageService implements MessageExternalAPI, MessageInternalAPI {
         if (!messageDocument.canCancel()) {
             throw new DomainException(Error.INVALID_REQUEST, "Message cannot be cancelled, status: " + messageDocument.getStatus());
         }
-        if (!messagingProvider.cancelMessage(messageDocument.getResourceId())) {
+        if (messageDocument.isInOutbox()) {
+            log.info("Cancelling message id: {} before it reached the provider", messageId);
+        } else if (!messagingProvider.cancelMessage(messageDocument.getResourceId())) {
             throw new DomainException(Error.UNEXPECTED_ERROR, "Failed to cancel message");
         }
-        messageDocument.setStatus(MessageStatus.CANCELLED);
-        return messageMapper.toDTO(messageRepository.save(messageDocument));
+        MessageDocument cancelled = messageRepository.cancel(messageId)
+                .orElseThrow(() -> new DomainException(Error.INVALID_REQUEST, "Message cannot be cancelled, status changed"));
+        messageChangePublisher.statusChanged(cancelled);
+        return messageMapper.toDTO(cancelled);
     }
 
     @Override
     public void updateMessageStatus(String messageId, MessageStatus status, String errorMessage, String errorCode) {
         log.info("Updating message status with id: {} to: {} with error: {} and code: {}", messageId, status, errorMessage, errorCode);
-        MessageDocument messageDocument = messageRepository.findByResourceId(messageId)
-                .orElseThrow(() -> new DomainException(Error.ENTITY_NOT_FOUND));
-        if (messageDocument.getStatus().equals(status)) {
-            log.info("Message status with id: {} is already: {}", messageId, status);
+        MessageStatusUpdate update = new MessageStatusUpdate(messageId, status, errorCode, errorMessage);
+        if (!messageRepository.updateStatus(update)) {
+            retryIfNotStored(messageId, status, errorMessage, errorCode);
             return;
         }
-        messageDocument.setStatus(status);
-        messageDocument.setErrorCode(errorCode);
-        messageDocument.setErrorMessage(errorMessage);
-        messageRepository.save(messageDocument);
+        messageChangePublisher.statusesChanged(List.of(update));
     }
 
     @Override
     public void updateMessage(DomainMessage message) {
         log.info("Updating message: {}", message);
-        MessageDocument messageDocument = messageRepository.findByResourceId(message.getId())
-                .orElseThrow(() -> new DomainException(Error.ENTITY_NOT_FOUND));
-        if (!messageDocument.getStatus().equals(message.getStatus())) {
-            messageDocument.setStatus(message.getStatus());
-        }
-        if (message.getErrorCode().isPresent()) {
-            messageDocument.setErrorCode(message.getErrorCode().get());
-        }
-        if (message.getErrorMessage().isPresent()) {
-            messageDocument.setErrorMessage(message.getErrorMessage().get());
-        }
-        if (message.getDeliveredTime() != null) {
-            messageDocument.setDeliveredTime(message.getDeliveredTime());
-        }
-        if(message.getPrice() != null) {
-            messageDocument.setPrice(message.getPrice().abs());
+        MessageDocument changes = MessageDocument.builder()
+                .resourceId(message.getId())
+                .status(message.getStatus())
+                .errorCode(message.getErrorCode().orElse(null))
+                .errorMessage(message.getErrorMessage().orElse(null))
+                .deliveredTime(message.getDeliveredTime())
+                .price(message.getPrice() == null ? null : message.getPrice().abs())
+                .media(message.getMediaUrls().orElse(null))
+                .from(message.getSender().orElse(null))
+                .build();
+        if (!messageRepository.updateProviderFields(changes)) {
+            retryIfNotStored(message.getId(), message.getStatus(), changes.getErrorMessage(), changes.getErrorCode());
+            return;
         }
-        if(message.getMediaUrls().isPresent() && message.getMediaUrls().get() != messageDocument.getMedia()) {
-            messageDocument.setMedia(message.getMediaUrls().get());
+        providerFieldsChanged(changes);
+    }
+
+    /**
+     * This method hands the status change of a message not stored yet, such as a callback racing the dispatch
+     * of its message, to the status buffer, which writes it again until the message is stored.
+     * A change of a stored message that is already at or past the status is dropped.
+     */
+    private void retryIfNotStored(String messageId, MessageStatus status, @Nullable String errorMessage,
+                                  @Nullable String errorCode) {
+        if (messageRepository.existsByResourceId(messageId)) {
+            log.info("Message with id: {} is already at or past: {}", messageId, status);
+            return;
         }
+        log.info("Message with id: {} is not stored yet, retrying its status: {}", messageId, status);
+        messageStatusBuffer.offer(messageId, status, errorMessage, errorCode);
+    }
 
-        if(message.getSender().isPresent() && message.getSender().get() != messageDocument.getFrom()) {
-            messageDocument.setFrom(message.getSender().get());
+    @Override
+    public void reconcileMessage(DomainMessage message) {
+        log.info("Reconciling message: {}", message.getId());
+        MessageDocument changes = MessageDocument.builder()
+                .resourceId(message.getId())
+                .status(message.getStatus())
+                .price(message.getPrice() == null ? null : message.getPrice().abs())
+                .currency(message.getCurrency())
+                .messageSegmentCount(message.getSegmentCount().map(Integer::parseInt).orElse(null))
+                .build();
+        if (!messageRepository.updateProviderFields(changes)) {
+            log.info("Message with id: {} is unknown or already past: {}", message.getId(), message.getStatus());
+            return;
         }
+        providerFieldsChanged(changes);
+    }
 
-        messageRepository.save(messageDocument);
+    private void providerFieldsChanged(MessageDocument changes) {
+        if (changes.getStatus() != null) {
+            messageChangePublisher.statusesChanged(List.of(new MessageStatusUpdate(changes.getResourceId(),
+                    changes.getStatus(), changes.getErrorCode(), changes.getErrorMessage())));
+        }
     }
 
     @Override
@@ -181,16 +301,15 @@ public class MessageService implements MessageExternalAPI, MessageInternalAPI {
         MessageDocument messageDocument = messageMapper.toDocument(message);
         String sender = message.getSender().orElseThrow(
                 () -> new DomainException(Error.INVALID_REQUEST, "Sender is required"));
-        Optional<MessageDocument> previousMessage = messageRepository
-                .findFirstByToAndDirectionOrderByCreatedDateDesc(sender, MessageDirection.OUTBOUND_API);
-
-        if (previousMessage.isPresent()) {
-            log.info("Found previous message: {}", previousMessage.get().getId());
-            messageDocument.setConversationId(previousMessage.get().getConversationId());
-            messageDocument.setUserId(previousMessage.get().getUserId());
-            messageDocument.setContactId(previousMessage.get().getContactId());
+        Optional<MessageRouteDocument> route = messageRouter.route(message.getRecipient(), sender);
+
+        if (route.isPresent()) {
+            log.info("Routed inbound message to conversation: {}", route.get().getConversationId());
+            messageDocument.setConversationId(route.get().getConversationId());
+            messageDocument.setUserId(route.get().getUserId());
+            messageDocument.setContactId(route.get().getContactId());
         } else {
-            log.warn("No previous message found for sender: {}", sender);
+            log.warn("No route found for sender: {}", sender);
         }
 
         if (message.getStatus().equals(MessageStatus.RECEIVING)) {
@@ -202,21 +321,59 @@ public class MessageService implements MessageExternalAPI, MessageInternalAPI {
 
         messageDocument.setType(isMedia ? MessageType.MMS : MessageType.SMS);
         messageRepository.save(messageDocument);
+        messageChangePublisher.inboundCreated(messageDocument);
+        if (messageDocument.getUserId() != null) {
+            messageCounts.addToUser(messageDocument.getUserId(), 1);
+            if (messageDocument.getStatus() == MessageStatus.RECEIVED) {
+                messageCounts.addToParticipant(messageDocument.getUserId(), messageDocument.getContactId(), 1);
+            }
+        }
+    }
+
+    private void countByUser(List<MessageDocument> messageDocuments) {
+        messageDocuments.stream()
+                .filter(document -> document.getUserId() != null)
+                .collect(Collectors.groupingBy(MessageDocument::getUserId, Collectors.counting()))
+                .forEach(messageCounts::addToUser);
     }
 
-    private List<MessageDocument> setFields(List<MessageDTO> messageCreateDTO, Map<String, MessageDocument> messageDocuments) {
+    private Map<String, String> toMediaMap(List<String> media) {
+        Map<String, String> mediaMap = new LinkedHashMap<>();
+        if (media != null) {
+            for (int i = 0; i < media.size(); i++) {
+                mediaMap.put(String.valueOf(i), media.get(i));
+            }
+        }
+        return mediaMap;
+    }
+
+    private List<MessageDocument> toPendingDocuments(List<MessageDTO> messageCreateDTO) {
+        String batchId = UUID.randomUUID().toString();
+        boolean isBatch = messageCreateDTO.size() > 10;
         ZonedDateTime now = ZonedDateTime.now();
-        return messageCreateDTO.stream().parallel().map(messageDTO -> {
-            MessageDocument messageDocument = messageDocuments.get(messageDTO.userId() + messageDTO.contactId());
-            messageDocument.setUserId(messageDTO.userId());
-            messageDocument.setContactId(messageDTO.contactId());
-            messageDocument.setConversationId(conversationInternalAPI
-                    .findOrCreateConversation(messageDTO.userId(), messageDTO.contactId()));
-            messageDocument.setCreatedDate(now);
-            messageDocument.setDeliveredTime(now);
-            messageDocument.setScheduledDate(messageDTO.scheduledDate());
-            messageDocument.setType(messageDTO.type());
-            return messageDocument;
-        }).toList();
+        Map<String, Map<String, String>> conversationIds = new HashMap<>();
+        messageCreateDTO.stream()
+                .collect(Collectors.groupingBy(MessageDTO::userId, Collectors.mapping(MessageDTO::contactId, Collectors.toSet())))
+                .forEach((userId, contactIds) -> conversationIds.put(userId,
+                        conversationInternalAPI.findOrCreateConversations(userId, contactIds)));
+        return messageCreateDTO.stream().map(messageDTO -> MessageDocument.builder()
+                .batchId(batchId)
+                .userId(messageDTO.userId())
+                .contactId(messageDTO.contactId())
+                .conversationId(conversationIds.get(messageDTO.userId()).get(messageDTO.contactId()))
+                .to(messageDTO.to())
+                .from(messageDTO.from())
+                .content(messageDTO.content())
+                .type(messageDTO.type())
+                .media(toMediaMap(messageDTO.media()))
+                .scheduledDate(messageDTO.scheduledDate())
+                .status(MessageStatus.QUEUED)
+                .direction(MessageDirection.OUTBOUND_API)
+                .dispatchStatus(DispatchStatus.PENDING)
+                .dispatchAttempts(0)
+                .bulkSend(isBatch)
+                .createdDate(now)
+                .build()
+        ).toList();
     }
 }
@@ -0,0 +1,141 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class buffers provider status callbacks and writes them in bulk.
+ * Callbacks of the same message are coalesced into the status furthest in the message lifecycle,
+ * so a queued, sent and delivered burst costs a single update.
+ * A callback can arrive before the dispatch of its message is stored; such a change is kept
+ * and written again with the next flushes, until its message is stored or unmatchedRetention has passed.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Slf4j(topic = "MESSAGE_STATUS_BUFFER")
+public class MessageStatusBuffer {
+    private final MessageRepository messageRepository;
+    private final MessageStatusBufferConfig bufferConfig;
+    private final MessageChangePublisher messageChangePublisher;
+    private final Map<String, MessageStatusUpdate> pending = new ConcurrentHashMap<>();
+    private final Map<String, Instant> unmatchedSince = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * This method buffers a status change of a message.
+     * @param resourceId the provider resource id of the message
+     * @param status the new status
+     * @param errorMessage the provider error message
+     * @param errorCode the provider error code
+     */
+    public void offer(String resourceId, MessageStatus status, @Nullable String errorMessage, @Nullable String errorCode) {
+        merge(new MessageStatusUpdate(resourceId, status, errorCode, errorMessage));
+        if (pending.size() >= bufferConfig.getMaxItems()) {
+            flush();
+        }
+    }
+
+    /**
+     * This method writes the buffered status changes.
+     * Only one flush runs at a time; a concurrent call returns immediately.
+     */
+    @Scheduled(fixedDelayString = "${message.status-buffer.flushInterval:500}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<MessageStatusUpdate> updates = new ArrayList<>(pending.size());
+            for (String resourceId : pending.keySet()) {
+                MessageStatusUpdate update = pending.remove(resourceId);
+                if (update != null) {
+                    updates.add(update);
+                }
+            }
+            if (updates.isEmpty()) {
+                return;
+            }
+            try {
+                int modified = messageRepository.bulkUpdateStatus(updates);
+                log.info("Flushed {} message status updates, {} modified", updates.size(), modified);
+                List<MessageStatusUpdate> stored = updates;
+                if (modified < updates.size()) {
+                    Set<String> known = retryUnmatched(updates);
+                    stored = updates.stream().filter(update -> known.contains(update.resourceId())).toList();
+                } else {
+                    updates.forEach(update -> unmatchedSince.remove(update.resourceId()));
+                }
+                if (modified > 0) {
+                    messageChangePublisher.statusesChanged(stored);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} message status updates, keeping them for the next flush: {}",
+                        updates.size(), e.getMessage());
+                updates.forEach(this::merge);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * This method keeps the changes of messages not stored yet for the next flushes,
+     * and gives up on those unmatched for longer than unmatchedRetention.
+     * @param updates the changes just written
+     * @return the resource ids of the stored messages
+     */
+    private Set<String> retryUnmatched(List<MessageStatusUpdate> updates) {
+        Set<String> known = messageRepository.findKnownResourceIds(
+                updates.stream().map(MessageStatusUpdate::resourceId).toList());
+        Instant now = Instant.now();
+        int retried = 0;
+        for (MessageStatusUpdate update : updates) {
+            if (known.contains(update.resourceId())) {
+                unmatchedSince.remove(update.resourceId());
+                continue;
+            }
+            Instant since = unmatchedSince.computeIfAbsent(update.resourceId(), resourceId -> now);
+            if (Duration.between(since, now).compareTo(bufferConfig.getUnmatchedRetention()) > 0) {
+                unmatchedSince.remove(update.resourceId());
+                log.warn("Dropping status {} of message {}, still unknown after {}",
+                        update.status(), update.resourceId(), bufferConfig.getUnmatchedRetention());
+                continue;
+            }
+            merge(update);
+            retried++;
+        }
+        if (retried > 0) {
+            log.info("Keeping {} status updates of messages not stored yet for the next flush", retried);
+        }
+        return known;
+    }
+
+    private void merge(MessageStatusUpdate update) {
+        pending.merge(update.resourceId(), update, (current, incoming) ->
+                current.status().supersedes(incoming.status()) ? current : incoming);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
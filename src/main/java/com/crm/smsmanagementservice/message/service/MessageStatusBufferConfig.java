@@ -0,0 +1,27 @@
+package com.crm.smsmanagementservice.message.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the message status buffer.
+ * Buffered status changes are written every flush interval (in ms),
+ * or as soon as the buffer holds the maximum number of messages.
+ * A change of a message not stored yet is retried with the next flushes for up to unmatchedRetention.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "message.status-buffer")
+public class MessageStatusBufferConfig {
+    private long flushInterval = 500;
+    private int maxItems = 1000;
+    private Duration unmatchedRetention = Duration.ofMinutes(2);
+}
@@ -0,0 +1,63 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * This class caches who a dispatched message belongs to and its last announced status, keyed by its provider resource id.
+ * Messages are cached as their dispatch is stored, so the provider callbacks that follow are announced
+ * to the message streams and conversation summaries without reading the messages back.
+ * Hit and miss counts are published as the "messageStatuses" cache metrics.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component
+public class MessageStatusCache {
+    static final String CACHE_NAME = "messageStatuses";
+
+    private final Cache<String, MessageDocument> cache;
+
+    public MessageStatusCache(MessageStatusCacheConfig cacheConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * This method returns the cached status of a message.
+     * @param resourceId the provider resource id of the message
+     * @return the id, owner, conversation and status of the message, or null if it is not cached
+     */
+    @Nullable
+    public MessageDocument get(String resourceId) {
+        return cache.getIfPresent(resourceId);
+    }
+
+    /**
+     * This method caches the status of a message, if it has a provider resource id.
+     * @param document the message
+     */
+    public void put(MessageDocument document) {
+        if (document.getResourceId() == null) {
+            return;
+        }
+        cache.put(document.getResourceId(), MessageDocument.builder()
+                .id(document.getId())
+                .resourceId(document.getResourceId())
+                .userId(document.getUserId())
+                .conversationId(document.getConversationId())
+                .status(document.getStatus())
+                .errorCode(document.getErrorCode())
+                .build());
+    }
+}
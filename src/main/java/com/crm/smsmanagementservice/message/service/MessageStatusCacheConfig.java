@@ -0,0 +1,23 @@
+package com.crm.smsmanagementservice.message.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the cache of dispatched message statuses.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "message.status-cache")
+public class MessageStatusCacheConfig {
+    private long maximumSize = 100_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(30);
+}
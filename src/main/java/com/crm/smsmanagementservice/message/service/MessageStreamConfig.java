@@ -0,0 +1,29 @@
+package com.crm.smsmanagementservice.message.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the message event streams.
+ * Each subscriber buffers at most queueCapacity events; a subscriber that falls further
+ * behind is dropped and is expected to reconnect and reload its listing.
+ * Idle streams receive a heartbeat every heartbeatInterval (in ms).
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "message.stream")
+public class MessageStreamConfig {
+    private int maxSubscribers = 10_000;
+    private int maxSubscribersPerUser = 5;
+    private int queueCapacity = 256;
+    private Duration timeout = Duration.ofMinutes(30);
+    private long heartbeatInterval = 15_000;
+}
@@ -0,0 +1,31 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.message.MessageDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.annotation.Nullable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * This record is an event pushed on a user's message stream.
+ *
+ * @param type the event name, one of the TYPE constants
+ * @param messageId the message id
+ * @param conversationId the conversation of the message
+ * @param status the stored status of the message
+ * @param errorCode the provider error code of a failed message
+ * @param message the full message, sent with inbound messages only
+ * @param time the time of the change
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MessageStreamEvent(String type, String messageId, @Nullable String conversationId,
+                                 @Nullable MessageStatus status, @Nullable String errorCode,
+                                 @Nullable MessageDTO message, ZonedDateTime time) {
+    public static final String STATUS = "status";
+    public static final String INBOUND = "inbound";
+}
@@ -0,0 +1,201 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class pushes message changes to the open event streams of their user.
+ * A stream is an async servlet response, so an idle subscriber holds no thread.
+ * Each subscriber has a bounded queue drained on a virtual thread; a subscriber whose
+ * queue is full is not keeping up and is dropped, instead of buffering without bound.
+ * Streams carry no replay: a client reconnects and reloads its listing.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Slf4j(topic = "MESSAGE_STREAM_HUB")
+public class MessageStreamHub {
+    private static final MessageStreamEvent HEARTBEAT =
+            new MessageStreamEvent("heartbeat", "", null, null, null, null, ZonedDateTime.now());
+
+    private final MessageStreamConfig streamConfig;
+    private final MessageMapper messageMapper;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * This method opens an event stream of a user.
+     * @param userId the user id
+     * @return SseEmitter the stream
+     */
+    public SseEmitter subscribe(String userId) {
+        if (subscriberCount.incrementAndGet() > streamConfig.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new DomainException(Error.TOO_MANY_REQUESTS, "Too many open streams");
+        }
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(streamConfig.getTimeout().toMillis()),
+                new ArrayBlockingQueue<>(streamConfig.getQueueCapacity()));
+        AtomicBoolean admitted = new AtomicBoolean();
+        subscribers.compute(userId, (key, current) -> {
+            Set<Subscriber> userSubscribers = current == null ? ConcurrentHashMap.newKeySet() : current;
+            if (userSubscribers.size() < streamConfig.getMaxSubscribersPerUser()) {
+                userSubscribers.add(subscriber);
+                admitted.set(true);
+            }
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        if (!admitted.get()) {
+            subscriberCount.decrementAndGet();
+            throw new DomainException(Error.TOO_MANY_REQUESTS, "Too many open streams for user");
+        }
+        subscriber.emitter().onCompletion(() -> remove(subscriber));
+        subscriber.emitter().onTimeout(() -> remove(subscriber));
+        subscriber.emitter().onError(e -> remove(subscriber));
+        log.info("Opened message stream of user id: {}", userId);
+        return subscriber.emitter();
+    }
+
+    /**
+     * This method tells whether any stream is open.
+     * @return true if a stream is open
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * This method pushes the status of a message.
+     * @param document the message
+     */
+    public void publishStatus(MessageDocument document) {
+        if (document.getUserId() == null || !subscribers.containsKey(document.getUserId())) {
+            return;
+        }
+        publish(document.getUserId(), new MessageStreamEvent(MessageStreamEvent.STATUS, document.getId(),
+                document.getConversationId(), document.getStatus(), document.getErrorCode(), null,
+                document.getUpdatedDate() == null ? ZonedDateTime.now() : document.getUpdatedDate()));
+    }
+
+    /**
+     * This method pushes an inbound message.
+     * @param document the message
+     */
+    public void publishInbound(MessageDocument document) {
+        if (document.getUserId() == null || !subscribers.containsKey(document.getUserId())) {
+            return;
+        }
+        publish(document.getUserId(), new MessageStreamEvent(MessageStreamEvent.INBOUND, document.getId(),
+                document.getConversationId(), document.getStatus(), null, messageMapper.toDTO(document),
+                document.getCreatedDate() == null ? ZonedDateTime.now() : document.getCreatedDate()));
+    }
+
+    /**
+     * This method keeps idle streams open and finds streams whose client is gone.
+     */
+    @Scheduled(fixedDelayString = "${message.stream.heartbeatInterval:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.queue().isEmpty()) {
+                offer(subscriber, HEARTBEAT);
+            }
+        }));
+    }
+
+    private void publish(String userId, MessageStreamEvent event) {
+        if (userId == null) {
+            return;
+        }
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> offer(subscriber, event));
+        }
+    }
+
+    private void offer(Subscriber subscriber, MessageStreamEvent event) {
+        if (subscriber.closed().get()) {
+            return;
+        }
+        if (!subscriber.queue().offer(event)) {
+            log.warn("Dropping slow message stream of user id: {}", subscriber.userId());
+            remove(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                MessageStreamEvent event;
+                while ((event = subscriber.queue().poll()) != null) {
+                    send(subscriber.emitter(), event);
+                }
+                subscriber.draining().set(false);
+            } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            log.info("Message stream of user id: {} is closed: {}", subscriber.userId(), e.getMessage());
+            remove(subscriber);
+        }
+    }
+
+    private void send(SseEmitter emitter, MessageStreamEvent event) throws IOException {
+        if (event == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT.type()));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(eventIds.incrementAndGet()))
+                .name(event.type())
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.userId(), (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriberCount.decrementAndGet();
+        subscriber.queue().clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter().complete()));
+        executor.shutdownNow();
+    }
+
+    private record Subscriber(String userId, SseEmitter emitter, BlockingQueue<MessageStreamEvent> queue,
+                              AtomicBoolean draining, AtomicBoolean closed) {
+        Subscriber(String userId, SseEmitter emitter, BlockingQueue<MessageStreamEvent> queue) {
+            this(userId, emitter, queue, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+}
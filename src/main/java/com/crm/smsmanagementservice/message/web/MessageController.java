@@ -1,19 +1,32 @@
 package com.crm.smsmanagementservice.message.web;
 
+import com.crm.smsmanagementservice.core.dto.CursorPage;
 import com.crm.smsmanagementservice.core.dto.DomainAPIResponse;
+import com.crm.smsmanagementservice.core.dto.ItemRejection;
+import com.crm.smsmanagementservice.core.enums.CountMode;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.util.KeysetPageHelper;
 import com.crm.smsmanagementservice.core.util.PageableHelper;
+import com.crm.smsmanagementservice.message.BatchProgressDTO;
 import com.crm.smsmanagementservice.message.MessageDTO;
 import com.crm.smsmanagementservice.message.MessageExternalAPI;
 import com.crm.smsmanagementservice.message.MessageType;
+import com.crm.smsmanagementservice.message.RecipientValidationDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,6 +37,7 @@ import java.util.List;
 @RestController @RequestMapping("/api/v1/messages")
 @RequiredArgsConstructor @Slf4j(topic = "MESSAGE_CONTROLLER")
 public class MessageController {
+    private static final int MAX_SYNC_ITEMS = 20;
     private final MessageExternalAPI messageService;
 
     @GetMapping("/{id}")
@@ -39,28 +53,64 @@ public class MessageController {
         return ResponseEntity.ok(DomainAPIResponse);
     }
 
+    /**
+     * Lists a user's messages by offset page, or by cursor when cursor=true or after is given:
+     * the first cursor page is read with cursor=true, then pass the returned nextCursor as after.
+     * withCount is false, exact or estimate; cursor pages are not counted unless asked,
+     * offset pages are counted exactly unless asked otherwise.
+     */
     @GetMapping("/user/{id}")
     public ResponseEntity<DomainAPIResponse<List<MessageDTO>>> getMessagesByUserId(
             @PathVariable String id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false", required = false) boolean cursor,
             @RequestParam(defaultValue = "0", required = false) int page,
             @RequestParam(defaultValue = "10", required = false) int size,
             @RequestParam(defaultValue = "createdTime", required = false) String sortBy,
-            @RequestParam(defaultValue = "desc", required = false) String order) {
+            @RequestParam(defaultValue = "desc", required = false) String order,
+            @RequestParam(required = false) String withCount) {
+        if (cursor || after != null) {
+            CountMode countMode = CountMode.fromString(withCount, CountMode.NONE);
+            CursorPage<MessageDTO> response = messageService.getMessagesByUserId(
+                    id, after, KeysetPageHelper.pageSize(size), KeysetPageHelper.direction(order));
+            Long total = messageService.countMessagesByUserId(id, countMode);
+            DomainAPIResponse<List<MessageDTO>> domainAPIResponse =
+                    com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<List<MessageDTO>>builder()
+                            .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
+                            .status(HttpStatus.OK)
+                            .data(response.content())
+                            .nextCursor(response.next())
+                            .totalElements(total)
+                            .message("Messages fetched successfully")
+                    .build();
+            return ResponseEntity.ok(domainAPIResponse);
+        }
+        CountMode countMode = CountMode.fromString(withCount, CountMode.EXACT);
         Pageable pageable = PageableHelper.createPage(page, size, sortBy, order);
-        Page<MessageDTO> response = messageService.getMessagesByUserId(id, pageable);
+        Slice<MessageDTO> response = messageService.getMessagesByUserId(id, pageable);
+        Long total = messageService.countMessagesByUserId(id, countMode);
         DomainAPIResponse<List<MessageDTO>> domainAPIResponse =
                 com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<List<MessageDTO>>builder()
                         .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
                         .status(HttpStatus.OK)
                         .data(response.getContent())
                         .currentPage(response.getNumber())
-                        .totalPages(response.getTotalPages())
-                        .totalElements(response.getTotalElements())
+                        .totalPages(PageableHelper.totalPages(total, pageable.getPageSize()))
+                        .totalElements(total)
                         .message("Messages fetched successfully")
                 .build();
         return ResponseEntity.ok(domainAPIResponse);
     }
 
+    /**
+     * Streams a user's message status changes and inbound messages as server-sent events.
+     * The stream has no replay: on reconnect, reload the listing, then follow the stream again.
+     */
+    @GetMapping(path = "/user/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessagesByUserId(@PathVariable String id) {
+        return messageService.streamMessagesByUserId(id);
+    }
+
     @GetMapping
     public ResponseEntity<DomainAPIResponse<List<MessageDTO>>> getMessages(
             @RequestParam String userId,
@@ -68,24 +118,37 @@ public class MessageController {
             @RequestParam(defaultValue = "0", required = false) int page,
             @RequestParam(defaultValue = "10", required = false) int size,
             @RequestParam(defaultValue = "createdTime", required = false) String sortBy,
-            @RequestParam(defaultValue = "desc", required = false) String order) {
+            @RequestParam(defaultValue = "desc", required = false) String order,
+            @RequestParam(required = false) String withCount) {
+        CountMode countMode = CountMode.fromString(withCount, CountMode.EXACT);
         Pageable pageable = PageableHelper.createPage(page, size, sortBy, order);
-        Page<MessageDTO> response = messageService.getMessageByParticipantId(userId, contactId, pageable);
+        Slice<MessageDTO> response = messageService.getMessageByParticipantId(userId, contactId, pageable);
+        Long total = messageService.countMessagesByParticipantId(userId, contactId, countMode);
         DomainAPIResponse<List<MessageDTO>> domainAPIResponse =
                 com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<List<MessageDTO>>builder()
                 .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
                 .status(HttpStatus.OK)
                 .data(response.getContent())
                 .currentPage(response.getNumber())
-                .totalPages(response.getTotalPages())
-                .totalElements(response.getTotalElements())
+                .totalPages(PageableHelper.totalPages(total, pageable.getPageSize()))
+                .totalElements(total)
                 .message("Messages fetched successfully")
                 .build();
         return ResponseEntity.ok(domainAPIResponse);
     }
 
+    /**
+     * Creates messages. A synchronous request sends its items before answering, so it takes at most 20;
+     * up to 1000 are accepted with async=true, and sent in the background.
+     */
     @PostMapping
-    public ResponseEntity<DomainAPIResponse<List<MessageDTO>>> createMessage(@Valid @RequestBody MessageCreateDTO messageCreateDTO) {
+    public ResponseEntity<? extends DomainAPIResponse<?>> createMessage(
+            @Valid @RequestBody MessageCreateDTO messageCreateDTO,
+            @RequestParam(defaultValue = "false", required = false) boolean async) {
+        if (!async && messageCreateDTO.messageItems().size() > MAX_SYNC_ITEMS) {
+            throw new DomainException(Error.INVALID_REQUEST,
+                    "Must have between 1 and " + MAX_SYNC_ITEMS + " message items, or send with async=true");
+        }
         MessageType messageType = messageCreateDTO.media() == null ||
                 messageCreateDTO.media().isEmpty() ? MessageType.SMS : MessageType.MMS;
         List<MessageDTO> messageDTOS = messageCreateDTO.messageItems()
@@ -104,15 +167,55 @@ public class MessageController {
                 })
                 .toList();
 
-        List<MessageDTO> response = messageService.createMessage(messageDTOS);
+        RecipientValidationDTO recipients = messageService.validateRecipients(messageDTOS);
+        List<ItemRejection> rejected = recipients.rejected().isEmpty() ? null : recipients.rejected();
+        if (async) {
+            BatchProgressDTO batchProgress = messageService.queueMessages(recipients.accepted());
+            DomainAPIResponse<BatchProgressDTO> domainAPIResponse =
+                    com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<BatchProgressDTO>builder()
+                    .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
+                    .status(HttpStatus.ACCEPTED)
+                    .data(batchProgress)
+                    .rejected(rejected)
+                    .message("Messages accepted for delivery")
+                    .build();
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/messages/batch/" + batchProgress.batchId()))
+                    .body(domainAPIResponse);
+        }
+
+        List<MessageDTO> response = messageService.createMessage(recipients.accepted());
+        List<ItemRejection> failed = new ArrayList<>(recipients.rejected());
+        for (int i = 0; i < response.size(); i++) {
+            MessageDTO message = response.get(i);
+            if (message.status() == MessageStatus.FAILED) {
+                failed.add(new ItemRejection(recipients.acceptedIndexes().get(i), message.to(), message.errorMessage()));
+            }
+        }
+        boolean partial = failed.size() > recipients.rejected().size();
+        HttpStatus status = partial ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED;
         DomainAPIResponse<List<MessageDTO>> domainAPIResponse =
                 com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<List<MessageDTO>>builder()
                 .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
-                .status(HttpStatus.CREATED)
+                .status(status)
+                .data(response)
+                .rejected(failed.isEmpty() ? null : failed)
+                .message(partial ? "Messages created, some were not sent" : "Messages created successfully")
+                .build();
+        return ResponseEntity.status(status).body(domainAPIResponse);
+    }
+
+    @GetMapping("/batch/{id}")
+    public ResponseEntity<DomainAPIResponse<BatchProgressDTO>> getBatchProgress(@PathVariable String id) {
+        BatchProgressDTO response = messageService.getBatchProgress(id);
+        DomainAPIResponse<BatchProgressDTO> domainAPIResponse =
+                com.crm.smsmanagementservice.core.dto.DomainAPIResponse.<BatchProgressDTO>builder()
+                .responseStatus(com.crm.smsmanagementservice.core.dto.DomainAPIResponse.DomainAPIResponseStatus.SUCCESS)
+                .status(HttpStatus.OK)
                 .data(response)
-                .message("Messages created successfully")
+                .message("Batch progress fetched successfully")
                 .build();
-        return ResponseEntity.status(HttpStatus.CREATED).body(domainAPIResponse);
+        return ResponseEntity.ok(domainAPIResponse);
     }
 
     @PatchMapping("/{id}")
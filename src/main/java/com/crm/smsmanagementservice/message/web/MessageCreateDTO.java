@@ -30,7 +30,7 @@ public record MessageCreateDTO(
         @JsonProperty("scheduledDate") ZonedDateTime scheduledDate,
 
         @NotNull.List({@NotNull(message = "Must have at least 1 item ")})
-        @Size(min = 1, max = 20, message = "Must have between 1 and 20 message items")
+        @Size(min = 1, max = 1000, message = "Must have between 1 and 1000 message items")
         @JsonProperty("messageItems") List<@Valid MessageItemDTO> messageItems,
 
         @Nullable
@@ -45,7 +45,6 @@ public record MessageCreateDTO(
             @JsonProperty("content") String content,
             @NotNull(message = "Contact ID cannot be null")
             @JsonProperty("contactId") String contactId,
-            @ValidPhoneNumber(message = "Invalid phone number")
             @NotNull(message = "Recipient cannot be null")
             @JsonProperty("to") String to) {}
 }
@@ -1,17 +1,31 @@
 package com.crm.smsmanagementservice.provider;
 
-import com.crm.smsmanagementservice.core.dto.DomainMessage;
-
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
+ * The send methods taking a listener hand it each item's result as soon as its provider call completes,
+ * on the calling thread, so a caller can store the messages already sent before the rest of the batch is done.
+ *
  * @author : memo-aldu
  * @mailto : maldu064@uOttawa.ca
  * @created : 2024-07-06, Saturday
  */
 public interface MessagingProviderInternalAPI {
-    Map<String, DomainMessage> sendMessages(ProviderMessagingDTO messages);
-    Map<String, DomainMessage> scheduleMessages(ProviderMessagingDTO messages);
-    Map<String, DomainMessage> bulkSendMessages(ProviderMessagingDTO messages);
+    Map<String, ProviderSendResult> sendMessages(ProviderMessagingDTO messages, BiConsumer<String, ProviderSendResult> onResult);
+    Map<String, ProviderSendResult> scheduleMessages(ProviderMessagingDTO messages, BiConsumer<String, ProviderSendResult> onResult);
+    Map<String, ProviderSendResult> bulkSendMessages(ProviderMessagingDTO messages, BiConsumer<String, ProviderSendResult> onResult);
     boolean cancelMessage(String resourceId);
+
+    default Map<String, ProviderSendResult> sendMessages(ProviderMessagingDTO messages) {
+        return sendMessages(messages, (key, result) -> {});
+    }
+
+    default Map<String, ProviderSendResult> scheduleMessages(ProviderMessagingDTO messages) {
+        return scheduleMessages(messages, (key, result) -> {});
+    }
+
+    default Map<String, ProviderSendResult> bulkSendMessages(ProviderMessagingDTO messages) {
+        return bulkSendMessages(messages, (key, result) -> {});
+    }
 }
@@ -0,0 +1,67 @@
+package com.crm.smsmanagementservice.provider;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import jakarta.annotation.Nullable;
+
+/**
+ * This record is the outcome of a single provider call of a batch:
+ * either the message the provider accepted, or the failure it was rejected with.
+ * A failed item does not affect the other items of its batch.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public record ProviderSendResult(
+        @Nullable
+        DomainMessage message,
+        @Nullable
+        DomainException error
+) {
+    public static ProviderSendResult sent(DomainMessage message) {
+        return new ProviderSendResult(message, null);
+    }
+
+    public static ProviderSendResult failed(DomainException error) {
+        return new ProviderSendResult(null, error);
+    }
+
+    public boolean isSent() {
+        return message != null;
+    }
+
+    /**
+     * This method tells whether the call was turned away, could not connect, or was rate limited by the provider,
+     * in which case it can be made again later without risk of a duplicate.
+     * @return true if the provider did not take the message
+     */
+    public boolean isNotAttempted() {
+        return error instanceof ProviderUnavailableException
+                || error instanceof ProviderException providerException && !providerException.isRequestSent()
+                || isRateLimited();
+    }
+
+    /**
+     * This method tells whether the provider turned the call away with a rate limit (HTTP 429).
+     * @return true if the call was rate limited
+     */
+    public boolean isRateLimited() {
+        return error instanceof ProviderException providerException && providerException.getProviderStatus() == 429;
+    }
+
+    /**
+     * This method returns the error code to store with a failed message:
+     * the provider's own code when it gave one, otherwise the domain error code.
+     * @return the error code, null if the call succeeded
+     */
+    @Nullable
+    public String errorCode() {
+        if (error instanceof ProviderException providerException && providerException.getProviderCode() != null) {
+            return providerException.getProviderCode();
+        }
+        return error == null ? null : error.getCode();
+    }
+}
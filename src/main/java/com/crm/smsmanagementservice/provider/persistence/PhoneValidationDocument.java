@@ -0,0 +1,29 @@
+package com.crm.smsmanagementservice.provider.persistence;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.ZonedDateTime;
+
+/**
+ * This class represents the stored outcome of a phone number lookup.
+ * It is keyed by the E.164 form of the number and removed by Mongo once expired.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter @Builder
+@Document(collection = "phone_validations")
+public class PhoneValidationDocument {
+    @Id
+    private String number;
+    private boolean valid;
+    private ZonedDateTime validatedDate;
+    @Indexed(name = "expires_at_ttl", expireAfterSeconds = 0)
+    private ZonedDateTime expiresAt;
+}
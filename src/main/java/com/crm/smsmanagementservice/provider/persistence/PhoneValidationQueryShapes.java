@@ -0,0 +1,24 @@
+package com.crm.smsmanagementservice.provider.persistence;
+
+import com.crm.smsmanagementservice.core.config.MongoQueryShape;
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Date;
+
+/**
+ * The query shapes of the phone validation repository, verified against the indexes of {@link PhoneValidationDocument}.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Configuration
+class PhoneValidationQueryShapes {
+    @Bean
+    MongoQueryShape unexpiredPhoneValidations() {
+        return new MongoQueryShape("phoneValidations.unexpired", "phone_validations",
+                new Document("expiresAt", new Document("$gt", new Date())), new Document("validatedDate", -1));
+    }
+}
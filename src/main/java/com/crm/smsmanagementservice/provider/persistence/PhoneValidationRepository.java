@@ -0,0 +1,22 @@
+package com.crm.smsmanagementservice.provider.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mongo repository for persisting phone number lookup outcomes.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Repository
+public interface PhoneValidationRepository extends MongoRepository<PhoneValidationDocument, String> {
+    List<PhoneValidationDocument> findByNumberInAndExpiresAtAfter(Collection<String> numbers, ZonedDateTime now);
+    List<PhoneValidationDocument> findByExpiresAtAfterOrderByValidatedDateDesc(ZonedDateTime now, Pageable pageable);
+}
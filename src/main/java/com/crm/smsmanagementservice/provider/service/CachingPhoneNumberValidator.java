@@ -0,0 +1,209 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.provider.persistence.PhoneValidationDocument;
+import com.crm.smsmanagementservice.provider.persistence.PhoneValidationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * This class validates phone numbers through a cache in front of the provider lookup,
+ * the validator qualified as {@value #LOOKUP_QUALIFIER}.
+ * Numbers are checked offline and normalized to E.164 first, so malformed numbers never reach the network
+ * and different spellings of a number share one entry.
+ * Lookup outcomes are kept in memory and in Mongo, with a longer lifetime for valid numbers than invalid ones,
+ * so the cache survives restarts. Hit and miss counts are published as the "phoneValidation" cache metrics.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Primary @Component
+@Slf4j(topic = "PHONE_VALIDATION_CACHE")
+public class CachingPhoneNumberValidator implements IPhoneNumberValidator {
+    public static final String LOOKUP_QUALIFIER = "phoneNumberLookup";
+    static final String CACHE_NAME = "phoneValidation";
+
+    private final IPhoneNumberValidator lookupValidator;
+    private final PhoneNumberNormalizer phoneNumberNormalizer;
+    private final PhoneValidationRepository phoneValidationRepository;
+    private final PhoneValidationConfig validationConfig;
+    private final Cache<String, Boolean> cache;
+
+    public CachingPhoneNumberValidator(@Qualifier(LOOKUP_QUALIFIER) IPhoneNumberValidator lookupValidator,
+                                       PhoneNumberNormalizer phoneNumberNormalizer,
+                                       PhoneValidationRepository phoneValidationRepository,
+                                       PhoneValidationConfig validationConfig,
+                                       MeterRegistry meterRegistry) {
+        this.lookupValidator = lookupValidator;
+        this.phoneNumberNormalizer = phoneNumberNormalizer;
+        this.phoneValidationRepository = phoneValidationRepository;
+        this.validationConfig = validationConfig;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(validationConfig.getMaximumSize())
+                .expireAfter(new ValidationExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext constraintValidatorContext) {
+        Optional<String> number = phoneNumberNormalizer.toE164(value);
+        if (number.isEmpty()) {
+            log.info("Phone number {} is malformed", value);
+            return false;
+        }
+        return cache.get(number.get(), this::lookup);
+    }
+
+    /**
+     * This method validates a batch of phone numbers.
+     * Numbers are deduplicated by their E.164 form, stored outcomes are loaded in one query,
+     * and the remaining lookups run concurrently, bounded by the configured concurrency.
+     * @param values the phone numbers
+     * @return a map of every given phone number to whether it is valid
+     */
+    @Override
+    public Map<String, Boolean> validateAll(Collection<String> values) {
+        Map<String, Optional<String>> normalized = new HashMap<>();
+        values.forEach(value -> normalized.computeIfAbsent(value, phoneNumberNormalizer::toE164));
+        Set<String> numbers = normalized.values().stream()
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        prewarm(numbers);
+
+        Map<String, Boolean> validity = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(Math.max(1, validationConfig.getMaxConcurrency()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> lookups = numbers.stream()
+                    .<Future<?>>map(number -> executor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            validity.put(number, cache.get(number, this::lookup));
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }))
+                    .toList();
+            for (Future<?> lookup : lookups) {
+                lookup.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DomainException(Error.UNEXPECTED_ERROR, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException(Error.UNEXPECTED_ERROR, "Interrupted while validating phone numbers");
+        }
+        log.info("Validated {} phone numbers, {} distinct", values.size(), numbers.size());
+
+        Map<String, Boolean> results = new HashMap<>();
+        normalized.forEach((value, number) -> results.put(value, number.map(validity::get).orElse(false)));
+        return results;
+    }
+
+    /**
+     * This method loads the stored outcomes of the given numbers into the cache with a single query.
+     * Numbers without a stored outcome are left to be looked up on first use.
+     * @param values the phone numbers
+     */
+    public void prewarm(Collection<String> values) {
+        Set<String> numbers = values.stream()
+                .map(phoneNumberNormalizer::toE164)
+                .flatMap(Optional::stream)
+                .filter(number -> cache.getIfPresent(number) == null)
+                .collect(Collectors.toSet());
+        if (numbers.isEmpty()) {
+            return;
+        }
+        List<PhoneValidationDocument> stored = phoneValidationRepository
+                .findByNumberInAndExpiresAtAfter(numbers, ZonedDateTime.now());
+        stored.forEach(this::putStored);
+        log.info("Prewarmed {} of {} phone numbers", stored.size(), numbers.size());
+    }
+
+    /**
+     * This method loads the most recently validated numbers into the cache once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarmRecent() {
+        List<PhoneValidationDocument> stored = phoneValidationRepository.findByExpiresAtAfterOrderByValidatedDateDesc(
+                ZonedDateTime.now(), PageRequest.of(0, validationConfig.getPrewarmSize()));
+        stored.forEach(this::putStored);
+        log.info("Prewarmed {} stored phone number validations", stored.size());
+    }
+
+    private Boolean lookup(String number) {
+        Optional<PhoneValidationDocument> stored = phoneValidationRepository.findById(number)
+                .filter(document -> document.getExpiresAt().isAfter(ZonedDateTime.now()));
+        if (stored.isPresent()) {
+            return stored.get().isValid();
+        }
+        boolean valid = lookupValidator.isValid(number, null);
+        ZonedDateTime now = ZonedDateTime.now();
+        phoneValidationRepository.save(PhoneValidationDocument.builder()
+                .number(number)
+                .valid(valid)
+                .validatedDate(now)
+                .expiresAt(now.plus(ttl(valid)))
+                .build());
+        return valid;
+    }
+
+    private void putStored(PhoneValidationDocument document) {
+        Duration remaining = Duration.between(ZonedDateTime.now(), document.getExpiresAt());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        cache.policy().expireVariably().ifPresentOrElse(
+                policy -> policy.put(document.getNumber(), document.isValid(), remaining),
+                () -> cache.put(document.getNumber(), document.isValid()));
+    }
+
+    private Duration ttl(boolean valid) {
+        return valid ? validationConfig.getPositiveTtl() : validationConfig.getNegativeTtl();
+    }
+
+    /**
+     * Expires an entry after the lifetime of its outcome.
+     */
+    private class ValidationExpiry implements Expiry<String, Boolean> {
+        @Override
+        public long expireAfterCreate(String number, Boolean valid, long currentTime) {
+            return ttl(valid).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String number, Boolean valid, long currentTime, long currentDuration) {
+            return ttl(valid).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String number, Boolean valid, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import com.crm.smsmanagementservice.provider.MessagingProviderExternalAPI;
 import com.crm.smsmanagementservice.provider.MessagingProviderInternalAPI;
 import com.crm.smsmanagementservice.provider.ProviderMessagingDTO;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
 import com.crm.smsmanagementservice.provider.web.InboundMessageDTO;
 import com.crm.smsmanagementservice.provider.web.MessageStatusUpdateDTO;
 import lombok.NonNull;
@@ -20,7 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 /**
  * @author : memo-aldu
@@ -32,79 +33,59 @@ import java.util.stream.Collectors;
 public class MessageProviderService implements MessagingProviderInternalAPI, MessagingProviderExternalAPI {
     private final @NonNull MessagingClient messagingClient;
     private final @NonNull ApplicationEventPublisher applicationEventPublisher;
+    private final @NonNull ProviderDispatcher providerDispatcher;
+    private final @NonNull MessageReconciler messageReconciler;
 
     @NonNull
     @Override
-    public Map<String, DomainMessage> sendMessages(@NonNull ProviderMessagingDTO messages) {
+    public Map<String, ProviderSendResult> sendMessages(@NonNull ProviderMessagingDTO messages,
+                                                        @NonNull BiConsumer<String, ProviderSendResult> onResult) {
         boolean isMMS = this.isMMS(messages);
         if (isMMS) {
             log.info("Sending {} MMS messages", messages.messageItems().size());
-            return messages.messageItems().entrySet().stream().parallel().collect(
-                    Collectors.toMap(Map.Entry::getKey, entry -> messagingClient.sendMMSFromNumber(
-                            entry.getValue().recipient(),
-                            entry.getValue().sender(),
-                            entry.getValue().content(),
-                            messages.media()
-                    )
-            ));
+            return providerDispatcher.dispatch(messages.messageItems(), ProviderMessagingDTO.MessageItemDTO::sender,
+                    item -> messagingClient.sendMMSFromNumber(item.recipient(), item.sender(), item.content(), messages.media()),
+                    onResult);
         }
         log.info("Sending {} SMS messages", messages.messageItems().size());
-        return messages.messageItems().entrySet().stream().parallel().collect(
-                Collectors.toMap(Map.Entry::getKey, entry -> messagingClient.sendSMSFromNumber(
-                        entry.getValue().recipient(),
-                        entry.getValue().sender(),
-                        entry.getValue().content()
-                )
-        ));
+        return providerDispatcher.dispatch(messages.messageItems(), ProviderMessagingDTO.MessageItemDTO::sender,
+                item -> messagingClient.sendSMSFromNumber(item.recipient(), item.sender(), item.content()),
+                onResult);
     }
 
     @Override @NonNull
-    public Map<String, DomainMessage> scheduleMessages(@NonNull ProviderMessagingDTO messages) {
+    public Map<String, ProviderSendResult> scheduleMessages(@NonNull ProviderMessagingDTO messages,
+                                                            @NonNull BiConsumer<String, ProviderSendResult> onResult) {
         if (messages.scheduledDate() == null) {
             throw new DomainException(Error.INVALID_REQUEST);
         }
         boolean isMMS = this.isMMS(messages);
         if (isMMS) {
             log.info("Scheduling {} MMS messages", messages.messageItems().size());
-            return messages.messageItems().entrySet().stream().parallel().collect(
-                    Collectors.toMap(Map.Entry::getKey, entry -> messagingClient.scheduleMMS(
-                            entry.getValue().recipient(),
-                            entry.getValue().content(),
-                            messages.media(),
-                            messages.scheduledDate()
-                    )
-            ));
+            return providerDispatcher.dispatch(messages.messageItems(), item -> ProviderDispatcher.SCHEDULING_SERVICE_KEY,
+                    item -> messagingClient.scheduleMMS(item.recipient(), item.content(), messages.media(), messages.scheduledDate()),
+                    onResult);
         }
         log.info("Scheduling {} SMS messages", messages.messageItems().size());
-        return messages.messageItems().entrySet().stream().parallel().collect(
-                Collectors.toMap(Map.Entry::getKey, entry -> messagingClient.scheduleSMS(
-                        entry.getValue().recipient(),
-                        entry.getValue().content(),
-                        messages.scheduledDate()
-                )
-        ));
+        return providerDispatcher.dispatch(messages.messageItems(), item -> ProviderDispatcher.SCHEDULING_SERVICE_KEY,
+                item -> messagingClient.scheduleSMS(item.recipient(), item.content(), messages.scheduledDate()),
+                onResult);
     }
 
     @Override @NonNull
-    public Map<String, DomainMessage> bulkSendMessages(@NonNull ProviderMessagingDTO messages) {
+    public Map<String, ProviderSendResult> bulkSendMessages(@NonNull ProviderMessagingDTO messages,
+                                                            @NonNull BiConsumer<String, ProviderSendResult> onResult) {
         boolean isMMS = this.isMMS(messages);
         if (isMMS) {
             log.info("Bulk sending {} MMS messages", messages.messageItems().size());
-            return messages.messageItems().entrySet().stream().parallel().collect(
-                    Collectors.toMap(Map.Entry::getKey, entry -> messagingClient.sendMMSFromService(
-                            entry.getValue().recipient(),
-                            entry.getValue().content(),
-                            messages.media()
-                    )
-            ));
+            return providerDispatcher.dispatch(messages.messageItems(), item -> ProviderDispatcher.BULK_SERVICE_KEY,
+                    item -> messagingClient.sendMMSFromService(item.recipient(), item.content(), messages.media()),
+                    onResult);
         }
         log.info("Bulk sending {} SMS messages", messages.messageItems().size());
-        return messages.messageItems().entrySet().stream().parallel().collect(
-                Collectors.toMap(Map.Entry::getKey, entry -> messagingClient.sendSMSFromService(
-                        entry.getValue().recipient(),
-                        entry.getValue().content()
-                )
-        ));
+        return providerDispatcher.dispatch(messages.messageItems(), item -> ProviderDispatcher.BULK_SERVICE_KEY,
+                item -> messagingClient.sendSMSFromService(item.recipient(), item.content()),
+                onResult);
     }
 
     @Override
@@ -115,10 +96,11 @@ public class MessageProviderService implements MessagingProviderInternalAPI, Mes
 
     @Override
     public void handleIncomingMessage(InboundMessageDTO message) {
-        DomainMessage domainMessage = messagingClient.fetchMessageById(message.messageId());
+        DomainMessage domainMessage = WebhookMessage.fromInbound(message);
         InboundMessageEvent inboundMessageEvent = new InboundMessageEvent(this, domainMessage);
         log.info("Publishing inbound message event");
         applicationEventPublisher.publishEvent(inboundMessageEvent);
+        messageReconciler.schedule(message.messageId());
     }
 
     @Override
@@ -127,10 +109,11 @@ public class MessageProviderService implements MessagingProviderInternalAPI, Mes
         MessageStatus messageStatus = MessageStatus.fromString(message.messageStatus());
         if (messageStatus == MessageStatus.DELIVERED) {
             log.info("Message delivered: {}", message.messageId());
-            DomainMessage domainMessage = messagingClient.fetchMessageById(message.messageId());
+            DomainMessage domainMessage = WebhookMessage.fromStatusUpdate(message, messageStatus);
             DeliveredMessageEvent deliveredMessageEvent = new DeliveredMessageEvent(this, domainMessage);
             log.info("Publishing delivered message event");
             applicationEventPublisher.publishEvent(deliveredMessageEvent);
+            messageReconciler.schedule(message.messageId());
         } else {
             UpdateMessageEvent updateMessageEvent = new UpdateMessageEvent(
                     this, message.messageId(), message.accountId(), message.serviceId(),
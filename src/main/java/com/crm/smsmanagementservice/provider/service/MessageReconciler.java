@@ -0,0 +1,81 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.config.SchedulingConfig;
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.event.ReconciledMessageEvent;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class fills in the fields a provider webhook does not carry.
+ * Messages handled from their webhook alone are queued here and fetched from the provider in batches,
+ * off the webhook path, once the provider had time to settle their price and segment count.
+ * The queue is held in memory, so pending messages are lost on restart and keep their webhook fields.
+ * Fetches run on the provider scheduler, next to the outbox.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+@Slf4j(topic = "MESSAGE_RECONCILER")
+public class MessageReconciler {
+    public static final String RECONCILER_KEY = "reconciler";
+
+    private final MessagingClient messagingClient;
+    private final ProviderDispatcher providerDispatcher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MessageReconcilerConfig reconcilerConfig;
+    private final Map<String, Instant> pending = new ConcurrentHashMap<>();
+
+    /**
+     * This method queues a message to be fetched from the provider once its delay has passed.
+     * @param messageId the provider message id
+     */
+    public void schedule(String messageId) {
+        if (pending.size() >= reconcilerConfig.getMaxPending()) {
+            log.warn("Reconciler queue is full, skipping message: {}", messageId);
+            return;
+        }
+        pending.putIfAbsent(messageId, Instant.now().plus(reconcilerConfig.getDelay()));
+    }
+
+    /**
+     * This method fetches the due messages from the provider and publishes their provider fields.
+     * A message that cannot be fetched keeps the fields of its webhook.
+     */
+    @Scheduled(fixedDelayString = "${provider.reconciler.interval:10000}", scheduler = SchedulingConfig.PROVIDER_SCHEDULER)
+    public void reconcile() {
+        Instant now = Instant.now();
+        Map<String, String> due = new LinkedHashMap<>();
+        for (Map.Entry<String, Instant> entry : pending.entrySet()) {
+            if (due.size() >= reconcilerConfig.getBatchSize()) {
+                break;
+            }
+            if (!entry.getValue().isAfter(now) && pending.remove(entry.getKey(), entry.getValue())) {
+                due.put(entry.getKey(), entry.getKey());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        Map<String, ProviderSendResult> fetched = providerDispatcher.dispatchIdempotent(due, messageId -> RECONCILER_KEY,
+                messagingClient::fetchMessageById);
+        List<DomainMessage> reconciled = fetched.values().stream()
+                .filter(ProviderSendResult::isSent)
+                .map(ProviderSendResult::message)
+                .toList();
+        reconciled.forEach(message -> applicationEventPublisher.publishEvent(new ReconciledMessageEvent(this, message)));
+        log.info("Reconciled {} of {} messages", reconciled.size(), due.size());
+    }
+}
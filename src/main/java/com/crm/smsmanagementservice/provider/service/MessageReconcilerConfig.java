@@ -0,0 +1,26 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the message reconciler.
+ * Messages are fetched from the provider once their late fields (price, segment count) had time to settle,
+ * at most batchSize per round, and at most maxPending messages wait in memory.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "provider.reconciler")
+public class MessageReconcilerConfig {
+    private Duration delay = Duration.ofSeconds(30);
+    private int batchSize = 100;
+    private int maxPending = 10000;
+}
@@ -0,0 +1,118 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * This class times every call to a messaging provider's client, as the "provider.client.requests" timer.
+ * Calls are tagged by provider, operation, message type (sms, mms or none), outcome (success, rate_limited, rejected
+ * or error) and the provider error code, so a slow or failing campaign can be traced to the provider.
+ * Calls go through the provider's bulkhead and circuit breaker; a call they turn away is tagged rejected.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@RequiredArgsConstructor
+public class MeteredMessagingClient implements MessagingClient {
+    static final String METER_NAME = "provider.client.requests";
+    static final String NONE = "none";
+
+    private final String provider;
+    private final MessagingClient messagingClient;
+    private final MeterRegistry meterRegistry;
+    private final ProviderBulkhead bulkhead;
+    private final ProviderCircuitBreaker circuitBreaker;
+
+    @Override
+    public DomainMessage sendSMSFromNumber(String to, String from, String body) {
+        return record("sendFromNumber", "sms", () -> messagingClient.sendSMSFromNumber(to, from, body));
+    }
+
+    @Override
+    public DomainMessage sendMMSFromNumber(String to, String from, String body, List<String> mediaUrls) {
+        return record("sendFromNumber", "mms", () -> messagingClient.sendMMSFromNumber(to, from, body, mediaUrls));
+    }
+
+    @Override
+    public DomainMessage scheduleSMS(String to, String body, ZonedDateTime sendAfter) {
+        return record("schedule", "sms", () -> messagingClient.scheduleSMS(to, body, sendAfter));
+    }
+
+    @Override
+    public DomainMessage scheduleMMS(String to, String body, List<String> mediaUrls, ZonedDateTime sendAfter) {
+        return record("schedule", "mms", () -> messagingClient.scheduleMMS(to, body, mediaUrls, sendAfter));
+    }
+
+    @Override
+    public DomainMessage sendSMSFromNumber(String to, String body) {
+        return record("sendFromNumber", "sms", () -> messagingClient.sendSMSFromNumber(to, body));
+    }
+
+    @Override
+    public DomainMessage sendMMSFromNumber(String to, String body, List<String> mediaUrls) {
+        return record("sendFromNumber", "mms", () -> messagingClient.sendMMSFromNumber(to, body, mediaUrls));
+    }
+
+    @Override
+    public DomainMessage sendSMSFromService(String to, String body) {
+        return record("sendFromService", "sms", () -> messagingClient.sendSMSFromService(to, body));
+    }
+
+    @Override
+    public DomainMessage sendMMSFromService(String to, String body, List<String> mediaUrls) {
+        return record("sendFromService", "mms", () -> messagingClient.sendMMSFromService(to, body, mediaUrls));
+    }
+
+    @Override
+    public DomainMessage fetchMessageById(String id) {
+        return record("fetch", NONE, () -> messagingClient.fetchMessageById(id));
+    }
+
+    @Override
+    public DomainMessage cancelMessage(String id) {
+        return record("cancel", NONE, () -> messagingClient.cancelMessage(id));
+    }
+
+    private DomainMessage record(String operation, String type, Supplier<DomainMessage> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        String errorCode = NONE;
+        try {
+            DomainMessage message = bulkhead.execute(() -> circuitBreaker.execute(call));
+            outcome = "success";
+            errorCode = message.getErrorCode().orElse(NONE);
+            return message;
+        } catch (ProviderException e) {
+            outcome = e.getProviderStatus() == 429 ? "rate_limited" : "error";
+            errorCode = Objects.requireNonNullElse(e.getProviderCode(), e.getCode());
+            throw e;
+        } catch (ProviderUnavailableException e) {
+            outcome = "rejected";
+            errorCode = e.getCode();
+            throw e;
+        } catch (DomainException e) {
+            errorCode = e.getCode();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METER_NAME)
+                    .description("Calls to the messaging provider")
+                    .tag("provider", provider)
+                    .tag("operation", operation)
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .tag("errorCode", errorCode)
+                    .register(meterRegistry));
+        }
+    }
+}
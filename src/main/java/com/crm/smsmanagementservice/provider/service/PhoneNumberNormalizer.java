@@ -0,0 +1,44 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * This class checks phone numbers offline and normalizes them to E.164.
+ * Numbers that cannot be parsed, or cannot possibly exist in their region, are rejected
+ * without a provider lookup.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+public class PhoneNumberNormalizer {
+    private final PhoneNumberUtil phoneNumberUtil = PhoneNumberUtil.getInstance();
+    private final PhoneValidationConfig validationConfig;
+
+    /**
+     * This method returns the E.164 form of a phone number.
+     * @param value the phone number, in international or default region format
+     * @return the E.164 number, or empty if the number is malformed
+     */
+    public Optional<String> toE164(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Phonenumber.PhoneNumber number = phoneNumberUtil.parse(value, validationConfig.getDefaultRegion());
+            if (!phoneNumberUtil.isPossibleNumber(number)) {
+                return Optional.empty();
+            }
+            return Optional.of(phoneNumberUtil.format(number, PhoneNumberUtil.PhoneNumberFormat.E164));
+        } catch (NumberParseException e) {
+            return Optional.empty();
+        }
+    }
+}
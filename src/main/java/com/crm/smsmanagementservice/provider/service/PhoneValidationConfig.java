@@ -0,0 +1,28 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the phone number validation cache.
+ * Valid numbers are trusted for longer than invalid ones, which may be ported or provisioned later.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "provider.validation")
+public class PhoneValidationConfig {
+    private String defaultRegion = "US";
+    private long maximumSize = 100_000;
+    private Duration positiveTtl = Duration.ofDays(30);
+    private Duration negativeTtl = Duration.ofDays(1);
+    private int prewarmSize = 10_000;
+    private int maxConcurrency = 16;
+}
@@ -0,0 +1,63 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This class bounds the calls to a messaging provider in flight across all senders. Each provider has its own.
+ * When the provider slows down, calls beyond the bound wait at most maxWait for a slot and are then rejected
+ * with a {@link ProviderUnavailableException}, so threads do not pile up behind the provider.
+ * The free slots are published as the "provider.bulkhead.available" gauge, tagged by provider.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+public class ProviderBulkhead {
+    private final String provider;
+    private final ProviderResilienceConfig.Bulkhead config;
+    private final Semaphore slots;
+
+    ProviderBulkhead(String provider, ProviderResilienceConfig resilienceConfig, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.config = resilienceConfig.getBulkhead();
+        this.slots = new Semaphore(Math.max(1, config.getMaxConcurrentCalls()), true);
+        Gauge.builder("provider.bulkhead.available", slots, Semaphore::availablePermits)
+                .description("Free slots for messaging provider calls")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method makes a provider call once a slot is free.
+     * @param call the provider call
+     * @return the result of the call
+     * @throws ProviderUnavailableException if no slot was freed within maxWait
+     */
+    public <T> T execute(Supplier<T> call) {
+        try {
+            if (!slots.tryAcquire(config.getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new ProviderUnavailableException("Too many calls waiting on messaging provider " + provider);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException(Error.UNEXPECTED_ERROR, "Interrupted while waiting on the messaging provider");
+        }
+        try {
+            return call.get();
+        } finally {
+            slots.release();
+        }
+    }
+
+    public int getAvailableSlots() {
+        return slots.availablePermits();
+    }
+}
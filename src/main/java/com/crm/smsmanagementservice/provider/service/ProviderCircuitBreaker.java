@@ -0,0 +1,188 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * This class stops calling a messaging provider while it is failing or slow. Each provider has its own.
+ * It tracks the outcome of the last provider calls in a count-based window and opens once the rate of
+ * failed calls (no response or 5xx) or of slow calls reaches its threshold. Open, it rejects calls at once with a
+ * {@link ProviderUnavailableException} instead of letting them wait on the provider; after openDuration it lets a few
+ * probe calls through, and closes again once they all succeed.
+ * A rejected request (4xx) means the provider is up, so it counts as a success.
+ * The state is published as the "provider.circuit.state" gauge (0 closed, 1 open, 2 half open)
+ * and its changes as the "provider.circuit.transitions" counter, both tagged by provider.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Slf4j(topic = "PROVIDER_CIRCUIT_BREAKER")
+public class ProviderCircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String provider;
+    private final ProviderResilienceConfig.CircuitBreaker config;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slow;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    ProviderCircuitBreaker(String provider, ProviderResilienceConfig resilienceConfig, MeterRegistry meterRegistry,
+                           LongSupplier nanoClock) {
+        this.provider = provider;
+        this.config = resilienceConfig.getCircuitBreaker();
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.failedCalls = new boolean[Math.max(1, config.getSlidingWindowSize())];
+        this.slowCalls = new boolean[failedCalls.length];
+        Gauge.builder("provider.circuit.state", this, circuitBreaker -> circuitBreaker.getState().ordinal())
+                .description("State of the messaging provider circuit: 0 closed, 1 open, 2 half open")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method makes a provider call through the circuit and records its outcome.
+     * @param call the provider call
+     * @return the result of the call
+     * @throws ProviderUnavailableException if the circuit does not let the call through
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        long started = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            onResult(nanoClock.getAsLong() - started, false);
+            return result;
+        } catch (RuntimeException e) {
+            onResult(nanoClock.getAsLong() - started, isFailure(e));
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * This method returns the percentage of failed calls in the window.
+     * @return double the failure rate, from 0 to 100
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : failures * 100d / recorded;
+    }
+
+    /**
+     * This method returns the percentage of slow calls in the window.
+     * @return double the slow call rate, from 0 to 100
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : slow * 100d / recorded;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < config.getOpenDuration().toNanos()) {
+                throw new ProviderUnavailableException("Messaging provider " + provider + " circuit is open");
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                throw new ProviderUnavailableException(
+                        "Messaging provider " + provider + " circuit is half open, waiting on probe calls");
+            }
+            halfOpenPermits--;
+        }
+    }
+
+    private synchronized void onResult(long durationNanos, boolean failed) {
+        boolean tooSlow = durationNanos >= config.getSlowCallDuration().toNanos();
+        switch (state) {
+            case CLOSED -> {
+                record(failed, tooSlow);
+                if (recorded >= config.getMinimumCalls()
+                        && (getFailureRate() >= config.getFailureRateThreshold()
+                        || getSlowCallRate() >= config.getSlowCallRateThreshold())) {
+                    transition(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (failed || tooSlow) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // A call let through before the circuit opened
+            }
+        }
+    }
+
+    private void record(boolean failed, boolean tooSlow) {
+        if (recorded == failedCalls.length) {
+            failures -= failedCalls[next] ? 1 : 0;
+            slow -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = tooSlow;
+        failures += failed ? 1 : 0;
+        slow += tooSlow ? 1 : 0;
+        next = (next + 1) % failedCalls.length;
+    }
+
+    private void transition(State to) {
+        log.warn("Messaging provider {} circuit {} -> {} (failure rate {}%, slow call rate {}%)",
+                provider, state, to, getFailureRate(), getSlowCallRate());
+        Counter.builder("provider.circuit.transitions")
+                .description("State changes of the messaging provider circuit")
+                .tag("provider", provider)
+                .tag("from", state.name().toLowerCase(Locale.ROOT))
+                .tag("to", to.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+        state = to;
+        switch (to) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = Math.max(1, config.getHalfOpenCalls());
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                recorded = 0;
+                next = 0;
+                failures = 0;
+                slow = 0;
+            }
+        }
+    }
+
+    /**
+     * This method tells whether a failed call means the provider is unhealthy:
+     * no response at all, or a 5xx. Rate limits and rejected requests do not.
+     */
+    private static boolean isFailure(RuntimeException e) {
+        return e instanceof ProviderException providerException
+                && (providerException.getProviderStatus() == 0 || providerException.getProviderStatus() >= 500);
+    }
+}
@@ -0,0 +1,65 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the provider dispatch engine.
+ * Limits how many provider calls may be in flight at once for a single sender
+ * (phone number or messaging service), and how many messages per second it may send,
+ * with optional per-sender overrides. A rate of zero leaves the sender unpaced.
+ * Transient provider failures are retried as configured by {@link Retry}.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "provider.dispatch")
+public class ProviderDispatchConfig {
+    private int maxConcurrency = 16;
+    private Map<String, Integer> senderConcurrency = new HashMap<>();
+    private double messagesPerSecond = 0;
+    private Map<String, Double> senderMessagesPerSecond = new HashMap<>();
+    private Retry retry = new Retry();
+
+    /**
+     * This method returns the concurrency limit of a sender.
+     * @param senderKey the sender key
+     * @return int the number of calls allowed in flight for the sender
+     */
+    public int concurrencyFor(String senderKey) {
+        return Math.max(1, senderConcurrency.getOrDefault(senderKey, maxConcurrency));
+    }
+
+    /**
+     * This method returns the rate limit of a sender.
+     * @param senderKey the sender key
+     * @return double the calls per second allowed for the sender, zero when unlimited
+     */
+    public double messagesPerSecondFor(String senderKey) {
+        return Math.max(0, senderMessagesPerSecond.getOrDefault(senderKey, messagesPerSecond));
+    }
+
+    /**
+     * Retries of transient provider failures (rate limits, 5xx and connection failures).
+     * Each call is attempted at most maxAttempts times, backing off exponentially from initialBackoff
+     * up to maxBackoff with full jitter. A dispatch may spend at most budgetRatio of its items,
+     * and no less than minBudget, on retries, so an outage fails fast instead of multiplying the load.
+     */
+    @Getter @Setter
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private double budgetRatio = 0.1;
+        private int minBudget = 3;
+    }
+}
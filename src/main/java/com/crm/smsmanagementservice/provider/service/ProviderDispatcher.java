@@ -0,0 +1,259 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This class fans out blocking provider calls on virtual threads.
+ * Every call holds a permit of its sender (phone number or messaging service) while in flight,
+ * so a batch runs as wide as the provider allows instead of as wide as the common pool.
+ * Calls of all senders together also wait for one of the provider's bulkhead slots,
+ * so however many senders are busy they never overflow the bulkhead and get turned away by it,
+ * see {@link ProviderResilienceConfig}. A call takes its sender's permit first, so a busy sender
+ * holds back only its own calls and not the slots other senders could use.
+ * Sends are paced to the sender's messages per second so bursts are not rejected by the provider,
+ * and wait for their turn before taking a permit, so calls held back by the rate limit do not hold up the others;
+ * calls that send nothing, such as fetches, are only limited by their key's permits.
+ * Transient failures are retried with jittered exponential backoff, within a retry budget per dispatch;
+ * sends only when the provider cannot have acted on them, see {@link ProviderRetryPolicy}.
+ * Results are collected in completion order, one per item: an item that fails for good is reported as failed
+ * without cancelling the others, so the items already sent are never lost. Each result can be handed to a listener
+ * as it is collected, so the caller can store it without waiting for the slowest item of the batch.
+ * The time calls wait for a permit and a slot is published as the "provider.dispatch.wait" timer,
+ * the time they are held back by the rate limit as "provider.dispatch.throttle",
+ * and retries as the "provider.dispatch.retries" counter.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component
+@Slf4j(topic = "PROVIDER_DISPATCHER")
+public class ProviderDispatcher {
+    public static final String BULK_SERVICE_KEY = "bulk-service";
+    public static final String SCHEDULING_SERVICE_KEY = "scheduling-service";
+
+    private final ProviderDispatchConfig dispatchConfig;
+    private final Timer permitWait;
+    private final Timer throttleWait;
+    private final SenderRateLimiter rateLimiter;
+    private final ProviderRetryPolicy retryPolicy;
+    private final Counter retried;
+    private final Counter retryBudgetExhausted;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Semaphore> senderPermits = new ConcurrentHashMap<>();
+    private final Semaphore providerSlots;
+
+    public ProviderDispatcher(ProviderDispatchConfig dispatchConfig, ProviderResilienceConfig resilienceConfig,
+                              MeterRegistry meterRegistry) {
+        this.dispatchConfig = dispatchConfig;
+        this.providerSlots = new Semaphore(Math.max(1, resilienceConfig.getBulkhead().getMaxConcurrentCalls()), true);
+        this.permitWait = Timer.builder("provider.dispatch.wait")
+                .description("Time provider calls wait for a permit of their sender and a provider slot")
+                .register(meterRegistry);
+        this.throttleWait = Timer.builder("provider.dispatch.throttle")
+                .description("Time provider calls are held back by the rate limit of their sender")
+                .register(meterRegistry);
+        this.rateLimiter = new SenderRateLimiter(dispatchConfig::messagesPerSecondFor, System::nanoTime);
+        this.retryPolicy = new ProviderRetryPolicy(dispatchConfig.getRetry());
+        this.retried = Counter.builder("provider.dispatch.retries")
+                .description("Provider calls retried after a transient failure")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.retryBudgetExhausted = Counter.builder("provider.dispatch.retries")
+                .description("Provider calls retried after a transient failure")
+                .tag("outcome", "budget_exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method sends every item through the given call and waits for all of them.
+     * @param items the items to send, keyed by the caller's key
+     * @param senderKey resolves the sender an item is sent from
+     * @param call the provider call of a single item, sending a message
+     * @return a map of the caller's keys to the results of their calls
+     */
+    public <T> Map<String, ProviderSendResult> dispatch(Map<String, T> items, Function<T, String> senderKey,
+                                                   Function<T, DomainMessage> call) {
+        return dispatch(items, senderKey, call, (key, result) -> {}, false);
+    }
+
+    /**
+     * This method sends every item through the given call, handing each result to a listener as it completes,
+     * and waits for all of them.
+     * @param items the items to send, keyed by the caller's key
+     * @param senderKey resolves the sender an item is sent from
+     * @param call the provider call of a single item, sending a message
+     * @param onResult the listener of each result, called on the calling thread in completion order
+     * @return a map of the caller's keys to the results of their calls
+     */
+    public <T> Map<String, ProviderSendResult> dispatch(Map<String, T> items, Function<T, String> senderKey,
+                                                   Function<T, DomainMessage> call,
+                                                   BiConsumer<String, ProviderSendResult> onResult) {
+        return dispatch(items, senderKey, call, onResult, false);
+    }
+
+    /**
+     * This method makes a call that can safely be repeated, such as a fetch, for every item and waits for all of them.
+     * Such a call sends no message, so it is not paced by the messages per second of its key.
+     * @param items the items, keyed by the caller's key
+     * @param senderKey resolves the key an item's call is limited by
+     * @param call the provider call of a single item
+     * @return a map of the caller's keys to the results of their calls
+     */
+    public <T> Map<String, ProviderSendResult> dispatchIdempotent(Map<String, T> items, Function<T, String> senderKey,
+                                                             Function<T, DomainMessage> call) {
+        return dispatch(items, senderKey, call, (key, result) -> {}, true);
+    }
+
+    private <T> Map<String, ProviderSendResult> dispatch(Map<String, T> items, Function<T, String> senderKey,
+                                                    Function<T, DomainMessage> call,
+                                                    BiConsumer<String, ProviderSendResult> onResult, boolean idempotent) {
+        CompletionService<Map.Entry<String, ProviderSendResult>> completionService = new ExecutorCompletionService<>(executor);
+        AtomicInteger retryBudget = retryPolicy.newBudget(items.size());
+        List<Future<Map.Entry<String, ProviderSendResult>>> futures = items.entrySet().stream()
+                .map(entry -> completionService.submit(() -> Map.entry(entry.getKey(),
+                        sendItem(senderKey.apply(entry.getValue()), () -> call.apply(entry.getValue()), retryBudget,
+                                idempotent))))
+                .toList();
+
+        Map<String, ProviderSendResult> results = new LinkedHashMap<>(futures.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Map.Entry<String, ProviderSendResult> result = completionService.take().get();
+                results.put(result.getKey(), result.getValue());
+                onResult.accept(result.getKey(), result.getValue());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DomainException(Error.UNEXPECTED_ERROR, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new DomainException(Error.UNEXPECTED_ERROR, "Interrupted while dispatching messages");
+        }
+        long failed = results.values().stream().filter(result -> !result.isSent()).count();
+        log.info("Dispatched {} messages, {} failed", results.size(), failed);
+        return results;
+    }
+
+    /**
+     * This method makes the provider call of an item and captures its failure as the item's result.
+     * Only an interruption of the dispatch itself escapes.
+     * @param sender the sender key
+     * @param call the provider call
+     * @param retryBudget the retries left to the dispatch
+     * @param idempotent whether the call can safely be repeated
+     * @return the result of the call
+     */
+    private ProviderSendResult sendItem(String sender, Callable<DomainMessage> call, AtomicInteger retryBudget,
+                                        boolean idempotent) throws InterruptedException {
+        try {
+            DomainMessage message = send(sender, call, retryBudget, idempotent);
+            if (message == null) {
+                return ProviderSendResult.failed(new DomainException(Error.UNEXPECTED_ERROR, "No response from provider"));
+            }
+            return ProviderSendResult.sent(message);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (DomainException e) {
+            log.warn("Provider call from sender {} failed: {}", sender, e.getMessage());
+            return ProviderSendResult.failed(e);
+        } catch (Exception e) {
+            log.warn("Provider call from sender {} failed unexpectedly", sender, e);
+            return ProviderSendResult.failed(new DomainException(Error.UNEXPECTED_ERROR, e.getMessage()));
+        }
+    }
+
+    /**
+     * This method makes a provider call, attempting it again after a transient failure
+     * while the call has attempts left and the dispatch has retries left.
+     * The sender's permit is released while backing off.
+     * @param sender the sender key
+     * @param call the provider call
+     * @param retryBudget the retries left to the dispatch
+     * @param idempotent whether the call can safely be repeated
+     * @return the provider message
+     */
+    private DomainMessage send(String sender, Callable<DomainMessage> call, AtomicInteger retryBudget,
+                               boolean idempotent) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return sendOnce(sender, call, !idempotent);
+            } catch (RuntimeException e) {
+                if (!retryPolicy.isRetryable(e, idempotent) || !retryPolicy.hasAttemptsLeft(attempt)) {
+                    throw e;
+                }
+                if (retryBudget.getAndDecrement() <= 0) {
+                    log.warn("Retry budget exhausted, failing call from sender {}: {}", sender, e.getMessage());
+                    retryBudgetExhausted.increment();
+                    throw e;
+                }
+                Duration backoff = retryPolicy.backoff(attempt);
+                log.info("Retrying call from sender {} in {} ms after attempt {}: {}",
+                        sender, backoff.toMillis(), attempt, e.getMessage());
+                retried.increment();
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    private DomainMessage sendOnce(String sender, Callable<DomainMessage> call, boolean paced) throws Exception {
+        if (paced) {
+            throttleWait.record(rateLimiter.acquire(sender));
+        }
+        Semaphore permits = permitsFor(sender);
+        long waitStarted = System.nanoTime();
+        permits.acquire();
+        try {
+            providerSlots.acquire();
+        } catch (InterruptedException e) {
+            permits.release();
+            throw e;
+        }
+        permitWait.record(System.nanoTime() - waitStarted, TimeUnit.NANOSECONDS);
+        try {
+            return call.call();
+        } catch (ProviderException e) {
+            if (e.getProviderStatus() == 429) {
+                log.warn("Provider rate limited sender {}, backing off", sender);
+                rateLimiter.throttled(sender);
+            }
+            throw e;
+        } finally {
+            providerSlots.release();
+            permits.release();
+        }
+    }
+
+    private Semaphore permitsFor(String senderKey) {
+        return senderPermits.computeIfAbsent(senderKey,
+                key -> new Semaphore(dispatchConfig.concurrencyFor(key), true));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,53 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class reports the messaging provider circuits as the "provider" health component, with details per provider.
+ * It is UP while any provider's circuit is closed, as messages are then routed to it. Once none is, it is reported
+ * as CIRCUIT_HALF_OPEN or CIRCUIT_OPEN rather than DOWN: the service still serves reads and queues sends,
+ * so it must not be taken out of rotation. Custom statuses are left out of the aggregate health, which stays UP.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @RequiredArgsConstructor
+public class ProviderHealthIndicator implements HealthIndicator {
+    static final Status CIRCUIT_OPEN = new Status("CIRCUIT_OPEN", "Messaging provider calls are rejected");
+    static final Status CIRCUIT_HALF_OPEN = new Status("CIRCUIT_HALF_OPEN", "Messaging provider is being probed");
+
+    private final RoutingMessagingClient routingMessagingClient;
+
+    @Override
+    public Health health() {
+        List<ProviderRoute> routes = routingMessagingClient.getRoutes();
+        Map<String, Object> providers = new LinkedHashMap<>();
+        boolean closed = false;
+        boolean halfOpen = false;
+        for (ProviderRoute route : routes) {
+            ProviderCircuitBreaker.State state = route.getCircuitBreaker().getState();
+            closed |= state == ProviderCircuitBreaker.State.CLOSED;
+            halfOpen |= state == ProviderCircuitBreaker.State.HALF_OPEN;
+            providers.put(route.getName(), Map.of(
+                    "circuit", state,
+                    "failureRate", route.getCircuitBreaker().getFailureRate(),
+                    "slowCallRate", route.getCircuitBreaker().getSlowCallRate(),
+                    "bulkheadAvailable", route.getBulkhead().getAvailableSlots(),
+                    "averageLatency", route.getLatencySeconds(),
+                    "averageFailureRate", route.getFailureRate()));
+        }
+        Health.Builder health = closed ? Health.up()
+                : halfOpen ? Health.status(CIRCUIT_HALF_OPEN)
+                : Health.status(CIRCUIT_OPEN);
+        return health.withDetails(providers).build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the protections around each messaging provider.
+ * The circuit breaker opens once the failure rate or the slow call rate of the last slidingWindowSize calls
+ * reaches its threshold, rejects calls for openDuration, then lets halfOpenCalls through to probe the provider.
+ * The bulkhead bounds the calls to a provider in flight across all senders, and rejects a call that waited maxWait for a slot.
+ * Each sender may have up to its {@link ProviderDispatchConfig} concurrency in flight, so a few busy senders
+ * can ask for more calls than the bulkhead has slots: the {@link ProviderDispatcher} therefore caps the calls
+ * of all senders together at maxConcurrentCalls and waits for a slot itself, leaving the bulkhead to reject
+ * only the calls made outside a dispatch, such as cancels.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "provider.resilience")
+public class ProviderResilienceConfig {
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+
+    @Getter @Setter
+    public static class CircuitBreaker {
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private double failureRateThreshold = 50;
+        private double slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+    }
+
+    @Getter @Setter
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 64;
+        private Duration maxWait = Duration.ofMillis(500);
+    }
+}
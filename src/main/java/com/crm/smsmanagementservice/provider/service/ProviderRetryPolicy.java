@@ -0,0 +1,81 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class decides which provider failures are retried and how long to back off before the next attempt.
+ * Rate limits (429), provider errors (5xx) and connection failures are transient; any other failure,
+ * such as an invalid number or a rejected body, fails the same way every time and is not retried.
+ * A send is only retried when the provider cannot have acted on it: after a rate limit, or when the connection
+ * could not be made. After a 5xx or a read timeout the message may have been accepted, and sending it again
+ * would deliver it twice. Fetches and cancels can be repeated safely, so every transient failure is retried.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderRetryPolicy {
+    /** Twilio error code of a rate limited request. */
+    private static final String RATE_LIMITED_CODE = "20429";
+    /** Twilio error codes of provider failures: internal error, service unavailable. */
+    private static final Set<String> UNAVAILABLE_CODES = Set.of("20500", "20503");
+
+    private final ProviderDispatchConfig.Retry retry;
+
+    ProviderRetryPolicy(ProviderDispatchConfig.Retry retry) {
+        this.retry = retry;
+    }
+
+    /**
+     * This method tells whether a failed call may be attempted again.
+     * @param e the failure
+     * @param idempotent whether making the call twice has the same effect as making it once
+     * @return true if the failure is transient, and a repeated call cannot send a message twice
+     */
+    boolean isRetryable(RuntimeException e, boolean idempotent) {
+        if (!(e instanceof ProviderException providerException)) {
+            return false;
+        }
+        int status = providerException.getProviderStatus();
+        if (!providerException.isRequestSent() || status == 429
+                || RATE_LIMITED_CODE.equals(providerException.getProviderCode())) {
+            return true;
+        }
+        return idempotent && (status == 0 || status >= 500
+                || UNAVAILABLE_CODES.contains(providerException.getProviderCode()));
+    }
+
+    /**
+     * This method tells whether another attempt is allowed after the given one failed.
+     * @param attempt the attempt that failed, starting at 1
+     * @return true if the call may be attempted again
+     */
+    boolean hasAttemptsLeft(int attempt) {
+        return attempt < retry.getMaxAttempts();
+    }
+
+    /**
+     * This method returns a random backoff between zero and the exponential bound of the attempt.
+     * @param attempt the attempt that failed, starting at 1
+     * @return the time to wait before the next attempt
+     */
+    Duration backoff(int attempt) {
+        long bound = retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.max(1, Math.min(bound, retry.getMaxBackoff().toMillis()));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capped + 1));
+    }
+
+    /**
+     * This method returns the number of retries a dispatch of the given size may spend.
+     * @param items the number of items dispatched
+     * @return the retry budget
+     */
+    AtomicInteger newBudget(int items) {
+        return new AtomicInteger(Math.max(retry.getMinBudget(), (int) Math.ceil(items * retry.getBudgetRatio())));
+    }
+}
@@ -0,0 +1,186 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * This class is one messaging provider as seen by the router.
+ * Its client is metered and guarded by a bulkhead and a circuit breaker of its own, so a slow or failing
+ * provider does not hold back the others. It knows the destinations the provider serves and what a message
+ * costs there, and keeps moving averages of the provider's latency and failure rate to score it with.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderRoute {
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D");
+
+    @Getter private final String name;
+    @Getter private final ProviderCircuitBreaker circuitBreaker;
+    @Getter private final ProviderBulkhead bulkhead;
+    private final MessagingClient client;
+    private final ProviderRoutingConfig routingConfig;
+    private final ProviderRoutingConfig.Route route;
+    private final LongSupplier nanoClock;
+    private double latencySeconds;
+    private double failureRate;
+    private long updatedAt;
+
+    ProviderRoute(String name, MessagingClient messagingClient, ProviderRoutingConfig routingConfig,
+                  ProviderResilienceConfig resilienceConfig, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.circuitBreaker = new ProviderCircuitBreaker(name, resilienceConfig, meterRegistry, nanoClock);
+        this.bulkhead = new ProviderBulkhead(name, resilienceConfig, meterRegistry);
+        this.client = new MeteredMessagingClient(name, messagingClient, meterRegistry, bulkhead, circuitBreaker);
+        this.routingConfig = routingConfig;
+        this.route = routingConfig.routeFor(name);
+        this.nanoClock = nanoClock;
+        this.updatedAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * This method tells whether the provider serves a destination.
+     * @param destination the E.164 phone number
+     * @return true if the provider has no prefixes, or one the destination starts with
+     */
+    boolean serves(String destination) {
+        String digits = digits(destination);
+        return route.getPrefixes().isEmpty() || route.getPrefixes().stream().anyMatch(digits::startsWith);
+    }
+
+    /**
+     * This method returns the sender the provider sends from in place of one of our sender numbers.
+     * @param from the sender number
+     * @return the provider's sender, empty if the provider does not own the number
+     */
+    Optional<String> senderFor(String from) {
+        String digits = digits(from);
+        return route.getSenders().entrySet().stream()
+                .filter(sender -> digits(sender.getKey()).equals(digits))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    /**
+     * This method returns the cost of a message to a destination, from the longest matching prefix of the cost table.
+     * @param destination the E.164 phone number
+     * @return double the cost of a message
+     */
+    double costOf(String destination) {
+        String digits = digits(destination);
+        return route.getCosts().entrySet().stream()
+                .filter(cost -> digits.startsWith(cost.getKey()))
+                .max(Comparator.comparingInt(cost -> cost.getKey().length()))
+                .map(Map.Entry::getValue)
+                .orElse(route.getDefaultCost());
+    }
+
+    /**
+     * This method scores the provider for a destination; the lower the score, the better the provider.
+     * @param destination the E.164 phone number
+     * @return double the cost of a message, plus the costs of the provider's latency and failure rate
+     */
+    synchronized double score(String destination) {
+        double fade = fade();
+        return costOf(destination)
+                + routingConfig.getLatencyCost() * latencySeconds * fade
+                + routingConfig.getErrorCost() * failureRate * fade;
+    }
+
+    /**
+     * This method makes a call to the provider and records its latency and outcome.
+     * @param call the call, given the provider's guarded client
+     * @return the result of the call
+     */
+    <T> T call(Function<MessagingClient, T> call) {
+        long started = nanoClock.getAsLong();
+        try {
+            T result = call.apply(client);
+            record((nanoClock.getAsLong() - started) / 1e9, false);
+            return result;
+        } catch (ProviderUnavailableException e) {
+            record(null, true);
+            throw e;
+        } catch (RuntimeException e) {
+            record((nanoClock.getAsLong() - started) / 1e9, isProviderFailure(e));
+            throw e;
+        }
+    }
+
+    synchronized double getLatencySeconds() {
+        return latencySeconds * fade();
+    }
+
+    synchronized double getFailureRate() {
+        return failureRate * fade();
+    }
+
+    /**
+     * This method tells whether a failed call is the provider's doing, counting against its failure rate:
+     * the call was turned away, got no response, was rate limited or got a 5xx.
+     * @param e the failure
+     * @return true if the provider failed
+     */
+    static boolean isProviderFailure(RuntimeException e) {
+        if (e instanceof ProviderUnavailableException) {
+            return true;
+        }
+        if (!(e instanceof ProviderException providerException)) {
+            return false;
+        }
+        int status = providerException.getProviderStatus();
+        return status == 0 || status == 429 || status >= 500;
+    }
+
+    /**
+     * This method tells whether a failed call cannot have sent the message, so another provider may send it:
+     * the call was turned away, could not connect, or was rate limited.
+     * @param e the failure
+     * @return true if the message was not sent
+     */
+    static boolean isUnsent(RuntimeException e) {
+        if (e instanceof ProviderUnavailableException) {
+            return true;
+        }
+        return e instanceof ProviderException providerException
+                && (!providerException.isRequestSent() || providerException.getProviderStatus() == 429);
+    }
+
+    private synchronized void record(@Nullable Double callSeconds, boolean failed) {
+        double fade = fade();
+        double smoothing = routingConfig.getSmoothing();
+        latencySeconds *= fade;
+        failureRate *= fade;
+        if (callSeconds != null) {
+            latencySeconds += smoothing * (callSeconds - latencySeconds);
+        }
+        failureRate += smoothing * ((failed ? 1 : 0) - failureRate);
+        updatedAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * This method returns how much of the averages is left since they were last updated, halving every halfLife.
+     */
+    private double fade() {
+        long halfLife = routingConfig.getHalfLife().toNanos();
+        if (halfLife <= 0) {
+            return 1;
+        }
+        return Math.pow(0.5, (double) (nanoClock.getAsLong() - updatedAt) / halfLife);
+    }
+
+    private static String digits(String destination) {
+        return NON_DIGITS.matcher(destination).replaceAll("");
+    }
+}
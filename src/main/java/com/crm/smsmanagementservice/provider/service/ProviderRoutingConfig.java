@@ -0,0 +1,55 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of the routing of messages across messaging providers, keyed by provider (client bean) name.
+ * A provider serves the destinations starting with one of its country calling code prefixes, or every destination
+ * when it has none, at the cost of its longest matching prefix, or its defaultCost.
+ * A message from one of our numbers only goes to the providers listing it in their senders, mapped to the provider's
+ * own sender; a number no provider lists belongs to defaultProvider, or to the only provider there is.
+ * Messages go to the provider with the lowest score: its cost, plus latencyCost per second of its average latency,
+ * plus errorCost times its failure rate. Latency and failure rate are moving averages giving the latest call a weight
+ * of smoothing, and fade with halfLife so a provider that was avoided is tried again.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "provider.routing")
+public class ProviderRoutingConfig {
+    private String defaultProvider = "twilio";
+    private double smoothing = 0.2;
+    private Duration halfLife = Duration.ofMinutes(1);
+    private double latencyCost = 0.01;
+    private double errorCost = 0.1;
+    private Map<String, Route> providers = new HashMap<>();
+
+    /**
+     * This method returns the route of a provider.
+     * @param provider the provider name
+     * @return Route the configured route, or a route serving every destination at no cost
+     */
+    public Route routeFor(String provider) {
+        return providers.getOrDefault(provider, new Route());
+    }
+
+    @Getter @Setter
+    public static class Route {
+        private List<String> prefixes = new ArrayList<>();
+        private Map<String, Double> costs = new HashMap<>();
+        private Map<String, String> senders = new HashMap<>();
+        private double defaultCost = 0;
+    }
+}
@@ -0,0 +1,214 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * This class routes every message to one of the messaging clients of the active profile, keyed by bean name.
+ * Of the providers serving the destination, it picks the one with the lowest score (cost, latency and failure rate,
+ * see {@link ProviderRoutingConfig}), and fails over to the next one only when the first cannot have sent the message:
+ * the call was turned away, could not connect or was rate limited. After a 5xx or a timeout the provider may have
+ * accepted the message, and a rejected request would be rejected anywhere, so neither is sent elsewhere.
+ * A message sent from a given number only goes to the providers owning that number, with the sender each maps it to;
+ * a number no provider maps belongs to the default provider.
+ * A message is fetched or cancelled by asking the providers in turn until one knows it.
+ * Failovers are published as the "provider.routing.failovers" counter.
+ * Being primary, it is injected wherever a messaging client is.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Primary @Component
+@Slf4j(topic = "PROVIDER_ROUTER")
+public class RoutingMessagingClient implements MessagingClient {
+    private final List<ProviderRoute> routes;
+    private final MeterRegistry meterRegistry;
+    @Nullable
+    private final String defaultProvider;
+
+    @Autowired
+    public RoutingMessagingClient(Map<String, MessagingClient> messagingClients, ProviderRoutingConfig routingConfig,
+                                  ProviderResilienceConfig resilienceConfig, MeterRegistry meterRegistry) {
+        this(messagingClients, routingConfig, resilienceConfig, meterRegistry, System::nanoTime);
+    }
+
+    RoutingMessagingClient(Map<String, MessagingClient> messagingClients, ProviderRoutingConfig routingConfig,
+                           ProviderResilienceConfig resilienceConfig, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.routes = messagingClients.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(client -> new ProviderRoute(client.getKey(), client.getValue(), routingConfig, resilienceConfig,
+                        meterRegistry, nanoClock))
+                .toList();
+        this.meterRegistry = meterRegistry;
+        if (routes.isEmpty()) {
+            throw new IllegalStateException("No messaging provider is configured");
+        }
+        this.defaultProvider = routes.stream()
+                .map(ProviderRoute::getName)
+                .filter(name -> name.equals(routingConfig.getDefaultProvider()))
+                .findFirst()
+                .orElse(routes.size() == 1 ? routes.getFirst().getName() : null);
+        log.info("Routing messages across providers {}", routes.stream().map(ProviderRoute::getName).toList());
+    }
+
+    @Override
+    public DomainMessage sendSMSFromNumber(String to, String from, String body) {
+        return routeFrom(to, from, (client, sender) -> client.sendSMSFromNumber(to, sender, body));
+    }
+
+    @Override
+    public DomainMessage sendMMSFromNumber(String to, String from, String body, List<String> mediaUrls) {
+        return routeFrom(to, from, (client, sender) -> client.sendMMSFromNumber(to, sender, body, mediaUrls));
+    }
+
+    @Override
+    public DomainMessage scheduleSMS(String to, String body, ZonedDateTime sendAfter) {
+        return route(to, client -> client.scheduleSMS(to, body, sendAfter));
+    }
+
+    @Override
+    public DomainMessage scheduleMMS(String to, String body, List<String> mediaUrls, ZonedDateTime sendAfter) {
+        return route(to, client -> client.scheduleMMS(to, body, mediaUrls, sendAfter));
+    }
+
+    @Override
+    public DomainMessage sendSMSFromNumber(String to, String body) {
+        return route(to, client -> client.sendSMSFromNumber(to, body));
+    }
+
+    @Override
+    public DomainMessage sendMMSFromNumber(String to, String body, List<String> mediaUrls) {
+        return route(to, client -> client.sendMMSFromNumber(to, body, mediaUrls));
+    }
+
+    @Override
+    public DomainMessage sendSMSFromService(String to, String body) {
+        return route(to, client -> client.sendSMSFromService(to, body));
+    }
+
+    @Override
+    public DomainMessage sendMMSFromService(String to, String body, List<String> mediaUrls) {
+        return route(to, client -> client.sendMMSFromService(to, body, mediaUrls));
+    }
+
+    @Override
+    public DomainMessage fetchMessageById(String id) {
+        return lookup(client -> client.fetchMessageById(id));
+    }
+
+    @Override
+    public DomainMessage cancelMessage(String id) {
+        return lookup(client -> client.cancelMessage(id));
+    }
+
+    List<ProviderRoute> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * This method returns the providers serving a destination, the best scored first.
+     * @param destination the E.164 phone number
+     * @return the candidate providers
+     */
+    List<ProviderRoute> candidatesFor(String destination) {
+        return routes.stream()
+                .filter(route -> route.serves(destination))
+                .map(route -> Map.entry(route, route.score(destination)))
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private DomainMessage route(String to, Function<MessagingClient, DomainMessage> call) {
+        List<ProviderRoute> candidates = candidatesFor(to);
+        if (candidates.isEmpty()) {
+            throw new DomainException(Error.INVALID_REQUEST, "No messaging provider routes to " + to);
+        }
+        return failOver(candidates, route -> route.call(call));
+    }
+
+    /**
+     * This method sends a message from a number through the providers owning it, with the sender each maps it to.
+     */
+    private DomainMessage routeFrom(String to, String from, BiFunction<MessagingClient, String, DomainMessage> call) {
+        Map<String, String> senders = new HashMap<>();
+        routes.forEach(route -> route.senderFor(from).ifPresent(sender -> senders.put(route.getName(), sender)));
+        if (senders.isEmpty() && defaultProvider != null) {
+            senders.put(defaultProvider, from);
+        }
+        List<ProviderRoute> candidates = candidatesFor(to).stream()
+                .filter(route -> senders.containsKey(route.getName()))
+                .toList();
+        if (candidates.isEmpty()) {
+            throw new DomainException(Error.INVALID_REQUEST, "No messaging provider sends from " + from + " to " + to);
+        }
+        return failOver(candidates, route -> route.call(client -> call.apply(client, senders.get(route.getName()))));
+    }
+
+    private DomainMessage failOver(List<ProviderRoute> candidates, Function<ProviderRoute, DomainMessage> send) {
+        RuntimeException failure = null;
+        ProviderRoute failed = null;
+        for (ProviderRoute route : candidates) {
+            if (failed != null) {
+                log.warn("Failing over from provider {} to {}: {}", failed.getName(), route.getName(), failure.getMessage());
+                Counter.builder("provider.routing.failovers")
+                        .description("Messages sent to another provider after their provider failed")
+                        .tag("from", failed.getName())
+                        .tag("to", route.getName())
+                        .register(meterRegistry)
+                        .increment();
+            }
+            try {
+                return send.apply(route);
+            } catch (RuntimeException e) {
+                if (!ProviderRoute.isUnsent(e)) {
+                    throw e;
+                }
+                failure = e;
+                failed = route;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * This method asks the providers in turn for a message, moving on while a provider does not know it (404)
+     * or fails. A failure is reported over a 404, as the provider that failed may be the one knowing the message.
+     */
+    private DomainMessage lookup(Function<MessagingClient, DomainMessage> call) {
+        RuntimeException failure = null;
+        for (ProviderRoute route : routes) {
+            try {
+                return route.call(call);
+            } catch (RuntimeException e) {
+                boolean notFound = e instanceof ProviderException providerException
+                        && providerException.getProviderStatus() == 404;
+                if (!notFound && !ProviderRoute.isProviderFailure(e)) {
+                    throw e;
+                }
+                if (failure == null || !notFound) {
+                    failure = e;
+                }
+            }
+        }
+        throw failure;
+    }
+}
@@ -0,0 +1,114 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This class paces provider calls with a token bucket per sender (phone number or messaging service).
+ * A bucket refills at the sender's messages per second and holds at most one second of tokens,
+ * so a burst is spread out at the allowed rate instead of being rejected by the provider.
+ * Callers reserve a token in arrival order and sleep until it is due, which is cheap on virtual threads.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class SenderRateLimiter {
+    private final ToDoubleFunction<String> messagesPerSecond;
+    private final LongSupplier nanoClock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    SenderRateLimiter(ToDoubleFunction<String> messagesPerSecond, LongSupplier nanoClock) {
+        this.messagesPerSecond = messagesPerSecond;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * This method waits until the sender may make another call.
+     * @param senderKey the sender key
+     * @return the time waited
+     */
+    Duration acquire(String senderKey) {
+        Duration wait = reserve(senderKey);
+        if (!wait.isZero()) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DomainException(Error.UNEXPECTED_ERROR, "Interrupted while waiting for the sender rate limit");
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * This method reserves the next token of the sender without waiting for it.
+     * @param senderKey the sender key
+     * @return the time until the token is due, zero when the sender is not rate limited
+     */
+    Duration reserve(String senderKey) {
+        TokenBucket bucket = bucketFor(senderKey);
+        return bucket == null ? Duration.ZERO : Duration.ofNanos(bucket.reserve(nanoClock.getAsLong()));
+    }
+
+    /**
+     * This method empties the bucket of a sender the provider rejected as over its limit,
+     * so the following calls wait for a full second of tokens.
+     * @param senderKey the sender key
+     */
+    void throttled(String senderKey) {
+        TokenBucket bucket = bucketFor(senderKey);
+        if (bucket != null) {
+            bucket.drain(nanoClock.getAsLong());
+        }
+    }
+
+    private TokenBucket bucketFor(String senderKey) {
+        double rate = messagesPerSecond.applyAsDouble(senderKey);
+        if (rate <= 0) {
+            return null;
+        }
+        return buckets.computeIfAbsent(senderKey, key -> new TokenBucket(rate, nanoClock.getAsLong()));
+    }
+
+    /**
+     * A token bucket whose balance goes negative as calls reserve tokens ahead of time.
+     */
+    private static final class TokenBucket {
+        private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+        private final double messagesPerSecond;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double messagesPerSecond, long now) {
+            this.messagesPerSecond = messagesPerSecond;
+            this.capacity = Math.max(1, messagesPerSecond);
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1;
+            return tokens >= 0 ? 0 : Math.round(-tokens / messagesPerSecond * NANOS_PER_SECOND);
+        }
+
+        synchronized void drain(long now) {
+            refill(now);
+            tokens = Math.min(tokens, 0) - capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) / NANOS_PER_SECOND * messagesPerSecond);
+            refilledAt = now;
+        }
+    }
+}
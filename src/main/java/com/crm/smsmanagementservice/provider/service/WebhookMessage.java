@@ -0,0 +1,164 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.provider.web.InboundMessageDTO;
+import com.crm.smsmanagementservice.provider.web.MessageStatusUpdateDTO;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * This class is a message built from the parameters of a provider webhook, without a call to the provider.
+ * Fields the webhook does not carry, such as the price, are left empty
+ * and filled in later by the {@link MessageReconciler}.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Builder @ToString
+public class WebhookMessage implements DomainMessage {
+    private final String id;
+    private final String recipient;
+    private final String messageContent;
+    private final MessageStatus status;
+    private final MessageDirection direction;
+    private final ZonedDateTime createdTime;
+    private final ZonedDateTime deliveredTime;
+    @Getter(AccessLevel.NONE) private final String sender;
+    @Getter(AccessLevel.NONE) private final String apiVersion;
+    @Getter(AccessLevel.NONE) private final String serviceSid;
+    @Getter(AccessLevel.NONE) private final String errorCode;
+    @Getter(AccessLevel.NONE) private final String errorMessage;
+    @Getter(AccessLevel.NONE) private final String segmentCount;
+    @Getter(AccessLevel.NONE) private final String mediaCount;
+    @Getter(AccessLevel.NONE) private final Map<String, String> mediaUrls;
+
+    /**
+     * This method builds a message from an inbound message webhook.
+     * @param message the inbound message webhook
+     * @return WebhookMessage the received message
+     */
+    public static WebhookMessage fromInbound(InboundMessageDTO message) {
+        ZonedDateTime now = ZonedDateTime.now();
+        Map<String, String> mediaUrls = null;
+        if (message.sortedMediaUrls() != null && !message.sortedMediaUrls().isEmpty()) {
+            mediaUrls = new LinkedHashMap<>();
+            for (String mediaUrl : message.sortedMediaUrls()) {
+                mediaUrls.put(String.valueOf(mediaUrls.size()), mediaUrl);
+            }
+        }
+        return WebhookMessage.builder()
+                .id(message.messageId())
+                .recipient(message.to())
+                .sender(message.from())
+                .messageContent(message.body())
+                .status(MessageStatus.fromString(message.messageStatus()))
+                .direction(MessageDirection.INBOUND)
+                .createdTime(now)
+                .deliveredTime(now)
+                .apiVersion(message.apiVersion())
+                .serviceSid(message.serviceId())
+                .errorCode(message.errorCode())
+                .errorMessage(message.errorMessage())
+                .segmentCount(message.segments())
+                .mediaCount(message.mediaLength())
+                .mediaUrls(mediaUrls)
+                .build();
+    }
+
+    /**
+     * This method builds a message from a status callback.
+     * @param message the status callback
+     * @param status the parsed status of the callback
+     * @return WebhookMessage the message with its new status
+     */
+    public static WebhookMessage fromStatusUpdate(MessageStatusUpdateDTO message, MessageStatus status) {
+        return WebhookMessage.builder()
+                .id(message.messageId())
+                .status(status)
+                .direction(MessageDirection.OUTBOUND_API)
+                .deliveredTime(status == MessageStatus.DELIVERED ? ZonedDateTime.now() : null)
+                .serviceSid(message.serviceId())
+                .errorCode(message.errorCode())
+                .errorMessage(message.errorMessage())
+                .build();
+    }
+
+    @Override
+    public BigDecimal getPrice() {
+        return null;
+    }
+
+    @Override
+    public Currency getCurrency() {
+        return null;
+    }
+
+    @Override
+    public String getURI() {
+        return null;
+    }
+
+    @Override
+    public ZonedDateTime getScheduledTime() {
+        return null;
+    }
+
+    @Override
+    public ZonedDateTime getDateUpdated() {
+        return deliveredTime;
+    }
+
+    @Override
+    public String getProviderId() {
+        return id;
+    }
+
+    @Override
+    public Optional<String> getSender() {
+        return Optional.ofNullable(sender);
+    }
+
+    @Override
+    public Optional<String> getApiVersion() {
+        return Optional.ofNullable(apiVersion);
+    }
+
+    @Override
+    public Optional<String> getServiceSid() {
+        return Optional.ofNullable(serviceSid);
+    }
+
+    @Override
+    public Optional<String> getErrorCode() {
+        return Optional.ofNullable(errorCode);
+    }
+
+    @Override
+    public Optional<String> getErrorMessage() {
+        return Optional.ofNullable(errorMessage);
+    }
+
+    @Override
+    public Optional<String> getSegmentCount() {
+        return Optional.ofNullable(segmentCount);
+    }
+
+    @Override
+    public Optional<String> getMediaCount() {
+        return Optional.ofNullable(mediaCount);
+    }
+
+    @Override
+    public Optional<Map<String, String>> getMediaUrls() {
+        return Optional.ofNullable(mediaUrls);
+    }
+}
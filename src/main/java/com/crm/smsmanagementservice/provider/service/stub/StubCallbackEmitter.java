@@ -0,0 +1,125 @@
+package com.crm.smsmanagementservice.provider.service.stub;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * This class posts provider webhooks back to the provider callback endpoints, as the provider would.
+ * Every accepted message is called back as sent, then as delivered or undelivered, with jittered delays,
+ * and is sometimes answered by an inbound reply. Callbacks are timed on a single scheduler thread
+ * and posted on virtual threads.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @Profile("loadtest")
+@Slf4j(topic = "STUB_CALLBACK_EMITTER")
+public class StubCallbackEmitter {
+    static final String UNDELIVERED_ERROR_CODE = "30003";
+
+    private final StubProviderConfig stubConfig;
+    private final RestClient restClient;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StubCallbackEmitter(StubProviderConfig stubConfig) {
+        this.stubConfig = stubConfig;
+        this.restClient = RestClient.builder().baseUrl(stubConfig.getCallbackUrl()).build();
+    }
+
+    /**
+     * This method schedules the webhooks of an accepted outbound message.
+     * @param messageSid the provider message id
+     * @param from the number the message is sent from
+     * @param to the recipient
+     * @param sendAfter how long the provider holds the message before sending it
+     */
+    public void messageAccepted(String messageSid, String from, String to, Duration sendAfter) {
+        if (!stubConfig.isCallbacks()) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sentAt = sendAfter.toMillis() + jitter(stubConfig.getSentDelay());
+        long finalAt = sentAt + jitter(stubConfig.getDeliveredDelay());
+        MessageStatus finalStatus = random.nextDouble() < stubConfig.getUndeliveredRate()
+                ? MessageStatus.UNDELIVERED : MessageStatus.DELIVERED;
+        post(sentAt, () -> postStatus(messageSid, MessageStatus.SENT));
+        post(finalAt, () -> postStatus(messageSid, finalStatus));
+        if (finalStatus == MessageStatus.DELIVERED && random.nextDouble() < stubConfig.getReplyRate()) {
+            post(finalAt + jitter(stubConfig.getDeliveredDelay()), () -> postReply(to, from));
+        }
+    }
+
+    private void post(long delayMillis, Runnable callback) {
+        try {
+            scheduler.schedule(() -> executor.execute(() -> {
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to post stub callback: {}", e.getMessage());
+                }
+            }), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Stub callback emitter is shut down, dropping callback");
+        }
+    }
+
+    private void postStatus(String messageSid, MessageStatus status) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("MessageSid", messageSid);
+        form.add("AccountSid", stubConfig.getAccountSid());
+        form.add("MessageStatus", status.name().toLowerCase(Locale.ROOT));
+        if (status == MessageStatus.UNDELIVERED) {
+            form.add("ErrorCode", UNDELIVERED_ERROR_CODE);
+            form.add("ErrorMessage", "Unknown destination handset");
+        }
+        send("/message-status", form);
+    }
+
+    private void postReply(String from, String to) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("MessageSid", "SM" + UUID.randomUUID().toString().replace("-", ""));
+        form.add("AccountSid", stubConfig.getAccountSid());
+        form.add("MessageStatus", MessageStatus.RECEIVED.name().toLowerCase(Locale.ROOT));
+        form.add("ApiVersion", "2010-04-01");
+        form.add("From", from);
+        form.add("To", to);
+        form.add("Body", "Thanks, received.");
+        form.add("NumSegments", "1");
+        form.add("NumMedia", "0");
+        send("/inbound-message", form);
+    }
+
+    private void send(String endpoint, MultiValueMap<String, String> form) {
+        restClient.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(form)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private static long jitter(Duration delay) {
+        long millis = delay.toMillis();
+        return millis <= 0 ? 0 : millis / 2 + ThreadLocalRandom.current().nextLong(millis);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+}
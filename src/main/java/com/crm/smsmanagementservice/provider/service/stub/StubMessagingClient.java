@@ -0,0 +1,156 @@
+package com.crm.smsmanagementservice.provider.service.stub;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.provider.service.MessagingClient;
+import com.crm.smsmanagementservice.provider.service.WebhookMessage;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class is a local stand-in for the messaging provider, used to measure the service offline.
+ * Every call waits for a sampled provider latency, then either fails as the provider would
+ * (rate limited or provider error) or accepts the message and has its webhooks called back.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Service("stub") @Profile("loadtest") @RequiredArgsConstructor
+@Slf4j(topic = "STUB_MESSAGING_CLIENT")
+public class StubMessagingClient implements MessagingClient {
+    /** The z-score of the 99th percentile of the standard normal distribution. */
+    private static final double P99_Z_SCORE = 2.3263;
+
+    private final StubProviderConfig stubConfig;
+    private final StubCallbackEmitter callbackEmitter;
+
+    @Override
+    public DomainMessage sendSMSFromNumber(String to, String from, String body) {
+        return accept(to, from, body, null);
+    }
+
+    @Override
+    public DomainMessage sendMMSFromNumber(String to, String from, String body, List<String> mediaUrls) {
+        return accept(to, from, body, null);
+    }
+
+    @Override
+    public DomainMessage scheduleSMS(String to, String body, ZonedDateTime sendAfter) {
+        return accept(to, stubConfig.getNumber(), body, sendAfter);
+    }
+
+    @Override
+    public DomainMessage scheduleMMS(String to, String body, List<String> mediaUrls, ZonedDateTime sendAfter) {
+        return accept(to, stubConfig.getNumber(), body, sendAfter);
+    }
+
+    @Override
+    public DomainMessage sendSMSFromNumber(String to, String body) {
+        return accept(to, stubConfig.getNumber(), body, null);
+    }
+
+    @Override
+    public DomainMessage sendMMSFromNumber(String to, String body, List<String> mediaUrls) {
+        return accept(to, stubConfig.getNumber(), body, null);
+    }
+
+    @Override
+    public DomainMessage sendSMSFromService(String to, String body) {
+        return accept(to, stubConfig.getNumber(), body, null);
+    }
+
+    @Override
+    public DomainMessage sendMMSFromService(String to, String body, List<String> mediaUrls) {
+        return accept(to, stubConfig.getNumber(), body, null);
+    }
+
+    @Override
+    public DomainMessage fetchMessageById(String id) {
+        simulateCall();
+        return WebhookMessage.builder()
+                .id(id)
+                .status(MessageStatus.DELIVERED)
+                .direction(MessageDirection.OUTBOUND_API)
+                .segmentCount("1")
+                .build();
+    }
+
+    @Override
+    public DomainMessage cancelMessage(String id) {
+        simulateCall();
+        return WebhookMessage.builder()
+                .id(id)
+                .status(MessageStatus.CANCELED)
+                .direction(MessageDirection.OUTBOUND_API)
+                .build();
+    }
+
+    private DomainMessage accept(String to, String from, String body, @Nullable ZonedDateTime sendAfter) {
+        simulateCall();
+        String messageSid = "SM" + UUID.randomUUID().toString().replace("-", "");
+        Duration delay = sendAfter == null ? Duration.ZERO : Duration.between(ZonedDateTime.now(), sendAfter);
+        callbackEmitter.messageAccepted(messageSid, from, to, delay.isNegative() ? Duration.ZERO : delay);
+        return WebhookMessage.builder()
+                .id(messageSid)
+                .recipient(to)
+                .sender(from)
+                .messageContent(body)
+                .status(sendAfter == null ? MessageStatus.QUEUED : MessageStatus.SCHEDULED)
+                .direction(MessageDirection.OUTBOUND_API)
+                .createdTime(ZonedDateTime.now())
+                .apiVersion("2010-04-01")
+                .segmentCount("1")
+                .build();
+    }
+
+    /**
+     * This method waits for a sampled provider latency, then fails the call with the configured probabilities.
+     */
+    private void simulateCall() {
+        sleep(sampleLatency());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double outcome = random.nextDouble();
+        if (outcome < stubConfig.getRateLimitRate()) {
+            throw new ProviderException(Error.TOO_MANY_REQUESTS, "Stub provider rate limit exceeded", "20429", 429);
+        }
+        if (outcome < stubConfig.getRateLimitRate() + stubConfig.getFailureRate()) {
+            throw new ProviderException(Error.PROVIDER_UNAVAILABLE, "Stub provider error", "20500", 500);
+        }
+    }
+
+    long sampleLatency() {
+        long median = stubConfig.getLatencyMedian().toMillis();
+        if (median <= 0) {
+            return 0;
+        }
+        long p99 = Math.max(median, stubConfig.getLatencyP99().toMillis());
+        double sigma = Math.log((double) p99 / median) / P99_Z_SCORE;
+        return Math.round(median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException(Error.UNEXPECTED_ERROR, "Interrupted while calling the stub provider");
+        }
+    }
+}
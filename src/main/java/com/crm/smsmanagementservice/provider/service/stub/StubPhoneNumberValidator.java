@@ -0,0 +1,25 @@
+package com.crm.smsmanagementservice.provider.service.stub;
+
+import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.provider.service.CachingPhoneNumberValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * This class stands in for the provider phone number lookup under the loadtest profile.
+ * Numbers reach the lookup only once they parse as valid E.164 numbers, so every such number is accepted.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Component @Profile("loadtest") @Qualifier(CachingPhoneNumberValidator.LOOKUP_QUALIFIER)
+public class StubPhoneNumberValidator implements IPhoneNumberValidator {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext constraintValidatorContext) {
+        return value != null && !value.isBlank();
+    }
+}
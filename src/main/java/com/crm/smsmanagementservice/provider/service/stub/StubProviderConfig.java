@@ -0,0 +1,38 @@
+package com.crm.smsmanagementservice.provider.service.stub;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the stub messaging provider.
+ * Call latency follows a log-normal distribution fitted to latencyMedian and latencyP99.
+ * A call is answered with a rate limit error with probability rateLimitRate, and with a provider error
+ * with probability failureRate. Accepted messages are called back as sent, then as delivered or,
+ * with probability undeliveredRate, as undelivered; with probability replyRate the recipient replies.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration @Profile("loadtest")
+@ConfigurationProperties(prefix = "provider.stub")
+public class StubProviderConfig {
+    private String accountSid = "ACloadtest";
+    private String number = "+16135550100";
+    private Duration latencyMedian = Duration.ofMillis(120);
+    private Duration latencyP99 = Duration.ofMillis(600);
+    private double rateLimitRate = 0.0;
+    private double failureRate = 0.0;
+    private boolean callbacks = true;
+    private String callbackUrl = "http://localhost:8080/api/v1/provider/callback";
+    private Duration sentDelay = Duration.ofMillis(300);
+    private Duration deliveredDelay = Duration.ofSeconds(2);
+    private double undeliveredRate = 0.02;
+    private double replyRate = 0.0;
+}
@@ -0,0 +1,7 @@
+/**
+ * A local stand-in for the messaging provider, active under the loadtest profile.
+ *
+ */
+
+@org.springframework.lang.NonNullApi
+package com.crm.smsmanagementservice.provider.service.stub;
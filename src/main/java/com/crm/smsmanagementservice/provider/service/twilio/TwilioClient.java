@@ -1,19 +1,26 @@
 package com.crm.smsmanagementservice.provider.service.twilio;
 
 import com.crm.smsmanagementservice.core.dto.DomainMessage;
-import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
 import com.crm.smsmanagementservice.provider.service.MessagingClient;
+import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
+import com.twilio.exception.TwilioException;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
 import java.net.URI;
+import java.net.UnknownHostException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 /**
@@ -25,7 +32,7 @@ import org.springframework.stereotype.Service;
  * @mailto : maldu064@uOttawa.ca
  * @created : 3/16/2024, Saturday
  */
-@Service @Slf4j @RequiredArgsConstructor
+@Service("twilio") @Slf4j @RequiredArgsConstructor @Profile("!loadtest")
 public class TwilioClient implements MessagingClient {
     private final TwilioConfig twilioConfig;
     /**
@@ -43,9 +50,9 @@ public class TwilioClient implements MessagingClient {
                     .setStatusCallback(twilioConfig.getStatusCallbackUrl())
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.info("TWILIO API Failed to send SMS from number: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -70,9 +77,9 @@ public class TwilioClient implements MessagingClient {
                     .setMediaUrl(media)
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.info("TWILIO API Failed to send MMS from number: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -92,9 +99,9 @@ public class TwilioClient implements MessagingClient {
                     .setScheduleType(Message.ScheduleType.FIXED)
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to schedule SMS: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -120,9 +127,9 @@ public class TwilioClient implements MessagingClient {
                     .setMediaUrl(media)
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to schedule MMS: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -141,9 +148,9 @@ public class TwilioClient implements MessagingClient {
                     .create();
             log.info("TWILIO API Sent SMS: {}", message.toString());
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to send SMS from number: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -166,9 +173,9 @@ public class TwilioClient implements MessagingClient {
                     .setMediaUrl(media)
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to send MMS from number: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -185,9 +192,9 @@ public class TwilioClient implements MessagingClient {
                     .setStatusCallback(twilioConfig.getStatusCallbackUrl())
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to send SMS from service: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -210,9 +217,9 @@ public class TwilioClient implements MessagingClient {
                     .setMediaUrl(media)
                     .create();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to send MMS from service: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -226,9 +233,9 @@ public class TwilioClient implements MessagingClient {
         try {
             Message message = Message.fetcher(sid).fetch();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to fetch message: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
 
@@ -239,9 +246,44 @@ public class TwilioClient implements MessagingClient {
                     .setStatus(Message.UpdateStatus.CANCELED)
                     .update();
             return new TwilioMessageWrapper(message);
-        } catch (ApiException e) {
+        } catch (ApiException | ApiConnectionException e) {
             log.warn("TWILIO API Failed to cancel message: {}", e.getMessage());
-            throw new DomainException(Error.INVALID_REQUEST.getCode(), Error.INVALID_REQUEST.getStatus(), e.getMessage());
+            throw toProviderException(e);
         }
     }
+
+    /**
+     * This method maps a Twilio API failure to a domain exception, keeping the Twilio error code and HTTP status.
+     * A 429 is mapped to TOO_MANY_REQUESTS, and a 5xx or a connection failure to PROVIDER_UNAVAILABLE,
+     * so callers can tell a transient failure from a rejected request.
+     * A connection that could not be made is marked as not sent; after a read timeout Twilio may have the message.
+     * @param e the Twilio API or connection failure
+     * @return the provider exception
+     */
+    private ProviderException toProviderException(TwilioException e) {
+        if (!(e instanceof ApiException apiException)) {
+            return new ProviderException(Error.PROVIDER_UNAVAILABLE, e.getMessage(), null, 0, !isConnectFailure(e));
+        }
+        int status = apiException.getStatusCode() == null ? 0 : apiException.getStatusCode();
+        Error error = status == 429 ? Error.TOO_MANY_REQUESTS
+                : status >= 500 ? Error.PROVIDER_UNAVAILABLE
+                : Error.INVALID_REQUEST;
+        return new ProviderException(error, e.getMessage(),
+                apiException.getCode() == null ? null : String.valueOf(apiException.getCode()), status);
+    }
+
+    /**
+     * This method tells whether a connection failure happened before the request was written:
+     * the host could not be resolved or reached, the connection was refused or timed out,
+     * or no pooled connection was free.
+     */
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException
+                    || cause instanceof NoRouteToHostException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
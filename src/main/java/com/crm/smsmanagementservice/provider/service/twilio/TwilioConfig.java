@@ -1,13 +1,16 @@
 package com.crm.smsmanagementservice.provider.service.twilio;
 
 import com.twilio.Twilio;
+import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.api.v2010.account.IncomingPhoneNumber;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -27,7 +30,7 @@ import java.net.URISyntaxException;
 @Slf4j(topic = "TwilioConfig")
 @ConfigurationProperties(prefix = "twilio")
 @AllArgsConstructor @NoArgsConstructor
-@Profile("!test")
+@Profile("!test & !loadtest")
 public class TwilioConfig {
     @Value("${twilio.accountSid}")
     private String accountSid;
@@ -51,6 +54,10 @@ public class TwilioConfig {
     private String inboundMessageEndpoint;
     @Value("${twilio.useTestAccount}")
     private boolean useTestAccount;
+    @Autowired
+    private TwilioHttpConfig httpConfig;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
 
     public String getStatusCallbackUrl() {
@@ -63,15 +70,26 @@ public class TwilioConfig {
             log.info("Using test account");
             log.info("Test account sid: {}", this.testAccountSid);
             log.info("Test auth token: {}", this.testAuthToken);
-            Twilio.init(this.testAccountSid, this.testAuthToken);
+            init(this.testAccountSid, this.testAuthToken);
         } else {
             log.info("Using twilio production account");
-            Twilio.init(this.accountSid, this.authToken);
+            init(this.accountSid, this.authToken);
             setUpNumber();
         }
         log.info("Twilio configuration initialized");
     }
 
+    /**
+     * This method initializes the Twilio SDK with a REST client on the pooled HTTP client,
+     * which every SDK call then goes through.
+     */
+    private void init(String username, String password) {
+        Twilio.init(username, password);
+        Twilio.setRestClient(new TwilioRestClient.Builder(username, password)
+                .httpClient(httpConfig.buildHttpClient(meterRegistry))
+                .build());
+    }
+
     private void setUpNumber() throws URISyntaxException {
         IncomingPhoneNumber phoneNumber = IncomingPhoneNumber.reader()
                 .setPhoneNumber(new com.twilio.type.PhoneNumber(this.twilioNumber))
@@ -0,0 +1,86 @@
+package com.crm.smsmanagementservice.provider.service.twilio;
+
+import com.twilio.http.NetworkHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the HTTP client the Twilio SDK calls the provider with.
+ * The SDK's default client holds 10 connections per route, which our parallel sends, all bound for
+ * api.twilio.com, queue on. This client pools maxConnectionsPerRoute connections, keeps them alive between calls
+ * so TLS handshakes are not repeated, and bounds the time to connect, to wait for a pooled connection and to read.
+ * The pool is published as the "httpcomponents.httpclient.pool" meters, tagged httpclient=twilio.
+ * The SDK is built on Apache HttpClient 4, which does not speak HTTP/2, so calls use HTTP/1.1 keep-alive.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@Getter @Setter
+@Configuration
+@Slf4j(topic = "TWILIO_HTTP_CONFIG")
+@ConfigurationProperties(prefix = "twilio.http")
+@Profile("!test & !loadtest")
+public class TwilioHttpConfig {
+    private int maxConnections = 200;
+    private int maxConnectionsPerRoute = 200;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration keepAlive = Duration.ofSeconds(60);
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * This method builds the pooled HTTP client and binds its pool metrics.
+     * @param meterRegistry the meter registry
+     * @return the HTTP client for the Twilio REST client
+     */
+    public NetworkHttpClient buildHttpClient(MeterRegistry meterRegistry) {
+        connectionManager = new PoolingHttpClientConnectionManager(keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity((int) validateAfterInactivity.toMillis());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "twilio").bindTo(meterRegistry);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis())
+                .setSocketTimeout((int) readTimeout.toMillis())
+                .build();
+        HttpClientBuilder clientBuilder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return advertised > 0 ? Math.min(advertised, keepAlive.toMillis()) : keepAlive.toMillis();
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Twilio HTTP client pooling {} connections per route, {} in total", maxConnectionsPerRoute, maxConnections);
+        return new NetworkHttpClient(clientBuilder);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+        }
+    }
+}
@@ -2,10 +2,13 @@ package com.crm.smsmanagementservice.provider.service.twilio;
 
 
 import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.provider.service.CachingPhoneNumberValidator;
 import com.twilio.exception.ApiException;
 import com.twilio.rest.lookups.v2.PhoneNumber;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,7 +20,7 @@ import org.springframework.stereotype.Component;
  * @created : 2/23/2024, Friday
  */
 
-@Component @Slf4j
+@Component @Slf4j @Profile("!loadtest") @Qualifier(CachingPhoneNumberValidator.LOOKUP_QUALIFIER)
 public class TwilioPhoneNumberValidator implements IPhoneNumberValidator {
 
     /**
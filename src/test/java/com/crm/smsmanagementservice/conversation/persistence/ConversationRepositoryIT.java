@@ -2,6 +2,8 @@ package com.crm.smsmanagementservice.conversation.persistence;
 
 import com.crm.smsmanagementservice.config.EmbeddedMongoConfig;
 import com.crm.smsmanagementservice.conversation.ConversationStatus;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -9,16 +11,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataMongoTest
@@ -62,9 +67,9 @@ public class ConversationRepositoryIT {
     @Test
     public void testFindAllByUserId() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<ConversationDocument> page = conversationRepository.findAllByUserId("user-1", pageable);
+        Slice<ConversationDocument> page = conversationRepository.findAllByUserId("user-1", pageable);
 
-        assertEquals(1, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
         assertEquals("user-1", page.getContent().get(0).getUserId());
     }
 
@@ -87,10 +92,81 @@ public class ConversationRepositoryIT {
     public void testPagination() {
         Pageable pageable = PageRequest.of(0, 1);
 
-        Page<ConversationDocument> page = conversationRepository.findAllByUserId("user-1", pageable);
+        Slice<ConversationDocument> page = conversationRepository.findAllByUserId("user-1", pageable);
 
-        assertEquals(1, page.getTotalElements());
+        assertFalse(page.hasNext());
         assertEquals(1, page.getContent().size());
         assertEquals("user-1", page.getContent().get(0).getUserId());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUpsertConversations_CreatesOnlyMissing() {
+        conversationRepository.upsertConversations("user-1", Set.of("contact-1", "contact-3"), ZonedDateTime.now());
+
+        List<ConversationDocument> result = conversationRepository
+                .findAllByUserIdAndContactIdIn("user-1", Set.of("contact-1", "contact-3"));
+
+        assertEquals(2, result.size());
+        assertEquals(3, conversationRepository.count());
+        ConversationDocument existing = result.stream()
+                .filter(conversation -> conversation.getContactId().equals("contact-1")).findFirst().orElseThrow();
+        assertEquals("conv-1", existing.getId());
+        assertEquals("Test Conversation 1", existing.getConversationName());
+        ConversationDocument created = result.stream()
+                .filter(conversation -> conversation.getContactId().equals("contact-3")).findFirst().orElseThrow();
+        assertEquals(ConversationStatus.OPEN, created.getStatus());
+    }
+
+    @Test
+    public void testApplyMessages_KeepsLatestAndCountsAll() {
+        ZonedDateTime now = ZonedDateTime.now();
+        conversationRepository.applyMessages(changes("msg-2", now, MessageDirection.INBOUND, 1L));
+        conversationRepository.applyMessages(changes("msg-1", now.minusMinutes(1), MessageDirection.OUTBOUND_API, 0L));
+
+        ConversationDocument result = conversationRepository.findById("conv-1").orElseThrow();
+        assertEquals("msg-2", result.getLastMessageId());
+        assertEquals(MessageDirection.INBOUND, result.getLastMessageDirection());
+        assertEquals(2L, result.getMessageCount());
+        assertEquals(1L, result.getUnreadCount());
+    }
+
+    @Test
+    public void testUpdateLastMessageStatuses_OnlyLatestAndForward() {
+        conversationRepository.applyMessages(changes("msg-1", ZonedDateTime.now(), MessageDirection.OUTBOUND_API, 0L));
+
+        assertEquals(0, conversationRepository.updateLastMessageStatuses(List.of(status("msg-0", MessageStatus.DELIVERED))));
+        assertEquals(1, conversationRepository.updateLastMessageStatuses(List.of(
+                status("msg-0", MessageStatus.SENT), status("msg-1", MessageStatus.DELIVERED))));
+        assertEquals(0, conversationRepository.updateLastMessageStatuses(List.of(status("msg-1", MessageStatus.SENT))));
+        assertEquals(MessageStatus.DELIVERED,
+                conversationRepository.findById("conv-1").orElseThrow().getLastMessageStatus());
+    }
+
+    @Test
+    public void testMarkRead_ResetsUnreadCount() {
+        conversationRepository.applyMessages(changes("msg-1", ZonedDateTime.now(), MessageDirection.INBOUND, 1L));
+
+        Optional<ConversationDocument> result = conversationRepository.markRead("conv-1");
+
+        assertTrue(result.isPresent());
+        assertEquals(0L, result.get().getUnreadCount());
+        assertFalse(conversationRepository.markRead("conv-unknown").isPresent());
+    }
+
+    private ConversationDocument status(String messageId, MessageStatus status) {
+        return ConversationDocument.builder().id("conv-1").lastMessageId(messageId).lastMessageStatus(status).build();
+    }
+
+    private ConversationDocument changes(String messageId, ZonedDateTime time, MessageDirection direction, long unread) {
+        return ConversationDocument.builder()
+                .id("conv-1")
+                .lastMessageId(messageId)
+                .lastMessagePreview("preview")
+                .lastMessageDirection(direction)
+                .lastMessageStatus(MessageStatus.QUEUED)
+                .lastMessageTime(time)
+                .messageCount(1L)
+                .unreadCount(unread)
+                .build();
+    }
+}
@@ -5,23 +5,41 @@ import com.crm.smsmanagementservice.conversation.ConversationStatus;
 import com.crm.smsmanagementservice.conversation.persistence.ConversationDocument;
 import com.crm.smsmanagementservice.conversation.persistence.ConversationMapper;
 import com.crm.smsmanagementservice.conversation.persistence.ConversationRepository;
+import com.crm.smsmanagementservice.core.config.CountEstimateConfig;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.dto.PageCursor;
+import com.crm.smsmanagementservice.core.enums.CountMode;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.event.UpdateConversationEvent;
+import com.crm.smsmanagementservice.core.event.UpdateConversationStatusEvent;
 import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ConversationServiceTest {
@@ -32,6 +50,14 @@ class ConversationServiceTest {
     @Mock
     private ConversationMapper conversationMapper;
 
+    @Spy
+    private ConversationIdCache conversationIdCache =
+            new ConversationIdCache(new ConversationCacheConfig(), new SimpleMeterRegistry());
+
+    @Spy
+    private ConversationCounts conversationCounts =
+            new ConversationCounts(new CountEstimateConfig(), new SimpleMeterRegistry());
+
     @InjectMocks
     private ConversationService conversationService;
 
@@ -40,6 +66,63 @@ class ConversationServiceTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @Test
+    void testGetConversationsByUserId_Cursor() {
+        ZonedDateTime createdDate = ZonedDateTime.parse("2026-10-18T10:15:30Z");
+        List<ConversationDocument> documents = List.of(
+                ConversationDocument.builder().id("conv-1").userId("user1").createdDate(createdDate).build(),
+                ConversationDocument.builder().id("conv-2").userId("user1").createdDate(createdDate.minusMinutes(1)).build(),
+                ConversationDocument.builder().id("conv-3").userId("user1").createdDate(createdDate.minusMinutes(2)).build());
+        PageCursor after = new PageCursor(createdDate.plusMinutes(1), "conv-0");
+        when(conversationRepository.findPageByUserId("user1", after, Sort.Direction.DESC, 2)).thenReturn(documents);
+        when(conversationMapper.toDTO(any(ConversationDocument.class))).thenReturn(ConversationDTO.builder().build());
+
+        CursorPage<ConversationDTO> result = conversationService.getConversationsByUserId(
+                "user1", after.encode(), 2, Sort.Direction.DESC);
+
+        assertEquals(2, result.content().size());
+        assertEquals(new PageCursor(createdDate.minusMinutes(1), "conv-2"), PageCursor.decode(result.next()));
+        verify(conversationRepository, never()).countByUserId(anyString());
+    }
+
+    @Test
+    void testGetConversationsByUserId_LastPage() {
+        when(conversationRepository.findPageByUserId("user1", null, Sort.Direction.DESC, 10)).thenReturn(List.of());
+
+        CursorPage<ConversationDTO> result = conversationService.getConversationsByUserId(
+                "user1", null, 10, Sort.Direction.DESC);
+
+        assertTrue(result.content().isEmpty());
+        assertNull(result.next());
+    }
+
+    @Test
+    void testGetConversationsByUserId_InvalidCursor() {
+        assertThrows(DomainException.class, () -> conversationService.getConversationsByUserId(
+                "user1", "not-a-cursor", 10, Sort.Direction.DESC));
+    }
+
+    @Test
+    void testCountConversationsByUserId_Modes() {
+        when(conversationRepository.countByUserId("user1")).thenReturn(4L);
+
+        assertNull(conversationService.countConversationsByUserId("user1", CountMode.NONE));
+        assertEquals(4L, conversationService.countConversationsByUserId("user1", CountMode.EXACT));
+        verify(conversationRepository, times(1)).countByUserId("user1");
+    }
+
+    @Test
+    void testCountConversationsByUserId_EstimateFollowsCreates() {
+        when(conversationRepository.countByUserId("user1")).thenReturn(4L);
+        when(conversationRepository.findAllByUserIdAndContactIdIn(eq("user1"), anyCollection())).thenReturn(List.of());
+
+        assertEquals(4L, conversationService.countConversationsByUserId("user1", CountMode.ESTIMATE));
+        conversationService.findOrCreateConversations("user1", Set.of("contact1", "contact2"));
+
+        assertEquals(6L, conversationService.countConversationsByUserId("user1", CountMode.ESTIMATE));
+        verify(conversationRepository, times(1)).countByUserId("user1");
+    }
+
    @Test
     void testCreateConversation_Success() {
         ConversationDTO dto = ConversationDTO.builder()
@@ -160,9 +243,9 @@ class ConversationServiceTest {
 
         when(conversationMapper.toDTO(conversationDocument)).thenReturn(dto);
 
-        Page<ConversationDTO> result = conversationService.getConversationsByUserId(userId, pageable);
+        Slice<ConversationDTO> result = conversationService.getConversationsByUserId(userId, pageable);
 
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
         verify(conversationRepository, times(1)).findAllByUserId(userId, pageable);
     }
 
@@ -173,9 +256,9 @@ class ConversationServiceTest {
 
         when(conversationRepository.findAllByUserId(userId, pageable)).thenReturn(Page.empty());
 
-        Page<ConversationDTO> result = conversationService.getConversationsByUserId(userId, pageable);
+        Slice<ConversationDTO> result = conversationService.getConversationsByUserId(userId, pageable);
 
-        assertEquals(0, result.getTotalElements());
+        assertFalse(result.hasContent());
         verify(conversationRepository, times(1)).findAllByUserId(userId, pageable);
     }
 
@@ -304,4 +387,115 @@ class ConversationServiceTest {
         verify(conversationRepository, times(1)).findByUserIdAndContactId(userId, contactId);
         verify(conversationRepository, times(1)).save(any(ConversationDocument.class));
     }
+
+    @Test
+    void testFindOrCreateConversations_CreatesOnlyMissing() {
+        String userId = "user1";
+        ConversationDocument existing = ConversationDocument.builder()
+                .id("conv1").userId(userId).contactId("contact1").build();
+        ConversationDocument created = ConversationDocument.builder()
+                .id("conv2").userId(userId).contactId("contact2").build();
+
+        when(conversationRepository.findAllByUserIdAndContactIdIn(userId, Set.of("contact1", "contact2")))
+                .thenReturn(List.of(existing));
+        when(conversationRepository.findAllByUserIdAndContactIdIn(userId, Set.of("contact2")))
+                .thenReturn(List.of(created));
+
+        Map<String, String> conversationIds = conversationService
+                .findOrCreateConversations(userId, Set.of("contact1", "contact2"));
+
+        assertEquals(Map.of("contact1", "conv1", "contact2", "conv2"), conversationIds);
+        verify(conversationRepository, times(1)).upsertConversations(eq(userId), eq(Set.of("contact2")), any());
+        verify(conversationRepository, never()).save(any());
+    }
+
+    @Test
+    void testFindOrCreateConversations_AllExisting() {
+        String userId = "user1";
+        ConversationDocument existing = ConversationDocument.builder()
+                .id("conv1").userId(userId).contactId("contact1").build();
+        when(conversationRepository.findAllByUserIdAndContactIdIn(userId, Set.of("contact1")))
+                .thenReturn(List.of(existing));
+
+        Map<String, String> conversationIds = conversationService.findOrCreateConversations(userId, Set.of("contact1"));
+
+        assertEquals(Map.of("contact1", "conv1"), conversationIds);
+        verify(conversationRepository, never()).upsertConversations(any(), any(), any());
+    }
+
+    @Test
+    void testFindOrCreateConversation_CachesConversationId() {
+        ConversationDocument existing = ConversationDocument.builder()
+                .id("conv1").userId("user1").contactId("contact1").build();
+        when(conversationRepository.findByUserIdAndContactId("user1", "contact1")).thenReturn(Optional.of(existing));
+
+        assertEquals("conv1", conversationService.findOrCreateConversation("user1", "contact1"));
+        assertEquals("conv1", conversationService.findOrCreateConversation("user1", "contact1"));
+        assertEquals(Map.of("contact1", "conv1"),
+                conversationService.findOrCreateConversations("user1", Set.of("contact1")));
+
+        verify(conversationRepository, times(1)).findByUserIdAndContactId("user1", "contact1");
+        verify(conversationRepository, never()).findAllByUserIdAndContactIdIn(any(), any());
+    }
+
+    @Test
+    void testUpdateConversation_ClosingInvalidatesCache() {
+        ConversationDocument existing = ConversationDocument.builder()
+                .id("conv1").userId("user1").contactId("contact1").status(ConversationStatus.OPEN).build();
+        when(conversationRepository.findByUserIdAndContactId("user1", "contact1")).thenReturn(Optional.of(existing));
+        when(conversationRepository.findById("conv1")).thenReturn(Optional.of(existing));
+        when(conversationRepository.save(existing)).thenReturn(existing);
+
+        conversationService.findOrCreateConversation("user1", "contact1");
+        conversationService.updateConversation("conv1",
+                ConversationDTO.builder().status(ConversationStatus.CLOSED).build());
+        conversationService.findOrCreateConversation("user1", "contact1");
+
+        verify(conversationIdCache, times(1)).invalidate("user1", "contact1");
+        verify(conversationRepository, times(2)).findByUserIdAndContactId("user1", "contact1");
+    }
+
+    @Test
+    void testUpdateConversationSummary_AppliesDeltas() {
+        ZonedDateTime time = ZonedDateTime.now();
+
+        conversationService.updateConversationSummary(new UpdateConversationEvent(this, "conv1", "msg1", "hello",
+                MessageDirection.INBOUND, MessageStatus.RECEIVED, time, 3, 2));
+
+        ArgumentCaptor<ConversationDocument> captor = ArgumentCaptor.forClass(ConversationDocument.class);
+        verify(conversationRepository, times(1)).applyMessages(captor.capture());
+        assertEquals("conv1", captor.getValue().getId());
+        assertEquals("msg1", captor.getValue().getLastMessageId());
+        assertEquals(time, captor.getValue().getLastMessageTime());
+        assertEquals(3L, captor.getValue().getMessageCount());
+        assertEquals(2L, captor.getValue().getUnreadCount());
+    }
+
+    @Test
+    void testUpdateConversationSummaryStatuses_SingleBulkWrite() {
+        conversationService.updateConversationSummaryStatuses(List.of(
+                new UpdateConversationStatusEvent(this, "conv1", "msg1", MessageStatus.DELIVERED),
+                new UpdateConversationStatusEvent(this, "conv2", "msg2", MessageStatus.FAILED)));
+
+        verify(conversationRepository, times(1)).updateLastMessageStatuses(argThat(changes -> changes.size() == 2
+                && changes.stream().anyMatch(change -> "conv2".equals(change.getId())
+                        && "msg2".equals(change.getLastMessageId()) && change.getLastMessageStatus() == MessageStatus.FAILED)));
+    }
+
+    @Test
+    void testUpdateConversationSummaryStatuses_SkipsEmpty() {
+        conversationService.updateConversationSummaryStatuses(List.of());
+
+        verifyNoInteractions(conversationRepository);
+    }
+
+    @Test
+    void testMarkConversationRead_NotFound() {
+        when(conversationRepository.markRead("conv1")).thenReturn(Optional.empty());
+
+        DomainException exception = assertThrows(DomainException.class, () ->
+                conversationService.markConversationRead("conv1"));
+
+        assertEquals(Error.ENTITY_NOT_FOUND.getCode(), exception.getCode());
+    }
 }
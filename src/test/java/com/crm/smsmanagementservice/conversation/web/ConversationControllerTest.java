@@ -2,6 +2,8 @@ package com.crm.smsmanagementservice.conversation.web;
 
 import com.crm.smsmanagementservice.conversation.ConversationDTO;
 import com.crm.smsmanagementservice.conversation.ConversationExternalAPI;
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.enums.CountMode;
 import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +21,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -73,15 +76,34 @@ class ConversationControllerTest {
         Page<ConversationDTO> conversationPage = new PageImpl<>(conversations, pageable, conversations.size());
         when(conversationService.getConversationsByUserId(eq("user1"), any(Pageable.class)))
                 .thenReturn(conversationPage);
+        when(conversationService.countConversationsByUserId("user1", CountMode.EXACT)).thenReturn(1L);
 
         mockMvc.perform(get("/api/v1/conversation/user/{id}", "user1")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].id").value("conv1"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.totalPages").value(1))
                 .andExpect(jsonPath("$.responseMessage").value("Conversations fetched successfully"));
     }
 
+    @Test
+    void testGetConversationsByUserId_CursorWithoutCount() throws Exception {
+        when(conversationService.getConversationsByUserId("user1", null, 10, Sort.Direction.DESC))
+                .thenReturn(new CursorPage<>(List.of(conversationDTO), null));
+        when(conversationService.countConversationsByUserId("user1", CountMode.NONE)).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/conversation/user/{id}", "user1")
+                        .param("cursor", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value("conv1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(conversationService).countConversationsByUserId("user1", CountMode.NONE);
+    }
+
     @Test
     void testCreateConversation_Success() throws Exception {
         when(conversationService.createConversation(any(ConversationDTO.class))).thenReturn(conversationDTO);
@@ -166,4 +188,13 @@ class ConversationControllerTest {
                         .content(json))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMarkConversationRead_Success() throws Exception {
+        when(conversationService.markConversationRead("conv1")).thenReturn(conversationDTO);
+
+        mockMvc.perform(post("/api/v1/conversation/{id}/read", "conv1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responseMessage").value("Conversation marked read successfully"));
+    }
+}
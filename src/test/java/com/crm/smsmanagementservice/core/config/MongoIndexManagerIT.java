@@ -0,0 +1,91 @@
+package com.crm.smsmanagementservice.core.config;
+
+import com.crm.smsmanagementservice.config.EmbeddedMongoConfig;
+import com.crm.smsmanagementservice.conversation.persistence.ConversationDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+@ExtendWith(SpringExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({EmbeddedMongoConfig.class, MongoIndexManager.class, MongoIndexManagerIT.QueryShapes.class})
+public class MongoIndexManagerIT {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexManager mongoIndexManager;
+
+    @TestConfiguration
+    static class QueryShapes {
+        @Bean
+        MongoQueryShape indexedShape() {
+            return MongoQueryShape.of("messages.byResourceId", "messages", new Document("resourceId", "SM0"));
+        }
+
+        @Bean
+        MongoQueryShape unindexedShape() {
+            return MongoQueryShape.of("messages.byContent", "messages", new Document("content", "hello"));
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        mongoTemplate.indexOps(MessageDocument.class).dropAllIndexes();
+        mongoTemplate.indexOps(ConversationDocument.class).dropAllIndexes();
+    }
+
+    @Test
+    void testEnsureIndexes_CreatesDeclaredIndexes() {
+        List<String> messageIndexes = mongoTemplate.indexOps(MessageDocument.class).getIndexInfo().stream()
+                .map(IndexInfo::getName).toList();
+        List<String> conversationIndexes = mongoTemplate.indexOps(ConversationDocument.class).getIndexInfo().stream()
+                .map(IndexInfo::getName).toList();
+
+        assertTrue(messageIndexes.containsAll(List.of("resource_id", "user_contact_status_created", "user_created",
+                "to_direction_created", "dispatch_status_created", "batch_dispatch_status_created")));
+        assertTrue(conversationIndexes.contains("user_contact"));
+        assertTrue(mongoIndexManager.getFailedIndexes().isEmpty());
+    }
+
+    @Test
+    void testEnsureIndexes_ResourceIdIsUnique() {
+        mongoTemplate.remove(new Query(), MessageDocument.class);
+        mongoTemplate.insert(MessageDocument.builder().id("unique-1").resourceId("SM-unique").build());
+        mongoTemplate.insert(MessageDocument.builder().id("unique-2").build());
+        mongoTemplate.insert(MessageDocument.builder().id("unique-3").build());
+
+        assertThrows(DuplicateKeyException.class, () ->
+                mongoTemplate.insert(MessageDocument.builder().id("unique-4").resourceId("SM-unique").build()));
+        mongoTemplate.remove(new Query(), MessageDocument.class);
+    }
+
+    @Test
+    void testVerifyQueryShapes_ReportsCollectionScans() {
+        mongoIndexManager.verifyQueryShapes();
+
+        assertEquals(Boolean.TRUE, mongoIndexManager.getVerifiedShapes().get("messages.byResourceId"));
+        assertEquals(Boolean.FALSE, mongoIndexManager.getVerifiedShapes().get("messages.byContent"));
+    }
+}
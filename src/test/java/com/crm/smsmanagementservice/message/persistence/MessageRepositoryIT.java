@@ -2,6 +2,7 @@ package com.crm.smsmanagementservice.message.persistence;
 
 import com.crm.smsmanagementservice.config.EmbeddedMongoConfig;
 import com.crm.smsmanagementservice.conversation.persistence.ConversationRepository;
+import com.crm.smsmanagementservice.core.dto.PageCursor;
 import com.crm.smsmanagementservice.core.enums.MessageDirection;
 import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import lombok.RequiredArgsConstructor;
@@ -12,14 +13,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,21 +67,33 @@ public class MessageRepositoryIT {
     @Test
     void testFindDeliveredMessagesByUserIdAndContactId() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<MessageDocument> result = messageRepository.findDeliveredMessagesByUserIdAndContactId(
+        Slice<MessageDocument> result = messageRepository.findDeliveredMessagesByUserIdAndContactId(
                 "user-1", "contact-1", pageable);
 
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.getTotalElements());
+        assertFalse(result.hasNext());
+        assertEquals(1, result.getContent().size());
         assertEquals(testMessage.getId(), result.getContent().getFirst().getId());
     }
 
+    @Test
+    void testCountDeliveredMessagesByUserIdAndContactId() {
+        messageRepository.save(MessageDocument.builder()
+                .userId("user-1")
+                .contactId("contact-1")
+                .status(MessageStatus.QUEUED)
+                .createdDate(ZonedDateTime.now())
+                .build());
+
+        assertEquals(1, messageRepository.countDeliveredMessagesByUserIdAndContactId("user-1", "contact-1"));
+    }
+
     @Test
     void testFindMessagesByUserId() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<MessageDocument> result = messageRepository.findMessageDocumentByUserId("user-1", pageable);
+        Slice<MessageDocument> result = messageRepository.findMessageDocumentByUserId("user-1", pageable);
 
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.getTotalElements());
+        assertFalse(result.hasNext());
+        assertEquals(1, result.getContent().size());
         assertEquals(testMessage.getId(), result.getContent().getFirst().getId());
     }
 
@@ -88,6 +105,13 @@ public class MessageRepositoryIT {
         assertEquals(testMessage.getId(), result.get().getId());
     }
 
+    @Test
+    void testFindKnownResourceIds() {
+        Set<String> result = messageRepository.findKnownResourceIds(List.of("res-1", "res-unknown"));
+
+        assertEquals(Set.of("res-1"), result);
+    }
+
     @Test
     void testFindFirstByToAndDirectionOrderByCreatedDateDesc() {
         Optional<MessageDocument> result = messageRepository.findFirstByToAndDirectionOrderByCreatedDateDesc("+0987654321", MessageDirection.INBOUND);
@@ -95,4 +119,196 @@ public class MessageRepositoryIT {
         assertTrue(result.isPresent());
         assertEquals(testMessage.getId(), result.get().getId());
     }
+
+    @Test
+    void testClaimPending_LeasesEachMessageOnce() {
+        ZonedDateTime leaseExpiresAt = ZonedDateTime.now().plusMinutes(1);
+        messageRepository.saveAll(List.of(
+                MessageDocument.builder().id("outbox-1").batchId("batch-claim").dispatchStatus(DispatchStatus.PENDING)
+                        .dispatchAttempts(0).createdDate(ZonedDateTime.now()).build(),
+                MessageDocument.builder().id("outbox-2").batchId("batch-claim").dispatchStatus(DispatchStatus.PENDING)
+                        .dispatchAttempts(0).createdDate(ZonedDateTime.now()).build()));
+
+        List<MessageDocument> first = messageRepository.claimPending("batch-claim", "owner-1", leaseExpiresAt, 10);
+        List<MessageDocument> second = messageRepository.claimPending("batch-claim", "owner-2", leaseExpiresAt, 10);
+
+        assertEquals(2, first.size());
+        assertTrue(second.isEmpty());
+        assertTrue(first.stream().allMatch(document -> document.getDispatchStatus() == DispatchStatus.IN_FLIGHT
+                && "owner-1".equals(document.getLeaseOwner()) && document.getDispatchAttempts() == 1));
+    }
+
+    @Test
+    void testClaimPending_ReclaimsExpiredLease() {
+        messageRepository.save(MessageDocument.builder().id("outbox-3").batchId("batch-expired")
+                .dispatchStatus(DispatchStatus.IN_FLIGHT).leaseOwner("dead-owner")
+                .leaseExpiresAt(ZonedDateTime.now().minusMinutes(1)).dispatchAttempts(1)
+                .createdDate(ZonedDateTime.now()).build());
+
+        List<MessageDocument> claimed = messageRepository.claimPending("batch-expired", "owner-1",
+                ZonedDateTime.now().plusMinutes(1), 10);
+
+        assertEquals(1, claimed.size());
+        assertEquals("owner-1", claimed.getFirst().getLeaseOwner());
+        assertEquals(2, claimed.getFirst().getDispatchAttempts());
+    }
+
+    @Test
+    void testClaimPending_ReclaimsInFlightMessageWithoutLease() {
+        messageRepository.save(MessageDocument.builder().id("outbox-5").batchId("batch-unleased")
+                .dispatchStatus(DispatchStatus.IN_FLIGHT).dispatchAttempts(1)
+                .createdDate(ZonedDateTime.now()).build());
+
+        List<MessageDocument> claimed = messageRepository.claimPending("batch-unleased", "owner-1",
+                ZonedDateTime.now().plusMinutes(1), 10);
+
+        assertEquals(1, claimed.size());
+        assertEquals("owner-1", claimed.getFirst().getLeaseOwner());
+    }
+
+    @Test
+    void testRenewLease_ExtendsOnlyLeasesOfTheOwner() {
+        ZonedDateTime leaseExpiresAt = ZonedDateTime.now().plusSeconds(5);
+        messageRepository.save(MessageDocument.builder().id("outbox-6").batchId("batch-renew")
+                .dispatchStatus(DispatchStatus.PENDING).dispatchAttempts(0).createdDate(ZonedDateTime.now()).build());
+        messageRepository.claimPending("batch-renew", "owner-1", leaseExpiresAt, 1);
+
+        assertEquals(0, messageRepository.renewLease(List.of("outbox-6"), "owner-2", leaseExpiresAt.plusMinutes(1)));
+        assertEquals(1, messageRepository.renewLease(List.of("outbox-6"), "owner-1", leaseExpiresAt.plusMinutes(1)));
+        assertTrue(messageRepository.findById("outbox-6").orElseThrow().getLeaseExpiresAt()
+                .isAfter(leaseExpiresAt.plusSeconds(30)));
+    }
+
+    @Test
+    void testCompleteDispatch_RequiresLease() {
+        messageRepository.save(MessageDocument.builder().id("outbox-4").batchId("batch-complete")
+                .dispatchStatus(DispatchStatus.PENDING).dispatchAttempts(0).createdDate(ZonedDateTime.now()).build());
+        MessageDocument claimed = messageRepository.claimPending("batch-complete", "owner-1",
+                ZonedDateTime.now().plusMinutes(1), 1).getFirst();
+        claimed.setDispatchStatus(DispatchStatus.DISPATCHED);
+        claimed.setResourceId("SM-outbox-4");
+
+        assertFalse(messageRepository.completeDispatch(claimed, "owner-2"));
+        assertTrue(messageRepository.completeDispatch(claimed, "owner-1"));
+
+        MessageDocument stored = messageRepository.findById("outbox-4").orElseThrow();
+        assertEquals(DispatchStatus.DISPATCHED, stored.getDispatchStatus());
+        assertEquals("SM-outbox-4", stored.getResourceId());
+        assertNull(stored.getLeaseOwner());
+    }
+
+    @Test
+    void testCompleteDispatch_KeepsCancelWhileInFlight() {
+        messageRepository.save(MessageDocument.builder().id("outbox-8").batchId("batch-race").status(MessageStatus.QUEUED)
+                .dispatchStatus(DispatchStatus.PENDING).dispatchAttempts(0).createdDate(ZonedDateTime.now()).build());
+        MessageDocument claimed = messageRepository.claimPending("batch-race", "owner-1",
+                ZonedDateTime.now().plusMinutes(1), 1).getFirst();
+        messageRepository.cancel("outbox-8");
+        claimed.setStatus(MessageStatus.SENT);
+        claimed.setDispatchStatus(DispatchStatus.DISPATCHED);
+        claimed.setResourceId("SM-outbox-8");
+
+        assertTrue(messageRepository.completeDispatch(claimed, "owner-1"));
+
+        MessageDocument stored = messageRepository.findById("outbox-8").orElseThrow();
+        assertEquals(MessageStatus.CANCELLED, claimed.getStatus());
+        assertEquals(MessageStatus.CANCELLED, stored.getStatus());
+        assertEquals("SM-outbox-8", stored.getResourceId());
+        assertEquals(DispatchStatus.DISPATCHED, stored.getDispatchStatus());
+        assertNull(stored.getLeaseOwner());
+    }
+
+    @Test
+    void testBulkUpdateStatus_KeepsLaterStatus() {
+        messageRepository.saveAll(List.of(
+                MessageDocument.builder().id("status-1").resourceId("SM-status-1").status(MessageStatus.QUEUED)
+                        .createdDate(ZonedDateTime.now()).build(),
+                MessageDocument.builder().id("status-2").resourceId("SM-status-2").status(MessageStatus.DELIVERED)
+                        .createdDate(ZonedDateTime.now()).build()));
+
+        int modified = messageRepository.bulkUpdateStatus(List.of(
+                new MessageStatusUpdate("SM-status-1", MessageStatus.SENT, null, null),
+                new MessageStatusUpdate("SM-status-2", MessageStatus.SENT, null, null),
+                new MessageStatusUpdate("SM-missing", MessageStatus.SENT, null, null)));
+
+        assertEquals(1, modified);
+        assertEquals(MessageStatus.SENT, messageRepository.findById("status-1").orElseThrow().getStatus());
+        assertEquals(MessageStatus.DELIVERED, messageRepository.findById("status-2").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testUpdateStatus_OnlyMovesForward() {
+        messageRepository.save(MessageDocument.builder().id("status-3").resourceId("SM-status-3")
+                .status(MessageStatus.SENT).content("hello").createdDate(ZonedDateTime.now()).build());
+
+        assertFalse(messageRepository.updateStatus(new MessageStatusUpdate("SM-status-3", MessageStatus.QUEUED, null, null)));
+        assertTrue(messageRepository.updateStatus(new MessageStatusUpdate("SM-status-3", MessageStatus.UNDELIVERED, "30003", "Unreachable")));
+
+        MessageDocument stored = messageRepository.findById("status-3").orElseThrow();
+        assertEquals(MessageStatus.UNDELIVERED, stored.getStatus());
+        assertEquals("30003", stored.getErrorCode());
+        assertEquals("hello", stored.getContent());
+    }
+
+    @Test
+    void testUpdateProviderFields_SetsOnlyGivenFields() {
+        messageRepository.save(MessageDocument.builder().id("status-4").resourceId("SM-status-4")
+                .status(MessageStatus.DELIVERED).from("+15550000001").content("hello").createdDate(ZonedDateTime.now()).build());
+
+        assertFalse(messageRepository.updateProviderFields(MessageDocument.builder()
+                .resourceId("SM-status-4").status(MessageStatus.SENT).errorCode("stale").build()));
+        assertTrue(messageRepository.updateProviderFields(MessageDocument.builder()
+                .resourceId("SM-status-4").status(MessageStatus.DELIVERED).price(new BigDecimal("0.0075")).build()));
+
+        MessageDocument stored = messageRepository.findById("status-4").orElseThrow();
+        assertEquals(MessageStatus.DELIVERED, stored.getStatus());
+        assertEquals(0, new BigDecimal("0.0075").compareTo(stored.getPrice()));
+        assertNull(stored.getErrorCode());
+        assertEquals("+15550000001", stored.getFrom());
+        assertEquals("hello", stored.getContent());
+    }
+
+    @Test
+    void testCancel_OnlyCancellableStatuses() {
+        messageRepository.saveAll(List.of(
+                MessageDocument.builder().id("cancel-1").status(MessageStatus.SCHEDULED).createdDate(ZonedDateTime.now()).build(),
+                MessageDocument.builder().id("cancel-2").status(MessageStatus.SENT).createdDate(ZonedDateTime.now()).build()));
+
+        assertEquals(MessageStatus.CANCELLED, messageRepository.cancel("cancel-1").orElseThrow().getStatus());
+        assertTrue(messageRepository.cancel("cancel-2").isEmpty());
+        assertEquals(MessageStatus.SENT, messageRepository.findById("cancel-2").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testCancel_PendingOutboxMessageIsNotClaimed() {
+        messageRepository.save(MessageDocument.builder().id("outbox-7").batchId("batch-cancel")
+                .status(MessageStatus.QUEUED).dispatchStatus(DispatchStatus.PENDING).dispatchAttempts(0)
+                .createdDate(ZonedDateTime.now()).build());
+
+        assertEquals(MessageStatus.CANCELLED, messageRepository.cancel("outbox-7").orElseThrow().getStatus());
+
+        assertTrue(messageRepository.claimPending("batch-cancel", "owner-1", ZonedDateTime.now().plusMinutes(1), 10).isEmpty());
+        assertTrue(messageRepository.claimPending(null, "owner-1", ZonedDateTime.now().plusMinutes(1), 10).stream()
+                .noneMatch(document -> "outbox-7".equals(document.getId())));
+        assertEquals(DispatchStatus.PENDING, messageRepository.findById("outbox-7").orElseThrow().getDispatchStatus());
+    }
+
+    @Test
+    void testFindPageByUserId_WalksPagesByCursor() {
+        messageRepository.deleteAll();
+        ZonedDateTime createdDate = ZonedDateTime.parse("2026-10-18T10:15:30Z");
+        messageRepository.saveAll(List.of(
+                MessageDocument.builder().id("page-1").userId("page-user").createdDate(createdDate).build(),
+                MessageDocument.builder().id("page-2").userId("page-user").createdDate(createdDate).build(),
+                MessageDocument.builder().id("page-3").userId("page-user").createdDate(createdDate.minusMinutes(1)).build(),
+                MessageDocument.builder().id("page-4").userId("other-user").createdDate(createdDate).build()));
+
+        List<MessageDocument> first = messageRepository.findPageByUserId("page-user", null, Sort.Direction.DESC, 2);
+        assertEquals(List.of("page-2", "page-1", "page-3"), first.stream().map(MessageDocument::getId).toList());
+
+        PageCursor after = new PageCursor(first.get(1).getCreatedDate(), first.get(1).getId());
+        List<MessageDocument> second = messageRepository.findPageByUserId("page-user", after, Sort.Direction.DESC, 2);
+        assertEquals(List.of("page-3"), second.stream().map(MessageDocument::getId).toList());
+        assertEquals(3, messageRepository.countByUserId("page-user"));
+    }
 }
@@ -0,0 +1,122 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.conversation.persistence.ConversationDocument;
+import com.crm.smsmanagementservice.conversation.persistence.ConversationMapper;
+import com.crm.smsmanagementservice.conversation.persistence.ConversationRepository;
+import com.crm.smsmanagementservice.conversation.service.ConversationCounts;
+import com.crm.smsmanagementservice.conversation.service.ConversationIdCache;
+import com.crm.smsmanagementservice.conversation.service.ConversationService;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Messages are sent and their statuses stored outside any transaction;
+ * the conversation summaries must still follow them.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@SpringJUnitConfig(ConversationSummaryUpdateTest.Config.class)
+class ConversationSummaryUpdateTest {
+    @Configuration
+    @EnableTransactionManagement
+    @Import({MessageChangePublisher.class, MessageStatusCache.class, MessageStatusCacheConfig.class, ConversationService.class})
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+    }
+
+    @Autowired
+    private MessageChangePublisher messageChangePublisher;
+
+    @MockBean
+    private MessageRepository messageRepository;
+
+    @MockBean
+    private MessageStreamHub messageStreamHub;
+
+    @MockBean
+    private ConversationRepository conversationRepository;
+
+    @MockBean
+    private ConversationMapper conversationMapper;
+
+    @MockBean
+    private ConversationIdCache conversationIdCache;
+
+    @MockBean
+    private ConversationCounts conversationCounts;
+
+    @Test
+    void testSend_UpdatesConversationSummaryWithoutTransaction() {
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+        MessageDocument sent = MessageDocument.builder()
+                .id("msg-1")
+                .conversationId("conv-1")
+                .content("hello")
+                .direction(MessageDirection.OUTBOUND_API)
+                .status(MessageStatus.QUEUED)
+                .createdDate(ZonedDateTime.now())
+                .build();
+
+        messageChangePublisher.messagesCreated(List.of(sent));
+
+        ArgumentCaptor<ConversationDocument> captor = ArgumentCaptor.forClass(ConversationDocument.class);
+        verify(conversationRepository).applyMessages(captor.capture());
+        assertEquals("conv-1", captor.getValue().getId());
+        assertEquals("msg-1", captor.getValue().getLastMessageId());
+        assertEquals(1L, captor.getValue().getMessageCount());
+    }
+
+    @Test
+    void testStatusCallback_UpdatesConversationSummaryStatusWithoutTransaction() {
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+
+        messageChangePublisher.statusChanged(MessageDocument.builder()
+                .id("msg-1")
+                .resourceId("SM1")
+                .conversationId("conv-1")
+                .status(MessageStatus.SENT)
+                .build());
+        messageChangePublisher.statusesChanged(List.of(new MessageStatusUpdate("SM1", MessageStatus.DELIVERED, null, null)));
+
+        ArgumentCaptor<Collection<ConversationDocument>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(conversationRepository, times(2)).updateLastMessageStatuses(captor.capture());
+        ConversationDocument delivered = captor.getAllValues().getLast().iterator().next();
+        assertEquals("conv-1", delivered.getId());
+        assertEquals("msg-1", delivered.getLastMessageId());
+        assertEquals(MessageStatus.DELIVERED, delivered.getLastMessageStatus());
+        verifyNoInteractions(messageRepository);
+    }
+}
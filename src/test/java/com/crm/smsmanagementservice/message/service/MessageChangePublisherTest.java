@@ -0,0 +1,160 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.conversation.ConversationInternalAPI;
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.event.UpdateConversationEvent;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageChangePublisherTest {
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageStreamHub messageStreamHub;
+
+    @Mock
+    private ConversationInternalAPI conversationInternalAPI;
+
+    private MessageChangePublisher messageChangePublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        messageChangePublisher = new MessageChangePublisher(messageRepository, messageStreamHub, conversationInternalAPI,
+                new MessageStatusCache(new MessageStatusCacheConfig(), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void testMessagesCreated_OneEventPerConversation() {
+        ZonedDateTime now = ZonedDateTime.now();
+        messageChangePublisher.messagesCreated(List.of(
+                message("msg-1", "conv-1", "first", now),
+                message("msg-2", "conv-2", "other", now),
+                message("msg-3", "conv-1", "x".repeat(150), now),
+                message("msg-4", null, "no conversation", now)));
+
+        ArgumentCaptor<UpdateConversationEvent> captor = ArgumentCaptor.forClass(UpdateConversationEvent.class);
+        verify(conversationInternalAPI, times(2)).updateConversationSummary(captor.capture());
+        UpdateConversationEvent first = captor.getAllValues().getFirst();
+        assertEquals("conv-1", first.getConversationId());
+        assertEquals("msg-3", first.getMessageId());
+        assertEquals(MessageChangePublisher.PREVIEW_LENGTH, first.getMessagePreview().length());
+        assertEquals(2, first.getMessageCount());
+        assertEquals(0, first.getUnreadCount());
+    }
+
+    @Test
+    void testInboundCreated_CountsUnread() {
+        MessageDocument inbound = message("msg-1", "conv-1", "hello", ZonedDateTime.now());
+        inbound.setDirection(MessageDirection.INBOUND);
+
+        messageChangePublisher.inboundCreated(inbound);
+
+        ArgumentCaptor<UpdateConversationEvent> captor = ArgumentCaptor.forClass(UpdateConversationEvent.class);
+        verify(conversationInternalAPI).updateConversationSummary(captor.capture());
+        assertEquals(1, captor.getValue().getUnreadCount());
+        verify(messageStreamHub).publishInbound(inbound);
+    }
+
+    @Test
+    void testStatusesChanged_ReadsUncachedMessagesOnceAndPublishesStoredStatus() {
+        when(messageRepository.findStatusesByResourceIds(List.of("SM1", "SM2"))).thenReturn(List.of(
+                MessageDocument.builder().id("msg-1").resourceId("SM1").conversationId("conv-1").status(MessageStatus.DELIVERED).build(),
+                MessageDocument.builder().id("msg-2").resourceId("SM2").status(MessageStatus.FAILED).build()));
+
+        messageChangePublisher.statusesChanged(List.of(update("SM1", MessageStatus.DELIVERED), update("SM2", MessageStatus.FAILED)));
+
+        verify(conversationInternalAPI, times(1)).updateConversationSummaryStatuses(argThat(events -> events.size() == 1
+                && events.iterator().next().getStatus() == MessageStatus.DELIVERED));
+        verify(messageStreamHub, times(2)).publishStatus(any(MessageDocument.class));
+        verify(messageRepository, times(1)).findStatusesByResourceIds(anyCollection());
+    }
+
+    @Test
+    void testStatusesChanged_DispatchedMessagesNeedNoRead() {
+        messageChangePublisher.statusChanged(dispatched("msg-1", "SM1", "conv-1"));
+        messageChangePublisher.statusChanged(dispatched("msg-2", "SM2", "conv-2"));
+        clearInvocations(conversationInternalAPI, messageStreamHub);
+
+        messageChangePublisher.statusesChanged(List.of(update("SM1", MessageStatus.DELIVERED), update("SM2", MessageStatus.SENT)));
+
+        ArgumentCaptor<MessageDocument> captor = ArgumentCaptor.forClass(MessageDocument.class);
+        verify(messageStreamHub, times(2)).publishStatus(captor.capture());
+        assertEquals("user-1", captor.getAllValues().getFirst().getUserId());
+        assertEquals(MessageStatus.DELIVERED, captor.getAllValues().getFirst().getStatus());
+        verify(conversationInternalAPI, times(1)).updateConversationSummaryStatuses(argThat(events -> events.size() == 2));
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void testStatusesChanged_SkipsStatusNoLaterThanAnnounced() {
+        messageChangePublisher.statusChanged(dispatched("msg-1", "SM1", "conv-1"));
+        messageChangePublisher.statusesChanged(List.of(update("SM1", MessageStatus.DELIVERED)));
+        clearInvocations(conversationInternalAPI, messageStreamHub);
+
+        messageChangePublisher.statusesChanged(List.of(update("SM1", MessageStatus.SENT)));
+
+        verifyNoInteractions(messageRepository, conversationInternalAPI, messageStreamHub);
+    }
+
+    @Test
+    void testStatusesChanged_SkipsEmpty() {
+        messageChangePublisher.statusesChanged(List.of());
+
+        verifyNoInteractions(messageRepository, conversationInternalAPI);
+    }
+
+    @Test
+    void testStatusChanged_SummaryFailureDoesNotFailMessage() {
+        doThrow(new RuntimeException("Mongo unavailable")).when(conversationInternalAPI)
+                .updateConversationSummaryStatuses(anyCollection());
+        MessageDocument document = message("msg-1", "conv-1", "hello", ZonedDateTime.now());
+
+        assertDoesNotThrow(() -> messageChangePublisher.statusChanged(document));
+
+        verify(messageStreamHub).publishStatus(document);
+    }
+
+    private MessageStatusUpdate update(String resourceId, MessageStatus status) {
+        return new MessageStatusUpdate(resourceId, status, null, null);
+    }
+
+    private MessageDocument dispatched(String id, String resourceId, String conversationId) {
+        MessageDocument document = message(id, conversationId, "hello", ZonedDateTime.now());
+        document.setResourceId(resourceId);
+        document.setUserId("user-1");
+        document.setStatus(MessageStatus.SENDING);
+        return document;
+    }
+
+    private MessageDocument message(String id, String conversationId, String content, ZonedDateTime createdDate) {
+        return MessageDocument.builder()
+                .id(id)
+                .conversationId(conversationId)
+                .content(content)
+                .direction(MessageDirection.OUTBOUND_API)
+                .status(MessageStatus.QUEUED)
+                .createdDate(createdDate)
+                .build();
+    }
+}
@@ -0,0 +1,340 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import com.crm.smsmanagementservice.message.persistence.DispatchStatus;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageMapper;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.provider.MessagingProviderInternalAPI;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
+import com.crm.smsmanagementservice.provider.service.MessageProviderService;
+import com.crm.smsmanagementservice.provider.service.MessageReconciler;
+import com.crm.smsmanagementservice.provider.service.MessagingClient;
+import com.crm.smsmanagementservice.provider.service.ProviderDispatchConfig;
+import com.crm.smsmanagementservice.provider.service.ProviderDispatcher;
+import com.crm.smsmanagementservice.provider.service.ProviderResilienceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageDispatcherTest {
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageMapper messageMapper;
+
+    @Mock
+    private MessagingProviderInternalAPI messagingProvider;
+
+    @Mock
+    private MessageChangePublisher messageChangePublisher;
+
+    private MessageOutboxConfig outboxConfig;
+    private MessageDispatcher messageDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxConfig = new MessageOutboxConfig();
+        messageDispatcher = new MessageDispatcher(messageRepository, messageMapper, messagingProvider, outboxConfig, messageChangePublisher);
+        when(messageRepository.completeDispatch(any(), anyString())).thenReturn(true);
+    }
+
+    private MessageDocument claimedDocument(String id) {
+        return MessageDocument.builder()
+                .id(id)
+                .batchId("batch-1")
+                .to("+15550001")
+                .from("+15550000")
+                .content("Hello")
+                .status(MessageStatus.QUEUED)
+                .dispatchStatus(DispatchStatus.IN_FLIGHT)
+                .dispatchAttempts(1)
+                .build();
+    }
+
+    @Test
+    void testDispatchBatch_RecordsProviderResult() {
+        MessageDocument document = claimedDocument("msg-1");
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document), List.of());
+        when(messagingProvider.sendMessages(any(), any())).thenReturn(Map.of("msg-1", ProviderSendResult.sent(domainMessage)));
+        when(messageMapper.toDocument(domainMessage)).thenReturn(MessageDocument.builder()
+                .resourceId("SM123")
+                .status(MessageStatus.SENDING)
+                .build());
+
+        messageDispatcher.dispatchBatch("batch-1");
+
+        assertEquals("SM123", document.getResourceId());
+        assertEquals(MessageStatus.SENDING, document.getStatus());
+        assertEquals(DispatchStatus.DISPATCHED, document.getDispatchStatus());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchBatch_StoresEachMessageAsItsCallCompletes() {
+        MessageDocument first = claimedDocument("msg-1");
+        MessageDocument second = claimedDocument("msg-2");
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(first, second), List.of());
+        when(messageMapper.toDocument(domainMessage)).thenReturn(MessageDocument.builder().resourceId("SM123").build());
+        when(messagingProvider.sendMessages(any(), any())).thenAnswer(invocation -> {
+            BiConsumer<String, ProviderSendResult> onResult = invocation.getArgument(1);
+            onResult.accept("msg-1", ProviderSendResult.sent(domainMessage));
+            verify(messageRepository, times(1)).completeDispatch(eq(first), anyString());
+            messageDispatcher.renewLeases();
+            verify(messageRepository, times(1)).renewLease(eq(List.of("msg-2")), anyString(), any());
+            onResult.accept("msg-2", ProviderSendResult.sent(domainMessage));
+            return Map.of("msg-1", ProviderSendResult.sent(domainMessage), "msg-2", ProviderSendResult.sent(domainMessage));
+        });
+
+        messageDispatcher.dispatchBatch("batch-1");
+        messageDispatcher.renewLeases();
+
+        assertEquals(DispatchStatus.DISPATCHED, second.getDispatchStatus());
+        verify(messageRepository, times(2)).completeDispatch(any(), anyString());
+        verify(messageRepository, times(1)).renewLease(any(), anyString(), any());
+    }
+
+    @Test
+    void testDispatchBatch_StoresUnexpectedFailure() {
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document), List.of());
+        when(messagingProvider.sendMessages(any(), any())).thenThrow(new IllegalStateException("Unexpected"));
+
+        messageDispatcher.dispatchBatch("batch-1");
+
+        assertEquals(DispatchStatus.FAILED, document.getDispatchStatus());
+        assertEquals("Unexpected", document.getErrorMessage());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchBatch_KeepsCancelWhileInFlight() {
+        MessageDocument document = claimedDocument("msg-1");
+        document.setScheduledDate(ZonedDateTime.now().plusDays(1));
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document), List.of());
+        when(messagingProvider.scheduleMessages(any(), any())).thenReturn(Map.of("msg-1", ProviderSendResult.sent(domainMessage)));
+        when(messageMapper.toDocument(domainMessage)).thenReturn(MessageDocument.builder()
+                .resourceId("SM123")
+                .status(MessageStatus.SCHEDULED)
+                .build());
+        doAnswer(invocation -> {
+            invocation.<MessageDocument>getArgument(0).setStatus(MessageStatus.CANCELLED);
+            return true;
+        }).when(messageRepository).completeDispatch(any(), anyString());
+        when(messagingProvider.cancelMessage("SM123")).thenReturn(true);
+
+        messageDispatcher.dispatchBatch("batch-1");
+
+        assertEquals(MessageStatus.CANCELLED, document.getStatus());
+        assertEquals("SM123", document.getResourceId());
+        verify(messagingProvider, times(1)).cancelMessage("SM123");
+        verify(messageChangePublisher, times(1)).statusChanged(argThat(MessageDocument::isCancelled));
+    }
+
+    @Test
+    void testDispatchPending_GroupsByProviderCall() {
+        MessageDocument scheduled = claimedDocument("msg-1");
+        scheduled.setScheduledDate(ZonedDateTime.now().plusDays(1));
+        MessageDocument bulk = claimedDocument("msg-2");
+        bulk.setBulkSend(true);
+        when(messageRepository.claimPending(isNull(), anyString(), any(), anyInt()))
+                .thenReturn(List.of(scheduled, bulk), List.of());
+        when(messagingProvider.scheduleMessages(any(), any())).thenReturn(Map.of());
+        when(messagingProvider.bulkSendMessages(any(), any())).thenReturn(Map.of());
+
+        messageDispatcher.dispatchPending();
+
+        verify(messagingProvider, times(1)).scheduleMessages(any(), any());
+        verify(messagingProvider, times(1)).bulkSendMessages(any(), any());
+        verify(messagingProvider, never()).sendMessages(any(), any());
+    }
+
+    @Test
+    void testDispatchBatch_MarksBatchFailed() {
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document), List.of());
+        when(messagingProvider.sendMessages(any(), any()))
+                .thenThrow(new DomainException(Error.UNEXPECTED_ERROR, "Provider error"));
+
+        messageDispatcher.dispatchBatch("batch-1");
+
+        assertEquals(DispatchStatus.FAILED, document.getDispatchStatus());
+        assertEquals(MessageStatus.FAILED, document.getStatus());
+        assertEquals("Provider error", document.getErrorMessage());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchBatch_LeavesMessagesPendingWhileProviderUnavailable() {
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document));
+        when(messagingProvider.sendMessages(any(), any())).thenReturn(Map.of("msg-1",
+                ProviderSendResult.failed(new ProviderUnavailableException("Messaging provider circuit is open"))));
+        outboxConfig.setBatchSize(1);
+
+        messageDispatcher.dispatchBatch("batch-1");
+
+        assertEquals(DispatchStatus.PENDING, document.getDispatchStatus());
+        assertEquals(MessageStatus.QUEUED, document.getStatus());
+        assertEquals(0, document.getDispatchAttempts());
+        verify(messageRepository, times(1)).claimPending(eq("batch-1"), anyString(), any(), anyInt());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchNow_FailsFastWhileProviderUnavailable() {
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messagingProvider.sendMessages(any(), any())).thenReturn(Map.of("msg-1",
+                ProviderSendResult.failed(new ProviderUnavailableException("Messaging provider circuit is open"))));
+
+        messageDispatcher.dispatchNow(List.of(document));
+
+        assertEquals(DispatchStatus.FAILED, document.getDispatchStatus());
+        assertEquals(Error.PROVIDER_UNAVAILABLE.getCode(), document.getErrorCode());
+    }
+
+    @Test
+    void testDispatchBatch_RequeuesMessagesRateLimitedPastRetries() {
+        MessagingClient messagingClient = mock(MessagingClient.class);
+        when(messagingClient.sendSMSFromNumber(anyString(), anyString(), anyString()))
+                .thenThrow(new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429));
+        ProviderDispatchConfig dispatchConfig = new ProviderDispatchConfig();
+        dispatchConfig.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        dispatchConfig.getRetry().setMaxBackoff(Duration.ofMillis(1));
+        ProviderDispatcher providerDispatcher = new ProviderDispatcher(dispatchConfig, new ProviderResilienceConfig(), new SimpleMeterRegistry());
+        MessageProviderService providerService = new MessageProviderService(messagingClient, event -> { },
+                providerDispatcher, mock(MessageReconciler.class));
+        MessageDispatcher dispatcher = new MessageDispatcher(messageRepository, messageMapper, providerService,
+                outboxConfig, messageChangePublisher);
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document));
+        outboxConfig.setBatchSize(1);
+
+        dispatcher.dispatchBatch("batch-1");
+
+        verify(messagingClient, times(dispatchConfig.getRetry().getMaxAttempts()))
+                .sendSMSFromNumber(anyString(), anyString(), anyString());
+        assertEquals(DispatchStatus.PENDING, document.getDispatchStatus());
+        assertEquals(MessageStatus.QUEUED, document.getStatus());
+        assertEquals(0, document.getDispatchAttempts());
+        assertNull(document.getErrorCode());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchNow_LeavesRateLimitedMessagesPending() {
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messagingProvider.sendMessages(any(), any())).thenReturn(Map.of("msg-1", ProviderSendResult.failed(
+                new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429))));
+
+        List<MessageDocument> result = messageDispatcher.dispatchNow(List.of(document));
+
+        assertEquals(DispatchStatus.PENDING, result.getFirst().getDispatchStatus());
+        assertEquals(MessageStatus.QUEUED, result.getFirst().getStatus());
+        assertEquals(0, result.getFirst().getDispatchAttempts());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchBatch_GivesUpAfterMaxAttempts() {
+        MessageDocument document = claimedDocument("msg-1");
+        document.setDispatchAttempts(outboxConfig.getMaxAttempts() + 1);
+        when(messageRepository.claimPending(eq("batch-1"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(document), List.of());
+
+        messageDispatcher.dispatchBatch("batch-1");
+
+        assertEquals(DispatchStatus.FAILED, document.getDispatchStatus());
+        verifyNoInteractions(messagingProvider);
+    }
+
+    @Test
+    void testDispatchNow_PersistsBeforeSending() {
+        MessageDocument document = claimedDocument("msg-1");
+        document.setDispatchStatus(DispatchStatus.PENDING);
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            verifyNoInteractions(messagingProvider);
+            return invocation.getArgument(0);
+        });
+        when(messagingProvider.sendMessages(any(), any())).thenReturn(Map.of("msg-1", ProviderSendResult.sent(domainMessage)));
+        when(messageMapper.toDocument(domainMessage)).thenReturn(MessageDocument.builder().resourceId("SM123").build());
+
+        List<MessageDocument> result = messageDispatcher.dispatchNow(List.of(document));
+
+        assertEquals(DispatchStatus.DISPATCHED, result.getFirst().getDispatchStatus());
+        verify(messageRepository, times(1)).saveAll(anyList());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+
+    @Test
+    void testDispatchNow_KeepsSentMessagesWhenSomeRecipientsFail() {
+        MessageDocument sent = claimedDocument("msg-1");
+        MessageDocument rejected = claimedDocument("msg-2");
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messagingProvider.sendMessages(any(), any())).thenReturn(Map.of(
+                "msg-1", ProviderSendResult.sent(domainMessage),
+                "msg-2", ProviderSendResult.failed(
+                        new ProviderException(Error.INVALID_REQUEST, "Invalid 'To' phone number", "21211", 400))));
+        when(messageMapper.toDocument(domainMessage)).thenReturn(MessageDocument.builder().resourceId("SM123").build());
+
+        List<MessageDocument> result = messageDispatcher.dispatchNow(List.of(sent, rejected));
+
+        assertEquals(2, result.size());
+        assertEquals(DispatchStatus.DISPATCHED, sent.getDispatchStatus());
+        assertEquals("SM123", sent.getResourceId());
+        assertEquals(DispatchStatus.FAILED, rejected.getDispatchStatus());
+        assertEquals(MessageStatus.FAILED, rejected.getStatus());
+        assertEquals("21211", rejected.getErrorCode());
+        assertEquals("Invalid 'To' phone number", rejected.getErrorMessage());
+        verify(messageRepository, times(2)).completeDispatch(any(), anyString());
+    }
+
+    @Test
+    void testDispatchNow_StoresFailureAndRethrows() {
+        MessageDocument document = claimedDocument("msg-1");
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messagingProvider.sendMessages(any(), any())).thenThrow(new DomainException(Error.INVALID_REQUEST, "Invalid"));
+
+        assertThrows(DomainException.class, () -> messageDispatcher.dispatchNow(List.of(document)));
+        assertEquals(DispatchStatus.FAILED, document.getDispatchStatus());
+        verify(messageRepository, times(1)).completeDispatch(eq(document), anyString());
+    }
+}
@@ -3,15 +3,19 @@ package com.crm.smsmanagementservice.message.service;
 import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import com.crm.smsmanagementservice.core.event.DeliveredMessageEvent;
 import com.crm.smsmanagementservice.core.event.InboundMessageEvent;
+import com.crm.smsmanagementservice.core.event.ReconciledMessageEvent;
 import com.crm.smsmanagementservice.core.event.UpdateMessageEvent;
 import com.crm.smsmanagementservice.core.dto.DomainMessage;
 import com.crm.smsmanagementservice.message.MessageInternalAPI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -20,6 +24,12 @@ class MessageEventListenerTest {
     @Mock
     private MessageInternalAPI messageInternalAPI;
 
+    @Mock
+    private MessageStatusBuffer messageStatusBuffer;
+
+    @Spy
+    private MessageMetrics messageMetrics = new MessageMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private MessageEventListener messageEventListener;
 
@@ -60,7 +70,8 @@ class MessageEventListenerTest {
         messageEventListener.handleUpdateMessageEvent(updateMessageEvent);
 
         // Then
-        verify(messageInternalAPI, times(1)).updateMessageStatus(eq(messageId), eq(status), eq(errorMessage), eq(errorCode));
+        verify(messageStatusBuffer, times(1)).offer(eq(messageId), eq(status), eq(errorMessage), eq(errorCode));
+        verify(messageInternalAPI, never()).updateMessageStatus(any(), any(), any(), any());
     }
 
     @Test
@@ -76,4 +87,18 @@ class MessageEventListenerTest {
         // Then
         verify(messageInternalAPI, times(1)).updateMessage(eq(domainMessage));
     }
+
+    @Test
+    void testHandleReconciledMessageEvent() {
+        // Given
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(domainMessage.getId()).thenReturn("msg-1");
+        ReconciledMessageEvent reconciledMessageEvent = new ReconciledMessageEvent(this, domainMessage);
+
+        // When
+        messageEventListener.handleReconciledMessageEvent(reconciledMessageEvent);
+
+        // Then
+        verify(messageInternalAPI, times(1)).reconcileMessage(eq(domainMessage));
+    }
 }
@@ -0,0 +1,54 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.event.UpdateMessageEvent;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private MessageMetrics messageMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        messageMetrics = new MessageMetrics(meterRegistry);
+    }
+
+    @Test
+    void testRecordCreate_RecordsTimeAndBatchSize() {
+        assertEquals("done", messageMetrics.recordCreate(MessageMetrics.SYNC, 25, () -> "done"));
+
+        assertEquals(1, meterRegistry.get("message.create").tags("mode", "sync", "outcome", "success").timer().count());
+        assertEquals(25, meterRegistry.get("message.create.batch.size").tag("mode", "sync").summary().totalAmount());
+    }
+
+    @Test
+    void testRecordCreate_RecordsFailure() {
+        assertThrows(IllegalStateException.class, () -> messageMetrics.recordCreate(MessageMetrics.ASYNC, 1, () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        assertEquals(1, meterRegistry.get("message.create").tags("mode", "async", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void testRecordEvent_RecordsLagAndHandling() {
+        UpdateMessageEvent event = new UpdateMessageEvent(this, "SM1", "AC1", null, null, null, MessageStatus.SENT);
+        boolean[] handled = {false};
+
+        messageMetrics.recordEvent("status", event, () -> handled[0] = true);
+
+        assertTrue(handled[0]);
+        assertEquals(1, meterRegistry.get("message.callback.lag").tag("event", "status").timer().count());
+        assertEquals(1, meterRegistry.get("message.listener").tags("event", "status", "outcome", "success").timer().count());
+    }
+}
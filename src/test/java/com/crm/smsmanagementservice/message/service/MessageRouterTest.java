@@ -0,0 +1,103 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.enums.MessageDirection;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageRouterTest {
+    @Mock
+    private MessageRouteRepository messageRouteRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private MessageRouter messageRouter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        messageRouter = new MessageRouter(messageRouteRepository, messageRepository,
+                new MessageRouteConfig(), new SimpleMeterRegistry());
+    }
+
+    private MessageDocument outbound(String from, String to) {
+        return MessageDocument.builder().from(from).to(to)
+                .conversationId("conv-1").userId("user-1").contactId("contact-1").build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecord_UpsertsExactAndAnyNumberRoutes() {
+        messageRouter.record(List.of(outbound("+15550000001", "+15559990001"), outbound(null, "+15559990002")));
+
+        ArgumentCaptor<Collection<MessageRouteDocument>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(messageRouteRepository, times(1)).upsertRoutes(captor.capture());
+        Set<String> ids = new HashSet<>();
+        captor.getValue().forEach(route -> ids.add(route.getId()));
+        assertEquals(Set.of("+15550000001:+15559990001", "*:+15559990001", "*:+15559990002"), ids);
+    }
+
+    @Test
+    void testRoute_ServedFromCacheAfterRecord() {
+        messageRouter.record(List.of(outbound("+15550000001", "+15559990001")));
+
+        Optional<MessageRouteDocument> route = messageRouter.route("+15550000001", "+15559990001");
+
+        assertTrue(route.isPresent());
+        assertEquals("conv-1", route.get().getConversationId());
+        verify(messageRouteRepository, never()).findById(any());
+    }
+
+    @Test
+    void testRoute_FallsBackToAnyNumberRoute() {
+        MessageRouteDocument anyRoute = MessageRouteDocument.builder().id("*:+15559990001").conversationId("conv-2").build();
+        when(messageRouteRepository.findById("+15550000009:+15559990001")).thenReturn(Optional.empty());
+        when(messageRouteRepository.findById("*:+15559990001")).thenReturn(Optional.of(anyRoute));
+
+        Optional<MessageRouteDocument> route = messageRouter.route("+15550000009", "+15559990001");
+
+        assertEquals("conv-2", route.orElseThrow().getConversationId());
+    }
+
+    @Test
+    void testRoute_RecordsRouteFromHistoryOnce() {
+        when(messageRouteRepository.findById(any())).thenReturn(Optional.empty());
+        when(messageRepository.findFirstByToAndDirectionOrderByCreatedDateDesc("+15559990001", MessageDirection.OUTBOUND_API))
+                .thenReturn(Optional.of(outbound(null, "+15559990001")));
+        when(messageRouteRepository.save(any(MessageRouteDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        messageRouter.route(null, "+15559990001");
+        Optional<MessageRouteDocument> route = messageRouter.route(null, "+15559990001");
+
+        assertEquals("conv-1", route.orElseThrow().getConversationId());
+        verify(messageRepository, times(1)).findFirstByToAndDirectionOrderByCreatedDateDesc(any(), any());
+        verify(messageRouteRepository, times(1)).save(any(MessageRouteDocument.class));
+    }
+
+    @Test
+    void testRoute_UnknownCustomer() {
+        when(messageRouteRepository.findById(any())).thenReturn(Optional.empty());
+        when(messageRepository.findFirstByToAndDirectionOrderByCreatedDateDesc(any(), any())).thenReturn(Optional.empty());
+
+        assertTrue(messageRouter.route("+15550000001", "+15559990001").isEmpty());
+    }
+}
@@ -2,23 +2,33 @@ package com.crm.smsmanagementservice.message.service;
 
 import com.crm.smsmanagementservice.conversation.ConversationInternalAPI;
 import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.enums.CountMode;
 import com.crm.smsmanagementservice.core.enums.MessageStatus;
 import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.message.BatchProgressDTO;
 import com.crm.smsmanagementservice.message.MessageDTO;
+import com.crm.smsmanagementservice.message.RecipientValidationDTO;
+import com.crm.smsmanagementservice.message.persistence.DispatchStatus;
 import com.crm.smsmanagementservice.message.persistence.MessageDocument;
 import com.crm.smsmanagementservice.message.persistence.MessageMapper;
 import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageRouteDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
 import com.crm.smsmanagementservice.provider.MessagingProviderInternalAPI;
-import com.crm.smsmanagementservice.provider.ProviderMessagingDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
@@ -42,6 +52,30 @@ class MessageServiceTest {
     @Mock
     private ConversationInternalAPI conversationInternalAPI;
 
+    @Mock
+    private MessageDispatcher messageDispatcher;
+
+    @Mock
+    private IPhoneNumberValidator phoneNumberValidator;
+
+    @Mock
+    private MessageRouter messageRouter;
+
+    @Mock
+    private MessageCounts messageCounts;
+
+    @Mock
+    private MessageStreamHub messageStreamHub;
+
+    @Mock
+    private MessageChangePublisher messageChangePublisher;
+
+    @Mock
+    private MessageStatusBuffer messageStatusBuffer;
+
+    @Spy
+    private MessageMetrics messageMetrics = new MessageMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private MessageService messageService;
 
@@ -79,11 +113,31 @@ class MessageServiceTest {
         when(messageRepository.findMessageDocumentByUserId(userId, pageable)).thenReturn(messagePage);
         when(messageMapper.toDTO(messageDocument)).thenReturn(messageDTO);
 
-        Page<MessageDTO> result = messageService.getMessagesByUserId(userId, pageable);
+        Slice<MessageDTO> result = messageService.getMessagesByUserId(userId, pageable);
 
         verify(messageRepository, times(1)).findMessageDocumentByUserId(userId, pageable);
+        verify(messageRepository, never()).countByUserId(anyString());
         verify(messageMapper, times(1)).toDTO(messageDocument);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+    }
+
+    @Test
+    void testCountMessagesByUserId_Modes() {
+        when(messageRepository.countByUserId("user1")).thenReturn(7L);
+        when(messageCounts.estimateByUser(eq("user1"), any())).thenReturn(9L);
+
+        assertNull(messageService.countMessagesByUserId("user1", CountMode.NONE));
+        assertEquals(7L, messageService.countMessagesByUserId("user1", CountMode.EXACT));
+        assertEquals(9L, messageService.countMessagesByUserId("user1", CountMode.ESTIMATE));
+        verify(messageRepository, times(1)).countByUserId("user1");
+    }
+
+    @Test
+    void testCountMessagesByParticipantId_Exact() {
+        when(messageRepository.countDeliveredMessagesByUserIdAndContactId("user1", "contact1")).thenReturn(3L);
+
+        assertEquals(3L, messageService.countMessagesByParticipantId("user1", "contact1", CountMode.EXACT));
+        verifyNoInteractions(messageCounts);
     }
 
     @Test
@@ -110,12 +164,12 @@ class MessageServiceTest {
                 .thenReturn(messagePage);
         when(messageMapper.toDTO(messageDocument)).thenReturn(messageDTO);
 
-        Page<MessageDTO> result = messageService.getMessageByParticipantId(userId, contactId, pageable);
+        Slice<MessageDTO> result = messageService.getMessageByParticipantId(userId, contactId, pageable);
 
         verify(messageRepository, times(1))
                 .findDeliveredMessagesByUserIdAndContactId(userId, contactId, pageable);
         verify(messageMapper, times(1)).toDTO(messageDocument);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
     }
 
     @Test
@@ -129,24 +183,43 @@ class MessageServiceTest {
                 .build();
         List<MessageDTO> messageDTOList = List.of(messageDTO);
 
-        DomainMessage domainMessage = mock(DomainMessage.class);
-        when(domainMessage.getId()).thenReturn("msg-1");
-
-        Map<String, DomainMessage> response = Map.of("user1contact1", domainMessage);
         MessageDocument messageDocument = MessageDocument.builder().build();
         List<MessageDocument> messageDocumentList = List.of(messageDocument);
 
-        when(messagingProvider.sendMessages(any(ProviderMessagingDTO.class))).thenReturn(response);
-        when(messageMapper.toDocument(any(DomainMessage.class))).thenReturn(messageDocument);
-        when(messageRepository.saveAll(anyList())).thenReturn(messageDocumentList);
+        when(conversationInternalAPI.findOrCreateConversations("user1", Set.of("contact1"))).thenReturn(Map.of("contact1", "conv-1"));
+        when(messageDispatcher.dispatchNow(anyList())).thenReturn(messageDocumentList);
         when(messageMapper.toDTO(any(MessageDocument.class))).thenReturn(messageDTO);
 
         List<MessageDTO> result = messageService.createMessage(messageDTOList);
 
-        verify(messagingProvider, times(1)).sendMessages(any(ProviderMessagingDTO.class));
-        verify(messageMapper, times(1)).toDocument(any(DomainMessage.class));
-        verify(messageRepository, times(1)).saveAll(anyList());
-        assertNotNull(result);
+        verify(messageDispatcher, times(1)).dispatchNow(argThat((List<MessageDocument> documents) ->
+                documents.size() == 1
+                        && documents.getFirst().getDispatchStatus() == DispatchStatus.PENDING
+                        && documents.getFirst().getConversationId().equals("conv-1")
+                        && documents.getFirst().getTo().equals("0987654321")));
+        verify(messageRouter, times(1)).record(anyList());
+        verifyNoInteractions(messagingProvider);
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testCreateMessage_ResolvesConversationsOncePerUser() {
+        List<MessageDTO> messageDTOList = List.of(
+                MessageDTO.builder().userId("user1").contactId("contact1").to("0987654321").build(),
+                MessageDTO.builder().userId("user1").contactId("contact2").to("0987654322").build(),
+                MessageDTO.builder().userId("user1").contactId("contact1").to("0987654321").build());
+        when(conversationInternalAPI.findOrCreateConversations("user1", Set.of("contact1", "contact2")))
+                .thenReturn(Map.of("contact1", "conv-1", "contact2", "conv-2"));
+        when(messageDispatcher.dispatchNow(anyList())).thenReturn(List.of());
+
+        messageService.createMessage(messageDTOList);
+
+        verify(conversationInternalAPI, times(1)).findOrCreateConversations("user1", Set.of("contact1", "contact2"));
+        verify(conversationInternalAPI, never()).findOrCreateConversation(any(), any());
+        verify(messageDispatcher, times(1)).dispatchNow(argThat((List<MessageDocument> documents) ->
+                documents.get(0).getConversationId().equals("conv-1")
+                        && documents.get(1).getConversationId().equals("conv-2")
+                        && documents.get(2).getConversationId().equals("conv-1")));
     }
 
     @Test
@@ -161,26 +234,33 @@ class MessageServiceTest {
                 .userId("user1")
                 .build();
         List<MessageDTO> messageDTOList = List.of(messageDTO);
-        DomainMessage domainMessage = mock(DomainMessage.class);
-        when(domainMessage.getId()).thenReturn("msg-1");
-
-        Map<String, DomainMessage> response = Map.of("user1contact1", domainMessage);
         MessageDocument messageDocument = MessageDocument.builder().build();
         List<MessageDocument> messageDocumentList = List.of(messageDocument);
 
-        when(messagingProvider.scheduleMessages(any(ProviderMessagingDTO.class))).thenReturn(response);
-        when(messageMapper.toDocument(any(DomainMessage.class))).thenReturn(messageDocument);
-        when(messageRepository.saveAll(anyList())).thenReturn(messageDocumentList);
+        when(messageDispatcher.dispatchNow(anyList())).thenReturn(messageDocumentList);
         when(messageMapper.toDTO(any(MessageDocument.class))).thenReturn(messageDTO);
 
         List<MessageDTO> result = messageService.createMessage(messageDTOList);
 
-        verify(messagingProvider, times(1)).scheduleMessages(any(ProviderMessagingDTO.class));
-        verify(messageMapper, times(1)).toDocument(any(DomainMessage.class));
-        verify(messageRepository, times(1)).saveAll(anyList());
+        verify(messageDispatcher, times(1)).dispatchNow(argThat((List<MessageDocument> documents) ->
+                scheduledDate.equals(documents.getFirst().getScheduledDate())));
         assertNotNull(result);
     }
 
+    @Test
+    void testCreateMessage_ProviderFailurePropagates() {
+        MessageDTO messageDTO = MessageDTO.builder()
+                .from("1234567890")
+                .to("0987654321")
+                .content("Hello")
+                .contactId("contact1")
+                .userId("user1")
+                .build();
+        when(messageDispatcher.dispatchNow(anyList())).thenThrow(new DomainException(Error.INVALID_REQUEST));
+
+        assertThrows(DomainException.class, () -> messageService.createMessage(List.of(messageDTO)));
+    }
+
     @Test
     void testCancelMessage_Success() {
         String messageId = "msg-1";
@@ -192,16 +272,58 @@ class MessageServiceTest {
 
         when(messageRepository.findById(messageId)).thenReturn(Optional.of(messageDocument));
         when(messagingProvider.cancelMessage(messageDocument.getResourceId())).thenReturn(true);
-        when(messageRepository.save(any(MessageDocument.class))).thenReturn(messageDocument);
+        when(messageRepository.cancel(messageId)).thenReturn(Optional.of(messageDocument));
         when(messageMapper.toDTO(messageDocument)).thenReturn(MessageDTO.builder().build());
 
         MessageDTO result = messageService.cancelMessage(messageId);
 
         verify(messagingProvider, times(1)).cancelMessage(anyString());
-        verify(messageRepository, times(1)).save(any(MessageDocument.class));
+        verify(messageRepository, times(1)).cancel(messageId);
+        verify(messageRepository, never()).save(any(MessageDocument.class));
         assertNotNull(result);
     }
 
+    @Test
+    void testCancelMessage_PendingInOutboxCancelledWithoutProvider() {
+        String messageId = "msg-1";
+        MessageDocument messageDocument = MessageDocument.builder()
+                .id(messageId)
+                .status(MessageStatus.QUEUED)
+                .dispatchStatus(DispatchStatus.PENDING)
+                .build();
+        MessageDocument cancelled = MessageDocument.builder()
+                .id(messageId)
+                .status(MessageStatus.CANCELLED)
+                .dispatchStatus(DispatchStatus.PENDING)
+                .build();
+
+        when(messageRepository.findById(messageId)).thenReturn(Optional.of(messageDocument));
+        when(messageRepository.cancel(messageId)).thenReturn(Optional.of(cancelled));
+        when(messageMapper.toDTO(cancelled)).thenReturn(MessageDTO.builder().status(MessageStatus.CANCELLED).build());
+
+        MessageDTO result = messageService.cancelMessage(messageId);
+
+        assertEquals(MessageStatus.CANCELLED, result.status());
+        verify(messagingProvider, never()).cancelMessage(any());
+        verify(messageChangePublisher).statusChanged(cancelled);
+    }
+
+    @Test
+    void testCancelMessage_StatusChangedConcurrently() {
+        String messageId = "msg-1";
+        MessageDocument messageDocument = MessageDocument.builder()
+                .id(messageId)
+                .resourceId("res-1")
+                .status(MessageStatus.QUEUED)
+                .build();
+
+        when(messageRepository.findById(messageId)).thenReturn(Optional.of(messageDocument));
+        when(messagingProvider.cancelMessage(messageDocument.getResourceId())).thenReturn(true);
+        when(messageRepository.cancel(messageId)).thenReturn(Optional.empty());
+
+        assertThrows(DomainException.class, () -> messageService.cancelMessage(messageId));
+    }
+
     @Test
     void testCancelMessage_AlreadyCancelled() {
         String messageId = "msg-1";
@@ -258,98 +380,126 @@ class MessageServiceTest {
     @Test
     void testUpdateMessageStatus_Success() {
         String messageId = "msg-1";
-        MessageDocument messageDocument = MessageDocument.builder().build();
-        messageDocument.setStatus(MessageStatus.SENDING);
-
-        when(messageRepository.findByResourceId(messageId)).thenReturn(Optional.of(messageDocument));
+        when(messageRepository.updateStatus(any(MessageStatusUpdate.class))).thenReturn(true);
 
         messageService.updateMessageStatus(messageId, MessageStatus.DELIVERED, "Success", null);
 
-        verify(messageRepository, times(1)).save(any(MessageDocument.class));
+        verify(messageRepository, times(1)).updateStatus(
+                new MessageStatusUpdate(messageId, MessageStatus.DELIVERED, null, "Success"));
+        verify(messageRepository, never()).findByResourceId(anyString());
+        verify(messageRepository, never()).save(any(MessageDocument.class));
+        verify(messageChangePublisher, times(1)).statusesChanged(
+                List.of(new MessageStatusUpdate(messageId, MessageStatus.DELIVERED, null, "Success")));
     }
 
     @Test
-    void testUpdateMessageStatus_EntityNotFound() {
+    void testUpdateMessageStatus_Stale() {
         String messageId = "msg-1";
+        when(messageRepository.updateStatus(any(MessageStatusUpdate.class))).thenReturn(false);
+        when(messageRepository.existsByResourceId(messageId)).thenReturn(true);
 
-        when(messageRepository.findByResourceId(messageId)).thenReturn(Optional.empty());
-
-        assertThrows(DomainException.class, () -> messageService.updateMessageStatus(messageId, MessageStatus.DELIVERED, "Success", null));
-        verify(messageRepository, times(1)).findByResourceId(messageId);
+        assertDoesNotThrow(() -> messageService.updateMessageStatus(messageId, MessageStatus.SENT, null, null));
+        verify(messageRepository, never()).save(any(MessageDocument.class));
+        verifyNoInteractions(messageChangePublisher, messageStatusBuffer);
     }
 
     @Test
-    void testUpdateMessageStatus_NoChange() {
+    void testUpdateMessageStatus_RetriesMessageNotStoredYet() {
         String messageId = "msg-1";
-        MessageDocument messageDocument = MessageDocument.builder().build();
-        messageDocument.setStatus(MessageStatus.DELIVERED);
+        when(messageRepository.updateStatus(any(MessageStatusUpdate.class))).thenReturn(false);
+        when(messageRepository.existsByResourceId(messageId)).thenReturn(false);
 
-        when(messageRepository.findByResourceId(messageId)).thenReturn(Optional.of(messageDocument));
+        messageService.updateMessageStatus(messageId, MessageStatus.SENT, null, null);
 
-        messageService.updateMessageStatus(messageId, MessageStatus.DELIVERED, "Success", null);
+        verify(messageStatusBuffer, times(1)).offer(messageId, MessageStatus.SENT, null, null);
+        verifyNoInteractions(messageChangePublisher);
+    }
+
+    @Test
+    void testUpdateMessage_RetriesDeliveryOfMessageNotStoredYet() {
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(domainMessage.getId()).thenReturn("msg-1");
+        when(domainMessage.getStatus()).thenReturn(MessageStatus.DELIVERED);
+        when(domainMessage.getErrorMessage()).thenReturn(Optional.empty());
+        when(domainMessage.getErrorCode()).thenReturn(Optional.empty());
+        when(domainMessage.getMediaUrls()).thenReturn(Optional.empty());
+        when(domainMessage.getSender()).thenReturn(Optional.empty());
+        when(messageRepository.updateProviderFields(any(MessageDocument.class))).thenReturn(false);
+        when(messageRepository.existsByResourceId("msg-1")).thenReturn(false);
+
+        messageService.updateMessage(domainMessage);
 
-        verify(messageRepository, times(0)).save(any(MessageDocument.class));
+        verify(messageStatusBuffer, times(1)).offer("msg-1", MessageStatus.DELIVERED, null, null);
     }
 
     @Test
     void testUpdateMessageDomainMessage() {
         DomainMessage domainMessage = mock(DomainMessage.class);
+        ZonedDateTime deliveredTime = ZonedDateTime.now();
         when(domainMessage.getId()).thenReturn("msg-1");
         when(domainMessage.getStatus()).thenReturn(MessageStatus.FAILED);
         when(domainMessage.getErrorMessage()).thenReturn(Optional.of("Error"));
         when(domainMessage.getErrorCode()).thenReturn(Optional.of("ERR123"));
-        when(domainMessage.getRecipient()).thenReturn("recipient");
         when(domainMessage.getSender()).thenReturn(Optional.of("sender"));
-        when(domainMessage.getDeliveredTime()).thenReturn(ZonedDateTime.now());
-        when(domainMessage.getPrice()).thenReturn(BigDecimal.valueOf(0.0));
-        when(domainMessage.getCurrency()).thenReturn(Currency.getInstance("USD"));
+        when(domainMessage.getDeliveredTime()).thenReturn(deliveredTime);
+        when(domainMessage.getPrice()).thenReturn(BigDecimal.valueOf(-0.0075));
         when(domainMessage.getMediaUrls()).thenReturn(Optional.of(Map.of("key", "value")));
-
-        when(domainMessage.getId()).thenReturn("msg-1");
-        MessageDocument messageDocument = MessageDocument.builder()
-                .id("msg-1")
-                .resourceId("msg-1")
-                .status(MessageStatus.SENDING)
-                .build();
-
-        when(messageRepository.findByResourceId(anyString())).thenReturn(Optional.of(messageDocument));
+        when(messageRepository.updateProviderFields(any(MessageDocument.class))).thenReturn(true);
 
         messageService.updateMessage(domainMessage);
 
-        verify(messageRepository, times(1)).save(any(MessageDocument.class));
+        verify(messageRepository, times(1)).updateProviderFields(argThat(changes ->
+                "msg-1".equals(changes.getResourceId())
+                        && changes.getStatus() == MessageStatus.FAILED
+                        && "ERR123".equals(changes.getErrorCode())
+                        && "Error".equals(changes.getErrorMessage())
+                        && deliveredTime.equals(changes.getDeliveredTime())
+                        && BigDecimal.valueOf(0.0075).equals(changes.getPrice())
+                        && "sender".equals(changes.getFrom())
+                        && changes.getTo() == null));
+        verify(messageRepository, never()).findByResourceId(anyString());
+        verify(messageRepository, never()).save(any(MessageDocument.class));
     }
 
     @Test
-    void testUpdateMessageDomainMessageNotFound() {
-        when(messageRepository.findByResourceId(anyString())).thenReturn(Optional.empty());
-        assertThrows(DomainException.class, () -> messageService.updateMessage(mock(DomainMessage.class)));
+    void testUpdateMessageDomainMessage_OnlySetsPresentFields() {
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(domainMessage.getId()).thenReturn("msg-1");
+        when(domainMessage.getStatus()).thenReturn(MessageStatus.SENT);
+        when(domainMessage.getErrorMessage()).thenReturn(Optional.empty());
+        when(domainMessage.getErrorCode()).thenReturn(Optional.empty());
+        when(domainMessage.getSender()).thenReturn(Optional.empty());
+        when(domainMessage.getMediaUrls()).thenReturn(Optional.empty());
+
+        messageService.updateMessage(domainMessage);
+
+        verify(messageRepository, times(1)).updateProviderFields(argThat(changes ->
+                changes.getStatus() == MessageStatus.SENT
+                        && changes.getErrorCode() == null
+                        && changes.getErrorMessage() == null
+                        && changes.getPrice() == null
+                        && changes.getMedia() == null
+                        && changes.getFrom() == null));
     }
 
     @Test
-    void testUpdateMessageDomainMessageWithNoChange() {
+    void testReconcileMessage_SetsLateFields() {
         DomainMessage domainMessage = mock(DomainMessage.class);
         when(domainMessage.getId()).thenReturn("msg-1");
-        when(domainMessage.getRecipient()).thenReturn("recipient");
+        when(domainMessage.getStatus()).thenReturn(MessageStatus.DELIVERED);
+        when(domainMessage.getPrice()).thenReturn(BigDecimal.valueOf(-0.0075));
         when(domainMessage.getCurrency()).thenReturn(Currency.getInstance("USD"));
+        when(domainMessage.getSegmentCount()).thenReturn(Optional.of("2"));
+        when(domainMessage.getMediaUrls()).thenReturn(Optional.of(Map.of("media", "/Media.json")));
 
-        when(domainMessage.getId()).thenReturn("msg-1");
-        MessageDocument messageDocument = MessageDocument.builder()
-                .id("msg-1")
-                .resourceId("msg-1")
-                .status(MessageStatus.SENDING)
-                .errorMessage("Error")
-                .errorCode("ERR123")
-                .price(BigDecimal.valueOf(0.0))
-                .media(Map.of("key", "value"))
-                .from("sender")
-                .to("recipient")
-                .build();
+        messageService.reconcileMessage(domainMessage);
 
-        when(messageRepository.findByResourceId(anyString())).thenReturn(Optional.of(messageDocument));
-
-        messageService.updateMessage(domainMessage);
-
-        verify(messageRepository, times(1)).save(any(MessageDocument.class));
+        verify(messageRepository, times(1)).updateProviderFields(argThat(changes ->
+                "msg-1".equals(changes.getResourceId())
+                        && BigDecimal.valueOf(0.0075).equals(changes.getPrice())
+                        && Currency.getInstance("USD").equals(changes.getCurrency())
+                        && Integer.valueOf(2).equals(changes.getMessageSegmentCount())
+                        && changes.getMedia() == null));
     }
 
     @Test
@@ -369,13 +519,95 @@ class MessageServiceTest {
                 .build();
 
         when(messageMapper.toDocument(domainMessage)).thenReturn(messageDocument);
-        when(messageRepository.findFirstByToAndDirectionOrderByCreatedDateDesc(anyString(), any()))
-                .thenReturn(Optional.of(messageDocument));
-        when(messageMapper.toDocument(domainMessage)).thenReturn(messageDocument);
+        when(messageRouter.route("recipient", "sender")).thenReturn(Optional.of(MessageRouteDocument.builder()
+                .conversationId("conv-2").userId("user-2").contactId("contact-2").build()));
         when(messageRepository.save(any(MessageDocument.class))).thenReturn(messageDocument);
 
         messageService.createInboundMessage(domainMessage);
 
-        verify(messageRepository, times(1)).save(any(MessageDocument.class));
+        verify(messageRepository, times(1)).save(argThat(document -> "conv-2".equals(document.getConversationId())
+                && "user-2".equals(document.getUserId()) && "contact-2".equals(document.getContactId())));
+        verify(messageRepository, never()).findFirstByToAndDirectionOrderByCreatedDateDesc(anyString(), any());
+        verify(messageChangePublisher, times(1)).inboundCreated(messageDocument);
+        verify(messageCounts, times(1)).addToParticipant("user-2", "contact-2", 1);
+    }
+
+    @Test
+    void testQueueMessages_PersistsPendingBatch() {
+        MessageDTO messageDTO = MessageDTO.builder()
+                .from("1234567890")
+                .to("0987654321")
+                .content("Hello")
+                .contactId("contact1")
+                .userId("user1")
+                .media(List.of("http://example.com/image.jpg"))
+                .build();
+        when(conversationInternalAPI.findOrCreateConversations("user1", Set.of("contact1"))).thenReturn(Map.of("contact1", "conv-1"));
+
+        BatchProgressDTO result = messageService.queueMessages(List.of(messageDTO));
+
+        verify(messageRepository, times(1)).saveAll(argThat((List<MessageDocument> documents) -> {
+            MessageDocument document = documents.getFirst();
+            return document.getBatchId().equals(result.batchId())
+                    && document.getDispatchStatus() == DispatchStatus.PENDING
+                    && document.getStatus() == MessageStatus.QUEUED
+                    && document.getConversationId().equals("conv-1")
+                    && document.getMedia().containsValue("http://example.com/image.jpg");
+        }));
+        verify(messageDispatcher, times(1)).dispatchBatch(result.batchId());
+        verify(messageCounts, times(1)).addToUser("user1", 1L);
+        verify(messageChangePublisher, times(1)).messagesCreated(anyList());
+        verifyNoInteractions(messagingProvider);
+        assertEquals(1, result.total());
+        assertEquals(1, result.pending());
+        assertFalse(result.completed());
+    }
+
+    @Test
+    void testGetBatchProgress() {
+        when(messageRepository.countByBatchId("batch-1")).thenReturn(3L);
+        when(messageRepository.countByBatchIdAndDispatchStatus("batch-1", DispatchStatus.DISPATCHED)).thenReturn(2L);
+        when(messageRepository.countByBatchIdAndDispatchStatus("batch-1", DispatchStatus.FAILED)).thenReturn(1L);
+
+        BatchProgressDTO result = messageService.getBatchProgress("batch-1");
+
+        assertEquals(3, result.total());
+        assertEquals(2, result.dispatched());
+        assertEquals(1, result.failed());
+        assertTrue(result.completed());
+    }
+
+    @Test
+    void testGetBatchProgress_NotFound() {
+        when(messageRepository.countByBatchId("batch-1")).thenReturn(0L);
+
+        assertThrows(DomainException.class, () -> messageService.getBatchProgress("batch-1"));
+    }
+
+    @Test
+    void testValidateRecipients_DropsInvalidRecipients() {
+        List<MessageDTO> messageDTOList = List.of(
+                MessageDTO.builder().contactId("contact1").to("+16135550123").build(),
+                MessageDTO.builder().contactId("contact2").to("+1000").build(),
+                MessageDTO.builder().contactId("contact3").to("+16135550123").build());
+        when(phoneNumberValidator.validateAll(Set.of("+16135550123", "+1000")))
+                .thenReturn(Map.of("+16135550123", true, "+1000", false));
+
+        RecipientValidationDTO result = messageService.validateRecipients(messageDTOList);
+
+        assertEquals(2, result.accepted().size());
+        assertEquals(List.of(0, 2), result.acceptedIndexes());
+        assertEquals(1, result.rejected().size());
+        assertEquals(1, result.rejected().getFirst().index());
+        assertEquals("+1000", result.rejected().getFirst().value());
+        verify(phoneNumberValidator, times(1)).validateAll(anyCollection());
+    }
+
+    @Test
+    void testValidateRecipients_NoValidRecipients() {
+        List<MessageDTO> messageDTOList = List.of(MessageDTO.builder().contactId("contact1").to("+1000").build());
+        when(phoneNumberValidator.validateAll(Set.of("+1000"))).thenReturn(Map.of("+1000", false));
+
+        assertThrows(DomainException.class, () -> messageService.validateRecipients(messageDTOList));
     }
 }
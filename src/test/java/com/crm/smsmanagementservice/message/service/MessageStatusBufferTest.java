@@ -0,0 +1,160 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.message.persistence.MessageRepository;
+import com.crm.smsmanagementservice.message.persistence.MessageStatusUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageStatusBufferTest {
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageChangePublisher messageChangePublisher;
+
+    private MessageStatusBufferConfig bufferConfig;
+    private MessageStatusBuffer messageStatusBuffer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bufferConfig = new MessageStatusBufferConfig();
+        messageStatusBuffer = new MessageStatusBuffer(messageRepository, bufferConfig, messageChangePublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MessageStatusUpdate> flushed() {
+        ArgumentCaptor<Collection<MessageStatusUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(messageRepository, atLeastOnce()).bulkUpdateStatus(captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    @Test
+    void testFlush_CoalescesByLifecycle() {
+        messageStatusBuffer.offer("SM1", MessageStatus.QUEUED, null, null);
+        messageStatusBuffer.offer("SM1", MessageStatus.DELIVERED, null, null);
+        messageStatusBuffer.offer("SM1", MessageStatus.SENT, null, null);
+        messageStatusBuffer.offer("SM2", MessageStatus.SENT, null, null);
+
+        messageStatusBuffer.flush();
+
+        List<MessageStatusUpdate> updates = flushed();
+        assertEquals(2, updates.size());
+        assertTrue(updates.contains(new MessageStatusUpdate("SM1", MessageStatus.DELIVERED, null, null)));
+        assertTrue(updates.contains(new MessageStatusUpdate("SM2", MessageStatus.SENT, null, null)));
+    }
+
+    @Test
+    void testFlush_PublishesModifiedStatuses() {
+        when(messageRepository.bulkUpdateStatus(anyCollection())).thenReturn(1);
+        messageStatusBuffer.offer("SM1", MessageStatus.DELIVERED, null, null);
+
+        messageStatusBuffer.flush();
+
+        verify(messageChangePublisher, times(1)).statusesChanged(
+                List.of(new MessageStatusUpdate("SM1", MessageStatus.DELIVERED, null, null)));
+    }
+
+    @Test
+    void testFlush_PublishesOnlyStatusesOfStoredMessages() {
+        when(messageRepository.bulkUpdateStatus(anyCollection())).thenReturn(1);
+        when(messageRepository.findKnownResourceIds(anyCollection())).thenReturn(Set.of("SM1"));
+        messageStatusBuffer.offer("SM1", MessageStatus.DELIVERED, null, null);
+        messageStatusBuffer.offer("SM2", MessageStatus.SENT, null, null);
+
+        messageStatusBuffer.flush();
+
+        verify(messageChangePublisher, times(1)).statusesChanged(
+                List.of(new MessageStatusUpdate("SM1", MessageStatus.DELIVERED, null, null)));
+    }
+
+    @Test
+    void testFlush_EmptyBufferSkipsWrite() {
+        messageStatusBuffer.flush();
+
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void testOffer_FlushesWhenFull() {
+        bufferConfig.setMaxItems(2);
+
+        messageStatusBuffer.offer("SM1", MessageStatus.SENT, null, null);
+        verifyNoInteractions(messageRepository);
+        messageStatusBuffer.offer("SM2", MessageStatus.SENT, null, null);
+
+        assertEquals(2, flushed().size());
+    }
+
+    @Test
+    void testFlush_KeepsUpdatesOnFailure() {
+        when(messageRepository.bulkUpdateStatus(anyCollection()))
+                .thenThrow(new RuntimeException("Mongo unavailable"))
+                .thenReturn(1);
+        messageStatusBuffer.offer("SM1", MessageStatus.FAILED, "Unreachable", "30003");
+
+        messageStatusBuffer.flush();
+        messageStatusBuffer.flush();
+
+        verify(messageRepository, times(2)).bulkUpdateStatus(anyCollection());
+        assertEquals(List.of(new MessageStatusUpdate("SM1", MessageStatus.FAILED, "30003", "Unreachable")), flushed());
+    }
+
+    @Test
+    void testFlush_RetriesUpdateOfMessageNotStoredYet() {
+        when(messageRepository.bulkUpdateStatus(anyCollection())).thenReturn(0, 1);
+        when(messageRepository.findKnownResourceIds(anyCollection())).thenReturn(Set.of());
+        messageStatusBuffer.offer("SM1", MessageStatus.SENT, null, null);
+
+        messageStatusBuffer.flush();
+        messageStatusBuffer.flush();
+        messageStatusBuffer.flush();
+
+        verify(messageRepository, times(2)).bulkUpdateStatus(anyCollection());
+        verify(messageChangePublisher, times(1)).statusesChanged(
+                List.of(new MessageStatusUpdate("SM1", MessageStatus.SENT, null, null)));
+    }
+
+    @Test
+    void testFlush_DropsUpdateOfMessageUnknownPastRetention() {
+        bufferConfig.setUnmatchedRetention(Duration.ZERO);
+        when(messageRepository.findKnownResourceIds(anyCollection())).thenReturn(Set.of());
+        messageStatusBuffer.offer("SM1", MessageStatus.SENT, null, null);
+
+        messageStatusBuffer.flush();
+        messageStatusBuffer.flush();
+        messageStatusBuffer.flush();
+
+        verify(messageRepository, times(2)).bulkUpdateStatus(anyCollection());
+    }
+
+    @Test
+    void testFlush_DoesNotRetryStaleUpdateOfStoredMessage() {
+        when(messageRepository.findKnownResourceIds(anyCollection())).thenReturn(Set.of("SM1"));
+        messageStatusBuffer.offer("SM1", MessageStatus.SENT, null, null);
+
+        messageStatusBuffer.flush();
+        messageStatusBuffer.flush();
+
+        verify(messageRepository, times(1)).bulkUpdateStatus(anyCollection());
+    }
+}
@@ -0,0 +1,80 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.message.persistence.MessageDocument;
+import com.crm.smsmanagementservice.message.persistence.MessageMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageStreamHubTest {
+    @Mock
+    private MessageMapper messageMapper;
+
+    private MessageStreamConfig streamConfig;
+    private MessageStreamHub messageStreamHub;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        streamConfig = new MessageStreamConfig();
+        messageStreamHub = new MessageStreamHub(streamConfig, messageMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageStreamHub.shutdown();
+    }
+
+    @Test
+    void testSubscribe_LimitsStreamsPerUser() {
+        streamConfig.setMaxSubscribersPerUser(1);
+
+        assertNotNull(messageStreamHub.subscribe("user1"));
+        DomainException exception = assertThrows(DomainException.class, () -> messageStreamHub.subscribe("user1"));
+
+        assertEquals(Error.TOO_MANY_REQUESTS.getCode(), exception.getCode());
+        assertNotNull(messageStreamHub.subscribe("user2"));
+    }
+
+    @Test
+    void testSubscribe_LimitsStreams() {
+        streamConfig.setMaxSubscribers(1);
+        messageStreamHub.subscribe("user1");
+
+        assertThrows(DomainException.class, () -> messageStreamHub.subscribe("user2"));
+    }
+
+    @Test
+    void testPublishStatus_OnlyToOpenStreams() {
+        assertFalse(messageStreamHub.hasSubscribers());
+        messageStreamHub.subscribe("user1");
+
+        assertTrue(messageStreamHub.hasSubscribers());
+        assertDoesNotThrow(() -> messageStreamHub.publishStatus(
+                MessageDocument.builder().id("msg-1").userId("user1").status(MessageStatus.DELIVERED).build()));
+        assertDoesNotThrow(() -> messageStreamHub.publishStatus(
+                MessageDocument.builder().id("msg-2").userId("user2").status(MessageStatus.FAILED).build()));
+    }
+
+    @Test
+    void testPublishInbound_SkipsUsersWithoutStream() {
+        messageStreamHub.subscribe("user1");
+
+        messageStreamHub.publishInbound(MessageDocument.builder().id("msg-1").userId("user2").build());
+
+        verifyNoInteractions(messageMapper);
+    }
+}
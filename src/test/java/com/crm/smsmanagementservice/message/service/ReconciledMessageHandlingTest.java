@@ -0,0 +1,66 @@
+package com.crm.smsmanagementservice.message.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.event.ReconciledMessageEvent;
+import com.crm.smsmanagementservice.message.MessageInternalAPI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.*;
+
+/**
+ * The reconciler publishes from a scheduled job, outside any transaction;
+ * the reconciled fields must still be stored.
+ *
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+@SpringJUnitConfig(ReconciledMessageHandlingTest.Config.class)
+class ReconciledMessageHandlingTest {
+    @Configuration
+    @EnableTransactionManagement
+    @Import(MessageEventListener.class)
+    static class Config {
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+
+        @Bean
+        MessageMetrics messageMetrics() {
+            return new MessageMetrics(new SimpleMeterRegistry());
+        }
+    }
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @MockBean
+    private MessageInternalAPI messageInternalAPI;
+
+    @MockBean
+    private MessageStatusBuffer messageStatusBuffer;
+
+    @Test
+    void testReconciledMessage_StoredWithoutTransaction() {
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(domainMessage.getId()).thenReturn("SM1");
+
+        applicationEventPublisher.publishEvent(new ReconciledMessageEvent(this, domainMessage));
+
+        verify(messageInternalAPI, timeout(1000)).reconcileMessage(domainMessage);
+    }
+}
@@ -1,8 +1,14 @@
 package com.crm.smsmanagementservice.message.web;
 
+import com.crm.smsmanagementservice.core.dto.CursorPage;
+import com.crm.smsmanagementservice.core.dto.ItemRejection;
+import com.crm.smsmanagementservice.core.enums.CountMode;
 import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.message.BatchProgressDTO;
 import com.crm.smsmanagementservice.message.MessageDTO;
 import com.crm.smsmanagementservice.message.MessageExternalAPI;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.message.RecipientValidationDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -10,13 +16,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -46,6 +59,14 @@ public class MessageControllerTest {
                 .content("Hello World")
                 .build();
         when(phoneNumberValidator.isValid(anyString(), any())).thenReturn(true);
+        when(messageService.validateRecipients(any())).thenAnswer(invocation -> {
+            List<MessageDTO> requested = invocation.getArgument(0);
+            return RecipientValidationDTO.builder()
+                    .accepted(requested)
+                    .acceptedIndexes(IntStream.range(0, requested.size()).boxed().toList())
+                    .rejected(List.of())
+                    .build();
+        });
 
     }
 
@@ -84,17 +105,92 @@ public class MessageControllerTest {
     void testGetMessagesByUserId() throws Exception {
         List<MessageDTO> messages = Collections.singletonList(messageDTO);
         Mockito.when(messageService.getMessagesByUserId(eq("user1"), any())).thenReturn(new PageImpl<>(messages));
+        Mockito.when(messageService.countMessagesByUserId("user1", CountMode.EXACT)).thenReturn(25L);
 
         mockMvc.perform(get("/api/v1/messages/user/{userId}", "user1")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].id").value("message-id-1"))
+                .andExpect(jsonPath("$.totalElements").value(25))
+                .andExpect(jsonPath("$.totalPages").value(3))
                 .andExpect(jsonPath("$.responseMessage").value("Messages fetched successfully"));
 
         verify(messageService, times(1)).getMessagesByUserId(eq("user1"), any());
     }
 
+    @Test
+    void testGetMessagesByUserId_WithoutCount() throws Exception {
+        List<MessageDTO> messages = Collections.singletonList(messageDTO);
+        Mockito.when(messageService.getMessagesByUserId(eq("user1"), any())).thenReturn(new PageImpl<>(messages));
+        Mockito.when(messageService.countMessagesByUserId("user1", CountMode.NONE)).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/messages/user/{userId}", "user1")
+                        .param("page", "0")
+                        .param("withCount", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value("message-id-1"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        verify(messageService, times(1)).countMessagesByUserId("user1", CountMode.NONE);
+    }
+
+    @Test
+    void testGetMessagesByUserId_InvalidCountMode() throws Exception {
+        mockMvc.perform(get("/api/v1/messages/user/{userId}", "user1")
+                        .param("withCount", "approximately"))
+                .andExpect(status().isBadRequest());
+
+        verify(messageService, never()).countMessagesByUserId(anyString(), any());
+    }
+
+    @Test
+    void testGetMessagesByUserId_WithoutPageReadsFirstOffsetPage() throws Exception {
+        List<MessageDTO> messages = Collections.singletonList(messageDTO);
+        Mockito.when(messageService.getMessagesByUserId(eq("user1"), any())).thenReturn(new PageImpl<>(messages));
+        Mockito.when(messageService.countMessagesByUserId("user1", CountMode.EXACT)).thenReturn(1L);
+
+        mockMvc.perform(get("/api/v1/messages/user/{userId}", "user1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value("message-id-1"))
+                .andExpect(jsonPath("$.currentPage").value(0))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(messageService, never()).getMessagesByUserId(anyString(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testGetMessagesByUserId_Cursor() throws Exception {
+        List<MessageDTO> messages = Collections.singletonList(messageDTO);
+        Mockito.when(messageService.getMessagesByUserId(eq("user1"), eq("cursor-1"), eq(100), eq(Sort.Direction.ASC)))
+                .thenReturn(new CursorPage<>(messages, "cursor-2"));
+        Mockito.when(messageService.countMessagesByUserId("user1", CountMode.ESTIMATE)).thenReturn(42L);
+
+        mockMvc.perform(get("/api/v1/messages/user/{userId}", "user1")
+                        .param("after", "cursor-1")
+                        .param("size", "500")
+                        .param("order", "asc")
+                        .param("withCount", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value("message-id-1"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-2"))
+                .andExpect(jsonPath("$.totalElements").value(42))
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        verify(messageService, never()).getMessagesByUserId(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void testStreamMessagesByUserId() throws Exception {
+        Mockito.when(messageService.streamMessagesByUserId("user1")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/messages/user/{userId}/stream", "user1"))
+                .andExpect(request().asyncStarted());
+
+        verify(messageService, times(1)).streamMessagesByUserId("user1");
+    }
+
     @Test
     void testCreateSMSMessage() throws Exception {
         List<MessageDTO> messages = Collections.singletonList(messageDTO);
@@ -156,6 +252,161 @@ public class MessageControllerTest {
         verify(messageService, times(1)).createMessage(any());
     }
 
+    @Test
+    void testCreateMessage_ReportsRejectedRecipients() throws Exception {
+        List<MessageDTO> messages = Collections.singletonList(messageDTO);
+        doAnswer(invocation -> {
+            List<MessageDTO> requested = invocation.getArgument(0);
+            return RecipientValidationDTO.builder()
+                    .accepted(List.of(requested.get(0)))
+                    .acceptedIndexes(List.of(0))
+                    .rejected(List.of(new ItemRejection(1, "+1000", "Invalid phone number")))
+                    .build();
+        }).when(messageService).validateRecipients(any());
+        Mockito.when(messageService.createMessage(any())).thenReturn(messages);
+
+        String requestBody = """
+                {
+                    "userId": "user1",
+                    "from": "+1234567890",
+                    "messageItems": [
+                        {
+                            "contactId": "contact1",
+                            "to": "+9876543210",
+                            "content": "Hello World"
+                        },
+                        {
+                            "contactId": "contact2",
+                            "to": "+1000",
+                            "content": "Hello World"
+                        }
+                    ]
+                }
+                """;
+
+        mockMvc.perform(post("/api/v1/messages")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data[0].id").value("message-id-1"))
+                .andExpect(jsonPath("$.rejected[0].index").value(1))
+                .andExpect(jsonPath("$.rejected[0].value").value("+1000"));
+
+        verify(messageService, times(1)).createMessage(argThat(accepted -> accepted.size() == 1));
+    }
+
+    @Test
+    void testCreateMessage_ReportsRecipientsTheProviderRejected() throws Exception {
+        MessageDTO failed = MessageDTO.builder()
+                .id("message-id-2")
+                .to("+16135550102")
+                .status(MessageStatus.FAILED)
+                .errorCode("21211")
+                .errorMessage("Invalid 'To' phone number")
+                .build();
+        Mockito.when(messageService.createMessage(any())).thenReturn(List.of(messageDTO, failed));
+
+        String requestBody = """
+                {
+                    "userId": "user1",
+                    "from": "+1234567890",
+                    "messageItems": [
+                        {
+                            "contactId": "contact1",
+                            "to": "+9876543210",
+                            "content": "Hello World"
+                        },
+                        {
+                            "contactId": "contact2",
+                            "to": "+16135550102",
+                            "content": "Hello World"
+                        }
+                    ]
+                }
+                """;
+
+        mockMvc.perform(post("/api/v1/messages")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.data[0].id").value("message-id-1"))
+                .andExpect(jsonPath("$.data[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.rejected[0].index").value(1))
+                .andExpect(jsonPath("$.rejected[0].value").value("+16135550102"))
+                .andExpect(jsonPath("$.rejected[0].reason").value("Invalid 'To' phone number"))
+                .andExpect(jsonPath("$.responseMessage").value("Messages created, some were not sent"));
+    }
+
+    @Test
+    void testCreateMessageAsync() throws Exception {
+        BatchProgressDTO batchProgress = BatchProgressDTO.builder().batchId("batch-1").total(1).pending(1).build();
+        Mockito.when(messageService.queueMessages(any())).thenReturn(batchProgress);
+
+        String requestBody = """
+                {
+                    "userId": "user1",
+                    "from": "+1234567890",
+                    "messageItems": [
+                        {
+                            "contactId": "contact1",
+                            "to": "+9876543210",
+                            "content": "Hello World"
+                        }
+                    ]
+                }
+                """;
+
+        mockMvc.perform(post("/api/v1/messages")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/messages/batch/batch-1"))
+                .andExpect(jsonPath("$.data.batchId").value("batch-1"))
+                .andExpect(jsonPath("$.data.pending").value(1))
+                .andExpect(jsonPath("$.responseMessage").value("Messages accepted for delivery"));
+
+        verify(messageService, times(1)).queueMessages(any());
+        verify(messageService, times(0)).createMessage(any());
+    }
+
+    @Test
+    void testCreateMessage_SyncBatchTooLarge() throws Exception {
+        String items = IntStream.range(0, 21)
+                .mapToObj(i -> "{\"contactId\": \"contact" + i + "\", \"to\": \"+9876543210\", \"content\": \"Hello\"}")
+                .collect(Collectors.joining(","));
+        String requestBody = "{\"userId\": \"user1\", \"from\": \"+1234567890\", \"messageItems\": [" + items + "]}";
+        Mockito.when(messageService.queueMessages(any()))
+                .thenReturn(BatchProgressDTO.builder().batchId("batch-1").total(21).pending(21).build());
+
+        mockMvc.perform(post("/api/v1/messages")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/messages")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isAccepted());
+
+        verify(messageService, never()).createMessage(any());
+    }
+
+    @Test
+    void testGetBatchProgress() throws Exception {
+        BatchProgressDTO batchProgress = BatchProgressDTO.builder()
+                .batchId("batch-1").total(2).dispatched(2).completed(true).build();
+        Mockito.when(messageService.getBatchProgress("batch-1")).thenReturn(batchProgress);
+
+        mockMvc.perform(get("/api/v1/messages/batch/{id}", "batch-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dispatched").value(2))
+                .andExpect(jsonPath("$.data.completed").value(true))
+                .andExpect(jsonPath("$.responseMessage").value("Batch progress fetched successfully"));
+
+        verify(messageService, times(1)).getBatchProgress("batch-1");
+    }
+
     @Test
     void testUpdateMessage() throws Exception {
         Mockito.when(messageService.cancelMessage("message-id-1")).thenReturn(messageDTO);
@@ -0,0 +1,127 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.validator.IPhoneNumberValidator;
+import com.crm.smsmanagementservice.provider.persistence.PhoneValidationDocument;
+import com.crm.smsmanagementservice.provider.persistence.PhoneValidationRepository;
+import com.twilio.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class CachingPhoneNumberValidatorTest {
+    private static final String NUMBER = "+16135550123";
+
+    @Mock
+    private IPhoneNumberValidator lookupValidator;
+
+    @Mock
+    private PhoneValidationRepository phoneValidationRepository;
+
+    private CachingPhoneNumberValidator phoneNumberValidator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        PhoneValidationConfig validationConfig = new PhoneValidationConfig();
+        phoneNumberValidator = new CachingPhoneNumberValidator(lookupValidator,
+                new PhoneNumberNormalizer(validationConfig), phoneValidationRepository, validationConfig,
+                new SimpleMeterRegistry());
+        when(phoneValidationRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void testIsValid_LooksUpOncePerNormalizedNumber() {
+        when(lookupValidator.isValid(NUMBER, null)).thenReturn(true);
+
+        assertTrue(phoneNumberValidator.isValid(NUMBER, null));
+        assertTrue(phoneNumberValidator.isValid("(613) 555-0123", null));
+        assertTrue(phoneNumberValidator.isValid("+1 613 555 0123", null));
+
+        verify(lookupValidator, times(1)).isValid(NUMBER, null);
+        verify(phoneValidationRepository, times(1)).save(argThat(document ->
+                document.getNumber().equals(NUMBER) && document.isValid()));
+    }
+
+    @Test
+    void testIsValid_MalformedNumberSkipsLookup() {
+        assertFalse(phoneNumberValidator.isValid("12", null));
+        assertFalse(phoneNumberValidator.isValid("not a number", null));
+        assertFalse(phoneNumberValidator.isValid(null, null));
+
+        verifyNoInteractions(lookupValidator, phoneValidationRepository);
+    }
+
+    @Test
+    void testIsValid_NegativeResultExpiresSooner() {
+        when(lookupValidator.isValid(NUMBER, null)).thenReturn(false);
+
+        assertFalse(phoneNumberValidator.isValid(NUMBER, null));
+
+        verify(phoneValidationRepository, times(1)).save(argThat(document ->
+                !document.isValid() && document.getExpiresAt().isBefore(ZonedDateTime.now().plusDays(2))));
+    }
+
+    @Test
+    void testIsValid_UsesStoredResult() {
+        when(phoneValidationRepository.findById(NUMBER)).thenReturn(Optional.of(PhoneValidationDocument.builder()
+                .number(NUMBER).valid(true).expiresAt(ZonedDateTime.now().plusDays(1)).build()));
+
+        assertTrue(phoneNumberValidator.isValid(NUMBER, null));
+
+        verifyNoInteractions(lookupValidator);
+    }
+
+    @Test
+    void testIsValid_LookupFailureIsNotCached() {
+        when(lookupValidator.isValid(NUMBER, null))
+                .thenThrow(new ApiException("Internal Server Error", 500))
+                .thenReturn(true);
+
+        assertThrows(ApiException.class, () -> phoneNumberValidator.isValid(NUMBER, null));
+        assertTrue(phoneNumberValidator.isValid(NUMBER, null));
+    }
+
+    @Test
+    void testPrewarm_LoadsStoredResultsInOneQuery() {
+        when(phoneValidationRepository.findByNumberInAndExpiresAtAfter(anyCollection(), any()))
+                .thenReturn(List.of(PhoneValidationDocument.builder()
+                        .number(NUMBER).valid(true).expiresAt(ZonedDateTime.now().plusDays(1)).build()));
+
+        phoneNumberValidator.prewarm(List.of(NUMBER, "+16135550124"));
+        assertTrue(phoneNumberValidator.isValid(NUMBER, null));
+
+        verify(phoneValidationRepository, times(1)).findByNumberInAndExpiresAtAfter(anyCollection(), any());
+        verify(phoneValidationRepository, never()).findById(NUMBER);
+        verifyNoInteractions(lookupValidator);
+    }
+
+    @Test
+    void testValidateAll_DedupesAndReportsEveryValue() {
+        when(lookupValidator.isValid(NUMBER, null)).thenReturn(true);
+        when(lookupValidator.isValid("+16135550124", null)).thenReturn(false);
+
+        Map<String, Boolean> result = phoneNumberValidator.validateAll(
+                List.of(NUMBER, "(613) 555-0123", "+16135550124", "12"));
+
+        assertEquals(Map.of(NUMBER, true, "(613) 555-0123", true, "+16135550124", false, "12", false), result);
+        verify(lookupValidator, times(1)).isValid(NUMBER, null);
+        verify(lookupValidator, times(1)).isValid("+16135550124", null);
+        verify(phoneValidationRepository, times(1)).findByNumberInAndExpiresAtAfter(anyCollection(), any());
+    }
+}
@@ -6,13 +6,16 @@ import com.crm.smsmanagementservice.core.event.DeliveredMessageEvent;
 import com.crm.smsmanagementservice.core.event.InboundMessageEvent;
 import com.crm.smsmanagementservice.core.event.UpdateMessageEvent;
 import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
 import com.crm.smsmanagementservice.provider.ProviderMessagingDTO;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
 import com.crm.smsmanagementservice.provider.web.InboundMessageDTO;
 import com.crm.smsmanagementservice.provider.web.MessageStatusUpdateDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationEventPublisher;
@@ -21,6 +24,7 @@ import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,12 +37,16 @@ class MessageProviderServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
-    @InjectMocks
+    @Mock
+    private MessageReconciler messageReconciler;
+
     private MessageProviderService messageProviderService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        messageProviderService = new MessageProviderService(messagingClient, applicationEventPublisher,
+                new ProviderDispatcher(new ProviderDispatchConfig(), new ProviderResilienceConfig(), new SimpleMeterRegistry()), messageReconciler);
     }
 
     @Test
@@ -57,7 +65,7 @@ class MessageProviderServiceTest {
         when(messagingClient.sendSMSFromNumber(anyString(), anyString(), anyString()))
                 .thenReturn(domainMessage);
 
-        Map<String, DomainMessage> result = messageProviderService.sendMessages(messagingDTO);
+        Map<String, ProviderSendResult> result = messageProviderService.sendMessages(messagingDTO);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -65,6 +73,27 @@ class MessageProviderServiceTest {
                 .sendSMSFromNumber(anyString(), anyString(), anyString());
     }
 
+    @Test
+    void testSendMessages_ReportsFailedRecipientsNextToSentOnes() {
+        Map<String, ProviderMessagingDTO.MessageItemDTO> messageItems = new HashMap<>();
+        messageItems.put("message-1", new ProviderMessagingDTO.MessageItemDTO("content", "+16135550101", "sender"));
+        messageItems.put("message-2", new ProviderMessagingDTO.MessageItemDTO("content", "+16135550102", "sender"));
+        ProviderMessagingDTO messagingDTO = ProviderMessagingDTO.builder()
+                .messageItems(messageItems)
+                .build();
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messagingClient.sendSMSFromNumber("+16135550101", "sender", "content")).thenReturn(domainMessage);
+        when(messagingClient.sendSMSFromNumber("+16135550102", "sender", "content"))
+                .thenThrow(new ProviderException(Error.INVALID_REQUEST, "Invalid 'To' phone number", "21211", 400));
+
+        Map<String, ProviderSendResult> result = messageProviderService.sendMessages(messagingDTO);
+
+        assertTrue(result.get("message-1").isSent());
+        assertSame(domainMessage, result.get("message-1").message());
+        assertFalse(result.get("message-2").isSent());
+        assertEquals("21211", result.get("message-2").errorCode());
+    }
+
     @Test
     void testSendMessages_MMS() {
         Map<String, ProviderMessagingDTO.MessageItemDTO> messageItems = new HashMap<>();
@@ -78,7 +107,7 @@ class MessageProviderServiceTest {
         when(messagingClient.sendMMSFromNumber(anyString(), anyString(), anyString(), anyList()))
                 .thenReturn(domainMessage);
 
-        Map<String, DomainMessage> result = messageProviderService.sendMessages(messagingDTO);
+        Map<String, ProviderSendResult> result = messageProviderService.sendMessages(messagingDTO);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -99,7 +128,7 @@ class MessageProviderServiceTest {
         when(messagingClient.scheduleSMS(anyString(), anyString(), any(ZonedDateTime.class)))
                 .thenReturn(domainMessage);
 
-        Map<String, DomainMessage> result = messageProviderService.scheduleMessages(messagingDTO);
+        Map<String, ProviderSendResult> result = messageProviderService.scheduleMessages(messagingDTO);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -122,7 +151,7 @@ class MessageProviderServiceTest {
         when(messagingClient.scheduleMMS(anyString(), anyString(), anyList(), any(ZonedDateTime.class)))
                 .thenReturn(domainMessage);
 
-        Map<String, DomainMessage> result = messageProviderService.scheduleMessages(messagingDTO);
+        Map<String, ProviderSendResult> result = messageProviderService.scheduleMessages(messagingDTO);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -158,7 +187,7 @@ class MessageProviderServiceTest {
         when(messagingClient.sendSMSFromService(anyString(), anyString()))
                 .thenReturn(domainMessage);
 
-        Map<String, DomainMessage> result = messageProviderService.bulkSendMessages(messagingDTO);
+        Map<String, ProviderSendResult> result = messageProviderService.bulkSendMessages(messagingDTO);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -179,7 +208,7 @@ class MessageProviderServiceTest {
         when(messagingClient.sendMMSFromService(anyString(), anyString(), anyList()))
                 .thenReturn(domainMessage);
 
-        Map<String, DomainMessage> result = messageProviderService.bulkSendMessages(messagingDTO);
+        Map<String, ProviderSendResult> result = messageProviderService.bulkSendMessages(messagingDTO);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -212,41 +241,45 @@ class MessageProviderServiceTest {
     void testHandleIncomingMessage() {
         InboundMessageDTO messageDTO = InboundMessageDTO.builder()
                 .messageId("message-id")
-                .messageStatus("DELIVERED")
+                .messageStatus("received")
                 .from("sender")
                 .to("recipient")
                 .body("content")
+                .segments("1")
                 .build();
-        DomainMessage domainMessage = mock(DomainMessage.class);
-
-        when(messagingClient.fetchMessageById(anyString()))
-                .thenReturn(domainMessage);
 
         messageProviderService.handleIncomingMessage(messageDTO);
 
         ArgumentCaptor<InboundMessageEvent> eventCaptor = ArgumentCaptor.forClass(InboundMessageEvent.class);
         verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
 
-        InboundMessageEvent event = eventCaptor.getValue();
-        assertEquals(domainMessage, event.getMessage());
+        DomainMessage message = eventCaptor.getValue().getMessage();
+        assertEquals("message-id", message.getId());
+        assertEquals(MessageStatus.RECEIVED, message.getStatus());
+        assertEquals(Optional.of("sender"), message.getSender());
+        assertEquals("recipient", message.getRecipient());
+        assertEquals("content", message.getMessageContent());
+        verify(messagingClient, never()).fetchMessageById(anyString());
+        verify(messageReconciler, times(1)).schedule("message-id");
     }
 
     @Test
     void testHandleIncomingMessageStatusUpdate_Delivered() {
         MessageStatusUpdateDTO messageDTO = new MessageStatusUpdateDTO(
-                "DELIVERED", "account-id", "service-id", "DELIVERED", null, null);
-        DomainMessage domainMessage = mock(DomainMessage.class);
-
-        when(messagingClient.fetchMessageById(anyString()))
-                .thenReturn(domainMessage);
+                "delivered", "message-id", "account-id", "service-id", null, null);
 
         messageProviderService.handleIncomingMessageStatusUpdate(messageDTO);
 
         ArgumentCaptor<DeliveredMessageEvent> eventCaptor = ArgumentCaptor.forClass(DeliveredMessageEvent.class);
         verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
 
-        DeliveredMessageEvent event = eventCaptor.getValue();
-        assertEquals(domainMessage, event.getMessage());
+        DomainMessage message = eventCaptor.getValue().getMessage();
+        assertEquals("message-id", message.getId());
+        assertEquals(MessageStatus.DELIVERED, message.getStatus());
+        assertNotNull(message.getDeliveredTime());
+        assertNull(message.getPrice());
+        verify(messagingClient, never()).fetchMessageById(anyString());
+        verify(messageReconciler, times(1)).schedule("message-id");
     }
 
     @Test
@@ -0,0 +1,113 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.event.ReconciledMessageEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MessageReconcilerTest {
+    @Mock
+    private MessagingClient messagingClient;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private ProviderDispatcher providerDispatcher;
+    private MessageReconcilerConfig reconcilerConfig;
+    private MessageReconciler messageReconciler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reconcilerConfig = new MessageReconcilerConfig();
+        reconcilerConfig.setDelay(Duration.ZERO);
+        providerDispatcher = new ProviderDispatcher(new ProviderDispatchConfig(), new ProviderResilienceConfig(), new SimpleMeterRegistry());
+        messageReconciler = new MessageReconciler(messagingClient, providerDispatcher, applicationEventPublisher, reconcilerConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        providerDispatcher.shutdown();
+    }
+
+    @Test
+    void testReconcile_PublishesFetchedMessages() {
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(messagingClient.fetchMessageById("SM1")).thenReturn(domainMessage);
+
+        messageReconciler.schedule("SM1");
+        messageReconciler.schedule("SM1");
+        messageReconciler.reconcile();
+        messageReconciler.reconcile();
+
+        verify(messagingClient, times(1)).fetchMessageById("SM1");
+        ArgumentCaptor<ReconciledMessageEvent> eventCaptor = ArgumentCaptor.forClass(ReconciledMessageEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertEquals(domainMessage, eventCaptor.getValue().getMessage());
+    }
+
+    @Test
+    void testReconcile_WaitsForDelay() {
+        reconcilerConfig.setDelay(Duration.ofMinutes(5));
+
+        messageReconciler.schedule("SM1");
+        messageReconciler.reconcile();
+
+        verifyNoInteractions(messagingClient, applicationEventPublisher);
+    }
+
+    @Test
+    void testReconcile_LimitsBatchSize() {
+        reconcilerConfig.setBatchSize(2);
+        when(messagingClient.fetchMessageById(anyString())).thenReturn(mock(DomainMessage.class));
+        messageReconciler.schedule("SM1");
+        messageReconciler.schedule("SM2");
+        messageReconciler.schedule("SM3");
+
+        messageReconciler.reconcile();
+
+        verify(messagingClient, times(2)).fetchMessageById(anyString());
+    }
+
+    @Test
+    void testReconcile_SkipsFailedFetch() {
+        when(messagingClient.fetchMessageById("SM1")).thenThrow(new RuntimeException("Provider unavailable"));
+        when(messagingClient.fetchMessageById("SM2")).thenReturn(mock(DomainMessage.class));
+        messageReconciler.schedule("SM1");
+        messageReconciler.schedule("SM2");
+
+        messageReconciler.reconcile();
+
+        verify(applicationEventPublisher, times(1)).publishEvent(any(ReconciledMessageEvent.class));
+    }
+
+    @Test
+    void testSchedule_DropsWhenFull() {
+        reconcilerConfig.setMaxPending(1);
+        when(messagingClient.fetchMessageById(anyString())).thenReturn(mock(DomainMessage.class));
+        messageReconciler.schedule("SM1");
+        messageReconciler.schedule("SM2");
+
+        messageReconciler.reconcile();
+
+        verify(messagingClient, times(1)).fetchMessageById("SM1");
+        verify(messagingClient, never()).fetchMessageById("SM2");
+    }
+}
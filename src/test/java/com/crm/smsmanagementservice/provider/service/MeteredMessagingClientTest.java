@@ -0,0 +1,91 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class MeteredMessagingClientTest {
+    private MessagingClient messagingClient;
+    private SimpleMeterRegistry meterRegistry;
+    private ProviderCircuitBreaker circuitBreaker;
+    private MeteredMessagingClient meteredMessagingClient;
+
+    @BeforeEach
+    void setUp() {
+        messagingClient = mock(MessagingClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ProviderResilienceConfig resilienceConfig = new ProviderResilienceConfig();
+        circuitBreaker = mock(ProviderCircuitBreaker.class);
+        when(circuitBreaker.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        meteredMessagingClient = new MeteredMessagingClient("twilio", messagingClient, meterRegistry,
+                new ProviderBulkhead("twilio", resilienceConfig, meterRegistry), circuitBreaker);
+    }
+
+    @Test
+    void testSend_RecordsSuccess() {
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        when(domainMessage.getErrorCode()).thenReturn(Optional.empty());
+        when(messagingClient.sendMMSFromNumber("+16135550101", "+16135550100", "Hello", List.of("url")))
+                .thenReturn(domainMessage);
+
+        assertSame(domainMessage, meteredMessagingClient.sendMMSFromNumber("+16135550101", "+16135550100", "Hello", List.of("url")));
+
+        assertEquals(1, meterRegistry.get(MeteredMessagingClient.METER_NAME)
+                .tags("provider", "twilio", "operation", "sendFromNumber", "type", "mms", "outcome", "success", "errorCode", "none")
+                .timer().count());
+    }
+
+    @Test
+    void testSend_RecordsRateLimit() {
+        when(messagingClient.sendSMSFromService("+16135550101", "Hello"))
+                .thenThrow(new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429));
+
+        assertThrows(ProviderException.class, () -> meteredMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+
+        assertEquals(1, meterRegistry.get(MeteredMessagingClient.METER_NAME)
+                .tags("operation", "sendFromService", "type", "sms", "outcome", "rate_limited", "errorCode", "20429")
+                .timer().count());
+    }
+
+    @Test
+    void testFetch_RecordsDomainError() {
+        when(messagingClient.fetchMessageById("SM1")).thenThrow(new DomainException(Error.UNEXPECTED_ERROR));
+
+        assertThrows(DomainException.class, () -> meteredMessagingClient.fetchMessageById("SM1"));
+
+        assertEquals(1, meterRegistry.get(MeteredMessagingClient.METER_NAME)
+                .tags("operation", "fetch", "outcome", "error", "errorCode", Error.UNEXPECTED_ERROR.getCode())
+                .timer().count());
+    }
+
+    @Test
+    void testSend_RecordsRejectionByOpenCircuit() {
+        doThrow(new ProviderUnavailableException("Messaging provider circuit is open")).when(circuitBreaker).execute(any());
+
+        assertThrows(ProviderUnavailableException.class,
+                () -> meteredMessagingClient.sendSMSFromNumber("+16135550101", "+16135550100", "Hello"));
+
+        verifyNoInteractions(messagingClient);
+        assertEquals(1, meterRegistry.get(MeteredMessagingClient.METER_NAME)
+                .tags("operation", "sendFromNumber", "outcome", "rejected", "errorCode", Error.PROVIDER_UNAVAILABLE.getCode())
+                .timer().count());
+    }
+}
@@ -0,0 +1,61 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderBulkheadTest {
+    private ProviderBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        ProviderResilienceConfig resilienceConfig = new ProviderResilienceConfig();
+        resilienceConfig.getBulkhead().setMaxConcurrentCalls(1);
+        resilienceConfig.getBulkhead().setMaxWait(Duration.ofMillis(50));
+        bulkhead = new ProviderBulkhead("twilio", resilienceConfig, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testExecute_ReleasesSlot() {
+        assertEquals("ok", bulkhead.execute(() -> "ok"));
+        assertEquals(1, bulkhead.getAvailableSlots());
+    }
+
+    @Test
+    void testExecute_RejectsWhenFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> bulkhead.execute(() -> {
+                started.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ProviderUnavailableException.class, () -> bulkhead.execute(() -> "ok"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
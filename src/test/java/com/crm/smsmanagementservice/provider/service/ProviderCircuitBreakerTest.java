@@ -0,0 +1,126 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.core.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderCircuitBreakerTest {
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ProviderCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        ProviderResilienceConfig resilienceConfig = new ProviderResilienceConfig();
+        resilienceConfig.getCircuitBreaker().setSlidingWindowSize(10);
+        resilienceConfig.getCircuitBreaker().setMinimumCalls(4);
+        resilienceConfig.getCircuitBreaker().setHalfOpenCalls(2);
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new ProviderCircuitBreaker("twilio", resilienceConfig, meterRegistry, clock::get);
+    }
+
+    private void fail(int status) {
+        assertThrows(ProviderException.class, () -> circuitBreaker.execute(() -> {
+            throw new ProviderException(Error.PROVIDER_UNAVAILABLE, "Provider error", null, status);
+        }));
+    }
+
+    private void succeed() {
+        assertEquals("ok", circuitBreaker.execute(() -> "ok"));
+    }
+
+    private void succeedSlowly() {
+        circuitBreaker.execute(() -> clock.addAndGet(Duration.ofSeconds(10).toNanos()));
+    }
+
+    @Test
+    void testExecute_OpensOnFailureRate() {
+        succeed();
+        succeed();
+        fail(503);
+        assertEquals(ProviderCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        fail(0);
+
+        assertEquals(ProviderCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(ProviderUnavailableException.class, this::succeed);
+        assertEquals(1, meterRegistry.get("provider.circuit.transitions").tags("provider", "twilio", "from", "closed", "to", "open").counter().count());
+    }
+
+    @Test
+    void testExecute_OpensOnSlowCallRate() {
+        for (int i = 0; i < 4; i++) {
+            succeedSlowly();
+        }
+
+        assertEquals(ProviderCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testExecute_IgnoresRejectedRequests() {
+        for (int i = 0; i < 10; i++) {
+            fail(400);
+            fail(429);
+        }
+
+        assertEquals(ProviderCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testExecute_ClosesAfterSuccessfulProbes() {
+        for (int i = 0; i < 4; i++) {
+            fail(500);
+        }
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        succeed();
+        assertEquals(ProviderCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        succeed();
+
+        assertEquals(ProviderCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    void testExecute_ReopensOnFailedProbe() {
+        for (int i = 0; i < 4; i++) {
+            fail(500);
+        }
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        fail(500);
+
+        assertEquals(ProviderCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(ProviderUnavailableException.class, this::succeed);
+    }
+
+    @Test
+    void testExecute_SlidesWindow() {
+        for (int i = 0; i < 4; i++) {
+            succeed();
+        }
+        fail(500);
+        fail(500);
+        fail(500);
+        for (int i = 0; i < 10; i++) {
+            succeed();
+        }
+
+        assertEquals(0, circuitBreaker.getFailureRate());
+        assertEquals(ProviderCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
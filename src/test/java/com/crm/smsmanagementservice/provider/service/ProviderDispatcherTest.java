@@ -0,0 +1,316 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import com.crm.smsmanagementservice.provider.ProviderSendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderDispatcherTest {
+    private ProviderDispatchConfig dispatchConfig;
+    private ProviderDispatcher providerDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatchConfig = new ProviderDispatchConfig();
+        dispatchConfig.setMaxConcurrency(2);
+        dispatchConfig.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        providerDispatcher = new ProviderDispatcher(dispatchConfig, new ProviderResilienceConfig(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        providerDispatcher.shutdown();
+    }
+
+    @Test
+    void testDispatch_ReturnsResultPerItem() {
+        Map<String, String> items = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            items.put("key-" + i, "+1555000" + i);
+        }
+        DomainMessage domainMessage = mock(DomainMessage.class);
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> domainMessage);
+
+        assertEquals(50, result.size());
+        assertTrue(result.keySet().containsAll(items.keySet()));
+    }
+
+    @Test
+    void testDispatch_LimitsConcurrencyPerSender() {
+        Map<String, String> items = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            items.put("key-" + i, "sender");
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        providerDispatcher.dispatch(items, item -> item, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return mock(DomainMessage.class);
+        });
+
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void testDispatch_WaitsForBulkheadSlotAcrossSenders() {
+        ProviderResilienceConfig resilienceConfig = new ProviderResilienceConfig();
+        resilienceConfig.getBulkhead().setMaxConcurrentCalls(3);
+        ProviderDispatcher boundedDispatcher = new ProviderDispatcher(dispatchConfig, resilienceConfig, new SimpleMeterRegistry());
+        Map<String, String> items = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            items.put("key-" + i, "sender-" + i % 5);
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        Map<String, ProviderSendResult> result = boundedDispatcher.dispatch(items, item -> item, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return mock(DomainMessage.class);
+        });
+        boundedDispatcher.shutdown();
+
+        assertTrue(maxInFlight.get() <= 3);
+        assertTrue(result.values().stream().allMatch(ProviderSendResult::isSent));
+    }
+
+    @Test
+    void testDispatch_UsesSenderOverride() {
+        dispatchConfig.setSenderConcurrency(Map.of(ProviderDispatcher.BULK_SERVICE_KEY, 5));
+
+        assertEquals(5, dispatchConfig.concurrencyFor(ProviderDispatcher.BULK_SERVICE_KEY));
+        assertEquals(2, dispatchConfig.concurrencyFor("other"));
+    }
+
+    @Test
+    void testDispatch_PacesSenderAtItsRate() {
+        dispatchConfig.setSenderMessagesPerSecond(Map.of("sender", 20d));
+        Map<String, String> items = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            items.put("key-" + i, "sender");
+        }
+
+        long started = System.nanoTime();
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> mock(DomainMessage.class));
+
+        assertEquals(30, result.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(450)) >= 0);
+    }
+
+    @Test
+    void testDispatch_DoesNotHoldPermitWhilePaced() throws Exception {
+        dispatchConfig.setSenderMessagesPerSecond(Map.of("sender", 2d));
+        Map<String, String> items = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            items.put("key-" + i, "sender");
+        }
+        CountDownLatch burstSent = new CountDownLatch(2);
+        CompletableFuture<Map<String, ProviderSendResult>> sends = CompletableFuture.supplyAsync(() ->
+                providerDispatcher.dispatch(items, item -> item, item -> {
+                    burstSent.countDown();
+                    return mock(DomainMessage.class);
+                }));
+        assertTrue(burstSent.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        long started = System.nanoTime();
+        Map<String, ProviderSendResult> fetched = providerDispatcher.dispatchIdempotent(Map.of("fetch", "SM1"),
+                item -> "sender", item -> mock(DomainMessage.class));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(250)) < 0);
+        assertTrue(fetched.get("fetch").isSent());
+        assertEquals(4, sends.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void testDispatchIdempotent_DoesNotPaceCallsThatSendNothing() {
+        dispatchConfig.setMessagesPerSecond(1);
+        Map<String, String> items = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            items.put("key-" + i, "SM" + i);
+        }
+
+        long started = System.nanoTime();
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatchIdempotent(items,
+                item -> MessageReconciler.RECONCILER_KEY, item -> mock(DomainMessage.class));
+
+        assertEquals(30, result.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    void testDispatch_ReportsFailurePerItem() {
+        Map<String, String> items = Map.of("key-1", "+16135550101", "key-2", "+16135550102");
+        DomainMessage domainMessage = mock(DomainMessage.class);
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> "sender", item -> {
+            if (item.equals("+16135550102")) {
+                throw new DomainException(Error.INVALID_REQUEST, "Provider error");
+            }
+            return domainMessage;
+        });
+
+        assertEquals(2, result.size());
+        assertSame(domainMessage, result.get("key-1").message());
+        assertFalse(result.get("key-2").isSent());
+        assertEquals("Provider error", result.get("key-2").error().getMessage());
+    }
+
+    @Test
+    void testDispatch_HandsEachResultToListenerAsItCompletes() {
+        Map<String, String> items = Map.of("fast", "+16135550101", "slow", "+16135550102");
+        DomainMessage domainMessage = mock(DomainMessage.class);
+        CountDownLatch fastReported = new CountDownLatch(1);
+        List<String> reported = new CopyOnWriteArrayList<>();
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> {
+            if (item.equals("+16135550102") && !awaitQuietly(fastReported)) {
+                throw new DomainException(Error.UNEXPECTED_ERROR, "Fast result was not reported first");
+            }
+            return domainMessage;
+        }, (key, sendResult) -> {
+            reported.add(key);
+            fastReported.countDown();
+        });
+
+        assertEquals(List.of("fast", "slow"), reported);
+        assertTrue(result.get("slow").isSent());
+    }
+
+    @Test
+    void testDispatch_RetriesSendThatNeverReachedProvider() {
+        Map<String, String> items = Map.of("key-1", "sender");
+        AtomicInteger attempts = new AtomicInteger();
+        DomainMessage domainMessage = mock(DomainMessage.class);
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ProviderException(Error.PROVIDER_UNAVAILABLE, "Connection refused", null, 0, false);
+            }
+            return domainMessage;
+        });
+
+        assertSame(domainMessage, result.get("key-1").message());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testDispatch_DoesNotRetrySendTheProviderMayHaveAccepted() {
+        Map<String, String> items = Map.of("key-1", "sender");
+        AtomicInteger attempts = new AtomicInteger();
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> {
+            attempts.incrementAndGet();
+            throw new ProviderException(Error.PROVIDER_UNAVAILABLE, "Service unavailable", "20503", 503);
+        });
+
+        assertFalse(result.get("key-1").isSent());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testDispatchIdempotent_RetriesProviderError() {
+        Map<String, String> items = Map.of("key-1", "SM1");
+        AtomicInteger attempts = new AtomicInteger();
+        DomainMessage domainMessage = mock(DomainMessage.class);
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatchIdempotent(items, item -> "reconciler", item -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ProviderException(Error.PROVIDER_UNAVAILABLE, "Service unavailable", "20503", 503);
+            }
+            return domainMessage;
+        });
+
+        assertSame(domainMessage, result.get("key-1").message());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testDispatch_GivesUpAfterMaxAttempts() {
+        Map<String, String> items = Map.of("key-1", "sender");
+        AtomicInteger attempts = new AtomicInteger();
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> {
+            attempts.incrementAndGet();
+            throw new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429);
+        });
+
+        assertFalse(result.get("key-1").isSent());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testDispatch_DoesNotRetryPermanentFailure() {
+        Map<String, String> items = Map.of("key-1", "sender");
+        AtomicInteger attempts = new AtomicInteger();
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> {
+            attempts.incrementAndGet();
+            throw new ProviderException(Error.INVALID_REQUEST, "Invalid 'To' phone number", "21211", 400);
+        });
+
+        assertEquals("21211", result.get("key-1").errorCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testDispatch_StopsRetryingOnceBudgetIsSpent() {
+        dispatchConfig.getRetry().setMinBudget(1);
+        dispatchConfig.getRetry().setBudgetRatio(0);
+        Map<String, String> items = Map.of("key-1", "sender");
+        AtomicInteger attempts = new AtomicInteger();
+
+        Map<String, ProviderSendResult> result = providerDispatcher.dispatch(items, item -> item, item -> {
+            attempts.incrementAndGet();
+            throw new ProviderException(Error.PROVIDER_UNAVAILABLE, "Connection refused", null, 0, false);
+        });
+
+        assertFalse(result.get("key-1").isSent());
+        assertEquals(2, attempts.get());
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderHealthIndicatorTest {
+    private final RoutingMessagingClient routingMessagingClient = mock(RoutingMessagingClient.class);
+    private final ProviderHealthIndicator healthIndicator = new ProviderHealthIndicator(routingMessagingClient);
+
+    private ProviderRoute route(String name, ProviderCircuitBreaker.State state, double failureRate) {
+        ProviderCircuitBreaker circuitBreaker = mock(ProviderCircuitBreaker.class);
+        when(circuitBreaker.getState()).thenReturn(state);
+        when(circuitBreaker.getFailureRate()).thenReturn(failureRate);
+        ProviderBulkhead bulkhead = mock(ProviderBulkhead.class);
+        when(bulkhead.getAvailableSlots()).thenReturn(64);
+        ProviderRoute route = mock(ProviderRoute.class);
+        when(route.getName()).thenReturn(name);
+        when(route.getCircuitBreaker()).thenReturn(circuitBreaker);
+        when(route.getBulkhead()).thenReturn(bulkhead);
+        return route;
+    }
+
+    @Test
+    void testHealth_UpWhenClosed() {
+        List<ProviderRoute> routes = List.of(route("twilio", ProviderCircuitBreaker.State.CLOSED, 0));
+        when(routingMessagingClient.getRoutes()).thenReturn(routes);
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(64, ((Map<?, ?>) health.getDetails().get("twilio")).get("bulkheadAvailable"));
+    }
+
+    @Test
+    void testHealth_UpWhileAnotherProviderIsClosed() {
+        List<ProviderRoute> routes = List.of(
+                route("gateway", ProviderCircuitBreaker.State.OPEN, 75),
+                route("twilio", ProviderCircuitBreaker.State.CLOSED, 0));
+        when(routingMessagingClient.getRoutes()).thenReturn(routes);
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(ProviderCircuitBreaker.State.OPEN, ((Map<?, ?>) health.getDetails().get("gateway")).get("circuit"));
+    }
+
+    @Test
+    void testHealth_ReportsOpenCircuit() {
+        List<ProviderRoute> routes = List.of(route("twilio", ProviderCircuitBreaker.State.OPEN, 75));
+        when(routingMessagingClient.getRoutes()).thenReturn(routes);
+
+        Health health = healthIndicator.health();
+
+        assertEquals(ProviderHealthIndicator.CIRCUIT_OPEN, health.getStatus());
+        assertEquals(75d, ((Map<?, ?>) health.getDetails().get("twilio")).get("failureRate"));
+    }
+}
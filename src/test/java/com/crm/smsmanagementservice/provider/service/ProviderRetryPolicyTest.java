@@ -0,0 +1,74 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class ProviderRetryPolicyTest {
+    private ProviderDispatchConfig.Retry retry;
+    private ProviderRetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        retry = new ProviderDispatchConfig.Retry();
+        retryPolicy = new ProviderRetryPolicy(retry);
+    }
+
+    @Test
+    void testIsRetryable_TransientFailures() {
+        assertTrue(retryPolicy.isRetryable(new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429), true));
+        assertTrue(retryPolicy.isRetryable(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Bad gateway", null, 502), true));
+        assertTrue(retryPolicy.isRetryable(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Read timed out", null, 0), true));
+    }
+
+    @Test
+    void testIsRetryable_SendsOnlyWhenProviderCannotHaveActed() {
+        assertTrue(retryPolicy.isRetryable(new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429), false));
+        assertTrue(retryPolicy.isRetryable(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Connection refused", null, 0, false), false));
+        assertFalse(retryPolicy.isRetryable(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Bad gateway", null, 502), false));
+        assertFalse(retryPolicy.isRetryable(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Read timed out", null, 0), false));
+    }
+
+    @Test
+    void testIsRetryable_PermanentFailures() {
+        assertFalse(retryPolicy.isRetryable(new ProviderException(Error.INVALID_REQUEST, "Invalid 'To' phone number", "21211", 400), true));
+        assertFalse(retryPolicy.isRetryable(new DomainException(Error.UNEXPECTED_ERROR, "Interrupted"), true));
+        assertFalse(retryPolicy.isRetryable(new IllegalStateException("Not a provider failure"), true));
+    }
+
+    @Test
+    void testHasAttemptsLeft() {
+        assertTrue(retryPolicy.hasAttemptsLeft(1));
+        assertTrue(retryPolicy.hasAttemptsLeft(2));
+        assertFalse(retryPolicy.hasAttemptsLeft(3));
+    }
+
+    @Test
+    void testBackoff_IsJitteredAndCapped() {
+        retry.setInitialBackoff(Duration.ofMillis(100));
+        retry.setMaxBackoff(Duration.ofMillis(500));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(retryPolicy.backoff(1).toMillis() <= 100);
+            assertTrue(retryPolicy.backoff(3).toMillis() <= 400);
+            assertTrue(retryPolicy.backoff(10).toMillis() <= 500);
+        }
+    }
+
+    @Test
+    void testNewBudget_ScalesWithDispatchSize() {
+        assertEquals(3, retryPolicy.newBudget(1).get());
+        assertEquals(100, retryPolicy.newBudget(1000).get());
+    }
+}
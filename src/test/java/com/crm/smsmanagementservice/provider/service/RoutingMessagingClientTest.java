@@ -0,0 +1,159 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class RoutingMessagingClientTest {
+    private MessagingClient twilio;
+    private MessagingClient gateway;
+    private DomainMessage domainMessage;
+    private ProviderRoutingConfig routingConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private RoutingMessagingClient routingMessagingClient;
+
+    @BeforeEach
+    void setUp() {
+        twilio = mock(MessagingClient.class);
+        gateway = mock(MessagingClient.class);
+        domainMessage = mock(DomainMessage.class);
+        when(domainMessage.getErrorCode()).thenReturn(Optional.empty());
+        routingConfig = new ProviderRoutingConfig();
+        ProviderRoutingConfig.Route twilioRoute = new ProviderRoutingConfig.Route();
+        twilioRoute.setCosts(Map.of("1", 0.0079, "44", 0.04));
+        twilioRoute.setDefaultCost(0.05);
+        ProviderRoutingConfig.Route gatewayRoute = new ProviderRoutingConfig.Route();
+        gatewayRoute.setPrefixes(List.of("1"));
+        gatewayRoute.setDefaultCost(0.005);
+        routingConfig.setProviders(Map.of("twilio", twilioRoute, "gateway", gatewayRoute));
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        routingMessagingClient = new RoutingMessagingClient(Map.of("twilio", twilio, "gateway", gateway), routingConfig,
+                new ProviderResilienceConfig(), meterRegistry, clock::get);
+    }
+
+    @Test
+    void testSend_RoutesToCheapestProviderServingDestination() {
+        when(gateway.sendSMSFromService("+16135550101", "Hello")).thenReturn(domainMessage);
+        when(twilio.sendSMSFromService("+447700900123", "Hello")).thenReturn(domainMessage);
+
+        routingMessagingClient.sendSMSFromService("+16135550101", "Hello");
+        routingMessagingClient.sendSMSFromService("+447700900123", "Hello");
+
+        verify(gateway).sendSMSFromService("+16135550101", "Hello");
+        verify(twilio).sendSMSFromService("+447700900123", "Hello");
+        verifyNoMoreInteractions(twilio, gateway);
+    }
+
+    @Test
+    void testSend_FailsOverWhenProviderCouldNotConnect() {
+        when(gateway.sendSMSFromService("+16135550101", "Hello"))
+                .thenThrow(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Connection refused", null, 0, false));
+        when(twilio.sendSMSFromService("+16135550101", "Hello")).thenReturn(domainMessage);
+
+        assertSame(domainMessage, routingMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+
+        assertEquals(1, meterRegistry.get("provider.routing.failovers")
+                .tags("from", "gateway", "to", "twilio").counter().count());
+    }
+
+    @Test
+    void testSend_DoesNotFailOverMessageTheProviderMayHaveAccepted() {
+        routingConfig.setErrorCost(0);
+        when(gateway.sendSMSFromService("+16135550101", "Hello"))
+                .thenThrow(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Read timed out", null, 0))
+                .thenThrow(new ProviderException(Error.PROVIDER_UNAVAILABLE, "Service unavailable", null, 503));
+
+        assertThrows(ProviderException.class, () -> routingMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+        assertThrows(ProviderException.class, () -> routingMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+
+        verifyNoInteractions(twilio);
+    }
+
+    @Test
+    void testSendFromNumber_GoesToProviderOwningTheNumber() {
+        when(twilio.sendSMSFromNumber("+16135550101", "+16135550100", "Hello")).thenReturn(domainMessage);
+
+        assertSame(domainMessage, routingMessagingClient.sendSMSFromNumber("+16135550101", "+16135550100", "Hello"));
+
+        verifyNoInteractions(gateway);
+    }
+
+    @Test
+    void testSendFromNumber_FailsOverWithTheSenderOfTheNextProvider() {
+        routingConfig.getProviders().get("gateway").setSenders(Map.of("+16135550100", "CRMGW"));
+        routingConfig.getProviders().get("twilio").setSenders(Map.of("+16135550100", "+16135550100"));
+        routingMessagingClient = new RoutingMessagingClient(Map.of("twilio", twilio, "gateway", gateway), routingConfig,
+                new ProviderResilienceConfig(), meterRegistry, clock::get);
+        when(gateway.sendSMSFromNumber("+16135550101", "CRMGW", "Hello"))
+                .thenThrow(new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429));
+        when(twilio.sendSMSFromNumber("+16135550101", "+16135550100", "Hello")).thenReturn(domainMessage);
+
+        assertSame(domainMessage, routingMessagingClient.sendSMSFromNumber("+16135550101", "+16135550100", "Hello"));
+    }
+
+    @Test
+    void testSend_DoesNotFailOverRejectedRequest() {
+        when(gateway.sendSMSFromService("+16135550101", "Hello"))
+                .thenThrow(new ProviderException(Error.INVALID_REQUEST, "Invalid 'To' phone number", "21211", 400));
+
+        assertThrows(ProviderException.class, () -> routingMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+
+        verifyNoInteractions(twilio);
+    }
+
+    @Test
+    void testSend_AvoidsFailingProviderUntilItsRecordFades() {
+        routingConfig.setHalfLife(Duration.ofSeconds(10));
+        when(gateway.sendSMSFromService("+16135550101", "Hello"))
+                .thenThrow(new ProviderException(Error.TOO_MANY_REQUESTS, "Too many requests", "20429", 429));
+        when(twilio.sendSMSFromService("+16135550101", "Hello")).thenReturn(domainMessage);
+
+        routingMessagingClient.sendSMSFromService("+16135550101", "Hello");
+
+        assertEquals("twilio", routingMessagingClient.candidatesFor("+16135550101").getFirst().getName());
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertEquals("gateway", routingMessagingClient.candidatesFor("+16135550101").getFirst().getName());
+    }
+
+    @Test
+    void testSend_RejectsDestinationNoProviderServes() {
+        routingConfig.getProviders().get("twilio").setPrefixes(List.of("1"));
+        routingMessagingClient = new RoutingMessagingClient(Map.of("twilio", twilio, "gateway", gateway), routingConfig,
+                new ProviderResilienceConfig(), meterRegistry, clock::get);
+
+        DomainException exception = assertThrows(DomainException.class,
+                () -> routingMessagingClient.sendSMSFromService("+447700900123", "Hello"));
+
+        assertEquals(Error.INVALID_REQUEST.getCode(), exception.getCode());
+        verifyNoInteractions(twilio, gateway);
+    }
+
+    @Test
+    void testFetch_AsksNextProviderWhenMessageIsUnknown() {
+        when(gateway.fetchMessageById("SM1"))
+                .thenThrow(new ProviderException(Error.INVALID_REQUEST, "Not found", "20404", 404));
+        when(twilio.fetchMessageById("SM1")).thenReturn(domainMessage);
+
+        assertSame(domainMessage, routingMessagingClient.fetchMessageById("SM1"));
+    }
+}
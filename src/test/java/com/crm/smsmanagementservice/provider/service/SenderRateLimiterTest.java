@@ -0,0 +1,72 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class SenderRateLimiterTest {
+    private AtomicLong clock;
+    private SenderRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        Map<String, Double> rates = Map.of("long-code", 1d, "bulk-service", 10d);
+        rateLimiter = new SenderRateLimiter(key -> rates.getOrDefault(key, 0d), clock::get);
+    }
+
+    @Test
+    void testReserve_PacesBurstAtSenderRate() {
+        assertEquals(Duration.ZERO, rateLimiter.reserve("long-code"));
+        assertEquals(Duration.ofSeconds(1), rateLimiter.reserve("long-code"));
+        assertEquals(Duration.ofSeconds(2), rateLimiter.reserve("long-code"));
+    }
+
+    @Test
+    void testReserve_AllowsOneSecondOfBurst() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Duration.ZERO, rateLimiter.reserve("bulk-service"));
+        }
+        assertEquals(Duration.ofMillis(100), rateLimiter.reserve("bulk-service"));
+    }
+
+    @Test
+    void testReserve_RefillsOverTime() {
+        rateLimiter.reserve("long-code");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertEquals(Duration.ZERO, rateLimiter.reserve("long-code"));
+        assertEquals(Duration.ofSeconds(1), rateLimiter.reserve("long-code"));
+    }
+
+    @Test
+    void testReserve_KeepsSendersApart() {
+        rateLimiter.reserve("long-code");
+
+        assertEquals(Duration.ZERO, rateLimiter.reserve("bulk-service"));
+    }
+
+    @Test
+    void testReserve_DoesNotPaceUnlimitedSender() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Duration.ZERO, rateLimiter.reserve("other"));
+        }
+    }
+
+    @Test
+    void testThrottled_HoldsBackFollowingCalls() {
+        rateLimiter.throttled("bulk-service");
+
+        assertEquals(Duration.ofMillis(1100), rateLimiter.reserve("bulk-service"));
+    }
+}
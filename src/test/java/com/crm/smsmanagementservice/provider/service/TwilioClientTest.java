@@ -3,8 +3,10 @@ package com.crm.smsmanagementservice.provider.service;
 import com.crm.smsmanagementservice.core.dto.DomainMessage;
 import com.crm.smsmanagementservice.core.exception.DomainException;
 import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
 import com.crm.smsmanagementservice.provider.service.twilio.TwilioClient;
 import com.crm.smsmanagementservice.provider.service.twilio.TwilioConfig;
+import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.rest.api.v2010.account.MessageCreator;
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.*;
 
 
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -90,6 +94,30 @@ public class TwilioClientTest {
         }
     }
 
+    @Test
+    public void testSendSMSFromNumber_ConnectFailureIsNotSent() {
+        when(twilioConfig.getStatusCallbackUrl()).thenReturn("http://example.com/status");
+
+        try (MockedStatic<Message> mockedMessage = mockStatic(Message.class)) {
+            MessageCreator messageCreator = mock(MessageCreator.class);
+            mockedMessage.when(() -> Message.creator(any(PhoneNumber.class), any(PhoneNumber.class), anyString()))
+                    .thenReturn(messageCreator);
+            when(messageCreator.setStatusCallback("http://example.com/status")).thenReturn(messageCreator);
+            when(messageCreator.create())
+                    .thenThrow(new ApiConnectionException("Connection refused", new ConnectException("Connection refused")))
+                    .thenThrow(new ApiConnectionException("Read timed out", new SocketTimeoutException("Read timed out")));
+
+            ProviderException refused = assertThrows(ProviderException.class, () ->
+                    twilioClient.sendSMSFromNumber("+1234567890", "+0987654321", "Hello!"));
+            ProviderException timedOut = assertThrows(ProviderException.class, () ->
+                    twilioClient.sendSMSFromNumber("+1234567890", "+0987654321", "Hello!"));
+
+            assertFalse(refused.isRequestSent());
+            assertTrue(timedOut.isRequestSent());
+            assertEquals(Error.PROVIDER_UNAVAILABLE.getCode(), timedOut.getCode());
+        }
+    }
+
     @Test
     public void testSendMMSFromNumber_Success() {
         String callbackUrl = "http://example.com/status";
@@ -0,0 +1,59 @@
+package com.crm.smsmanagementservice.provider.service;
+
+import com.crm.smsmanagementservice.provider.service.twilio.TwilioHttpConfig;
+import com.twilio.http.NetworkHttpClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class TwilioHttpConfigTest {
+    private TwilioHttpConfig httpConfig;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        httpConfig = new TwilioHttpConfig();
+        httpConfig.setMaxConnections(120);
+        httpConfig.setMaxConnectionsPerRoute(100);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (httpConfig.getConnectionManager() != null) {
+            httpConfig.getConnectionManager().shutdown();
+        }
+    }
+
+    @Test
+    void testBuildHttpClient_SizesPool() {
+        NetworkHttpClient httpClient = httpConfig.buildHttpClient(meterRegistry);
+
+        assertNotNull(httpClient);
+        assertEquals(120, httpConfig.getConnectionManager().getMaxTotal());
+        assertEquals(100, httpConfig.getConnectionManager()
+                .getMaxPerRoute(new HttpRoute(new HttpHost("api.twilio.com", 443, "https"))));
+    }
+
+    @Test
+    void testBuildHttpClient_PublishesPoolMetrics() {
+        httpConfig.buildHttpClient(meterRegistry);
+
+        assertEquals(120, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "twilio").gauge().value());
+        assertEquals(0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", "twilio", "state", "leased").gauge().value());
+        assertEquals(0, meterRegistry.get("httpcomponents.httpclient.pool.total.pending")
+                .tag("httpclient", "twilio").gauge().value());
+    }
+}
@@ -0,0 +1,90 @@
+package com.crm.smsmanagementservice.provider.service.stub;
+
+import com.crm.smsmanagementservice.core.dto.DomainMessage;
+import com.crm.smsmanagementservice.core.enums.MessageStatus;
+import com.crm.smsmanagementservice.core.exception.DomainException;
+import com.crm.smsmanagementservice.core.exception.Error;
+import com.crm.smsmanagementservice.core.exception.ProviderException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author : memo-aldu
+ * @mailto : maldu064@uOttawa.ca
+ * @created : 2026-10-18, Sunday
+ */
+class StubMessagingClientTest {
+    private StubProviderConfig stubConfig;
+    private StubCallbackEmitter callbackEmitter;
+    private StubMessagingClient stubMessagingClient;
+
+    @BeforeEach
+    void setUp() {
+        stubConfig = new StubProviderConfig();
+        stubConfig.setLatencyMedian(Duration.ZERO);
+        callbackEmitter = mock(StubCallbackEmitter.class);
+        stubMessagingClient = new StubMessagingClient(stubConfig, callbackEmitter);
+    }
+
+    @Test
+    void testSendSMS_AcceptsAndSchedulesCallbacks() {
+        DomainMessage message = stubMessagingClient.sendSMSFromNumber("+16135550101", "+16135550100", "Hello");
+
+        assertTrue(message.getId().startsWith("SM"));
+        assertEquals(MessageStatus.QUEUED, message.getStatus());
+        assertEquals("+16135550100", message.getSender().orElseThrow());
+        verify(callbackEmitter).messageAccepted(message.getId(), "+16135550100", "+16135550101", Duration.ZERO);
+    }
+
+    @Test
+    void testScheduleSMS_DelaysCallbacksUntilSendTime() {
+        DomainMessage message = stubMessagingClient.scheduleSMS("+16135550101", "Hello", ZonedDateTime.now().plusMinutes(5));
+
+        assertEquals(MessageStatus.SCHEDULED, message.getStatus());
+        verify(callbackEmitter).messageAccepted(eq(message.getId()), eq(stubConfig.getNumber()), eq("+16135550101"),
+                argThat(delay -> delay.compareTo(Duration.ofMinutes(4)) > 0));
+    }
+
+    @Test
+    void testSendSMS_RateLimited() {
+        stubConfig.setRateLimitRate(1.0);
+
+        ProviderException exception = assertThrows(ProviderException.class, () ->
+                stubMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+
+        assertEquals(Error.TOO_MANY_REQUESTS.getCode(), exception.getCode());
+        assertEquals(429, exception.getProviderStatus());
+        verifyNoInteractions(callbackEmitter);
+    }
+
+    @Test
+    void testSendSMS_ProviderError() {
+        stubConfig.setFailureRate(1.0);
+
+        DomainException exception = assertThrows(DomainException.class, () ->
+                stubMessagingClient.sendSMSFromService("+16135550101", "Hello"));
+
+        assertEquals(Error.PROVIDER_UNAVAILABLE.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testSampleLatency_FollowsConfiguredPercentiles() {
+        stubConfig.setLatencyMedian(Duration.ofMillis(100));
+        stubConfig.setLatencyP99(Duration.ofMillis(500));
+
+        long[] samples = LongStream.range(0, 20_000).map(i -> stubMessagingClient.sampleLatency()).sorted().toArray();
+
+        assertEquals(100, samples[samples.length / 2], 10);
+        assertEquals(500, samples[(int) (samples.length * 0.99)], 100);
+        assertTrue(Arrays.stream(samples).allMatch(sample -> sample >= 0));
+    }
+}